@@ -0,0 +1,45 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.domain.auth.dto.RevokeSessionsRequest;
+import com.jihee.shopper.global.common.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자 세션 관리 API 컨트롤러.
+ *
+ * <pre>
+ * POST /api/admin/sessions/revoke      — 지정한 사용자들의 모든 기기 로그아웃
+ * POST /api/admin/sessions/revoke-all  — 전체 사용자 로그아웃
+ * </pre>
+ *
+ * <p>Refresh Token만 삭제한다. 다른 사용자의 Access Token jti는 서버가 알 수 없으므로
+ * 이미 발급된 Access Token은 만료(기본 15분)까지 유효하다.
+ */
+@RestController
+@RequestMapping("/api/admin/sessions")
+@RequiredArgsConstructor
+public class AdminSessionController {
+
+    private final AuthService authService;
+
+    /**
+     * 지정한 사용자들의 세션 삭제 (관리자).
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<Long>> revokeSessions(@Valid @RequestBody RevokeSessionsRequest request) {
+        long revoked = authService.revokeSessions(request.getUserIds());
+        return ResponseEntity.ok(ApiResponse.success("세션이 종료되었습니다", revoked));
+    }
+
+    /**
+     * 전체 사용자 세션 삭제 (관리자).
+     */
+    @PostMapping("/revoke-all")
+    public ResponseEntity<ApiResponse<Long>> revokeAllSessions() {
+        long revoked = authService.revokeAllSessions();
+        return ResponseEntity.ok(ApiResponse.success("전체 세션이 종료되었습니다", revoked));
+    }
+}
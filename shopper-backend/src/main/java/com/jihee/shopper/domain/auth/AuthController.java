@@ -6,6 +6,7 @@ import com.jihee.shopper.domain.auth.dto.SignupRequest;
 import com.jihee.shopper.domain.auth.dto.TokenResponse;
 import com.jihee.shopper.global.common.ApiResponse;
 import com.jihee.shopper.global.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,9 +19,9 @@ import org.springframework.web.bind.annotation.*;
  *
  * <pre>
  * POST /api/auth/signup   — 회원가입
- * POST /api/auth/login    — 로그인 (Access + Refresh Token 발급)
+ * POST /api/auth/login    — 로그인 (Access + Refresh Token 발급, IP·이메일별 시도 제한)
  * POST /api/auth/refresh  — Access Token 재발급 (RTR)
- * POST /api/auth/logout   — 로그아웃 (Redis Refresh Token 삭제)
+ * POST /api/auth/logout   — 로그아웃 (Redis Refresh Token 삭제, deviceId 지정 시 해당 기기만)
  * </pre>
  */
 @RestController
@@ -38,10 +39,16 @@ public class AuthController {
                 .body(ApiResponse.success("회원가입이 완료되었습니다"));
     }
 
-    /** 로그인 → Access Token + Refresh Token 반환 */
+    /**
+     * 로그인 → Access Token + Refresh Token 반환.
+     *
+     * <p>시도 제한은 getRemoteAddr() 기준이며, 프록시 뒤(운영)에서는 server.forward-headers-strategy가
+     * 신뢰하는 프록시의 X-Forwarded-For로 클라이언트 IP를 복원한다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
-        TokenResponse response = authService.login(request);
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest) {
+        TokenResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("로그인 성공", response));
     }
 
@@ -52,11 +59,12 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("토큰이 재발급되었습니다", response));
     }
 
-    /** 로그아웃 → Redis에서 Refresh Token 삭제 (인증 필요) */
+    /** 로그아웃 → Redis에서 Refresh Token 삭제 (인증 필요, deviceId 없으면 모든 기기) */
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        authService.logout(userDetails.getUserId());
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String deviceId) {
+        authService.logout(userDetails.getUserId(), deviceId, userDetails.getTokenId());
         return ResponseEntity.ok(ApiResponse.success("로그아웃 되었습니다"));
     }
 }
@@ -7,112 +7,173 @@ import com.jihee.shopper.domain.user.UserRepository;
 import com.jihee.shopper.domain.user.entity.User;
 import com.jihee.shopper.global.exception.CustomException;
 import com.jihee.shopper.global.exception.ErrorCode;
+import com.jihee.shopper.global.security.AccessTokenDenylist;
 import com.jihee.shopper.global.security.JwtProvider;
+import com.jihee.shopper.global.security.PasswordHasher;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.time.Duration;
+import java.util.List;
 
 /**
  * 인증 서비스.
  *
  * <p>회원가입, 로그인, 토큰 재발급(RTR), 로그아웃을 처리한다.
- * Refresh Token은 Redis에 "RT:{userId}" 키로 저장된다 (ADR-02-002).
+ * Refresh Token은 {@link RefreshTokenStore}가 Redis "RT:{userId}" Hash에 기기별로 저장한다 (ADR-02-002).
+ * 로그아웃 시 요청에 쓰인 Access Token도 {@link AccessTokenDenylist}에 폐기 등록한다.
+ *
+ * <p>비밀번호 해시는 {@link PasswordHasher}의 전용 스레드에서 계산한다. 해시 계산 동안 DB 커넥션을 잡지 않도록
+ * 회원가입·로그인은 트랜잭션 없이 조회·저장을 각각 짧게 실행한다.
+ * 로그인은 그보다 먼저 {@link LoginRateLimiter}로 IP별 시도 횟수와 이메일별 실패 횟수를 제한한다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private static final String RT_PREFIX = "RT:";
-
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final LoginRateLimiter loginRateLimiter;
 
     // ── 회원가입 ────────────────────────────────────────────────────────────
 
-    @Transactional
     public void signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         User user = User.createNormalUser(request.getEmail(), encodedPassword, request.getName());
         userRepository.save(user);
     }
 
     // ── 로그인 ──────────────────────────────────────────────────────────────
 
-    @Transactional(readOnly = true)
-    public TokenResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        // 시도 제한은 사용자 조회·비밀번호 해시보다 먼저 (초과 시 429)
+        loginRateLimiter.acquire(clientIp, request.getEmail());
 
-        // 소셜 전용 계정(password == null) 또는 비밀번호 불일치
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            loginRateLimiter.recordFailure(clientIp, request.getEmail());
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 소셜 전용 계정(password == null) 또는 비밀번호 불일치 → 계정 버킷 차감
         if (user.getPassword() == null
-                || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+                || !passwordHasher.matches(request.getPassword(), user.getPassword())) {
+            loginRateLimiter.recordFailure(clientIp, request.getEmail());
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
-        return generateAndStoreTokens(user);
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
+
+        return generateAndStoreTokens(user, deviceIdOrDefault(request.getDeviceId()));
     }
 
     // ── 토큰 재발급 (RTR) ────────────────────────────────────────────────────
 
-    @Transactional
     public TokenResponse refresh(String refreshToken) {
-        // 1. 서명 검증
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        // 1. 서명 검증 + 파싱
+        Claims claims = jwtProvider.parseClaims(refreshToken)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+
+        Long userId = Long.parseLong(claims.getSubject());
+        String deviceId = deviceIdOrDefault(jwtProvider.getDeviceId(claims));
+
+        // 2. RTR: 저장된 토큰과 일치할 때만 새 토큰으로 교체 (Lua CAS 1회, ADR-02-003)
+        String newRefreshToken = jwtProvider.generateRefreshToken(userId, deviceId);
+        switch (refreshTokenStore.rotate(userId, deviceId, refreshToken, newRefreshToken)) {
+            case NOT_FOUND -> throw new CustomException(ErrorCode.TOKEN_NOT_FOUND);
+            // 탈취 의심 → 스크립트가 해당 유저의 모든 기기 세션을 삭제함
+            case REUSED -> throw new CustomException(ErrorCode.INVALID_TOKEN);
+            case ROTATED -> { }
         }
 
-        Long userId = jwtProvider.getUserId(refreshToken);
-        String redisKey = RT_PREFIX + userId;
+        // 3. 유저 조회 후 Access Token 발급
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        String accessToken = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
+        return TokenResponse.of(accessToken, newRefreshToken);
+    }
 
-        // 2. Redis에서 저장된 토큰 조회
-        String storedToken = redisTemplate.opsForValue().get(redisKey);
-        if (storedToken == null) {
-            throw new CustomException(ErrorCode.TOKEN_NOT_FOUND);
+    // ── 로그아웃 ────────────────────────────────────────────────────────────
+
+    /**
+     * 로그아웃 (deviceId가 없으면 모든 기기 세션 삭제).
+     *
+     * @param tokenId 요청에 쓰인 Access Token의 jti (null이면 폐기 등록 생략)
+     */
+    public void logout(Long userId, String deviceId, String tokenId) {
+        if (tokenId != null) {
+            // 정확한 exp 대신 발급 시점 기준 최대 만료 시각으로 등록 (항상 실제 exp 이후)
+            accessTokenDenylist.revoke(tokenId, System.currentTimeMillis() + jwtProvider.getAccessTokenExpiry());
         }
 
-        // 3. RTR: 요청 토큰 vs Redis 저장 토큰 일치 확인 (ADR-02-003)
-        if (!storedToken.equals(refreshToken)) {
-            // 탈취 의심 → 해당 유저 세션 전체 강제 종료
-            redisTemplate.delete(redisKey);
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        if (StringUtils.hasText(deviceId)) {
+            refreshTokenStore.revoke(userId, deviceId);
+        } else {
+            refreshTokenStore.revokeAll(userId);
         }
+    }
 
-        // 4. 유저 조회 후 새 토큰 발급
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    // ── 세션 강제 종료 (관리자) ──────────────────────────────────────────────
 
-        return generateAndStoreTokens(user);
+    /**
+     * 지정한 사용자들의 모든 세션 삭제.
+     *
+     * @return 세션이 있던 사용자 수
+     */
+    public long revokeSessions(List<Long> userIds) {
+        return refreshTokenStore.revokeAll(userIds);
     }
 
-    // ── 로그아웃 ────────────────────────────────────────────────────────────
-
-    public void logout(Long userId) {
-        redisTemplate.delete(RT_PREFIX + userId);
+    /**
+     * 전체 사용자 세션 삭제.
+     *
+     * @return 세션이 있던 사용자 수
+     */
+    public long revokeAllSessions() {
+        return refreshTokenStore.revokeEveryone();
     }
 
     // ── 내부 공용 메서드 ────────────────────────────────────────────────────
 
-    private TokenResponse generateAndStoreTokens(User user) {
+    private TokenResponse generateAndStoreTokens(User user, String deviceId) {
         String accessToken  = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
-        String refreshToken = jwtProvider.generateRefreshToken(user.getId());
+        String refreshToken = jwtProvider.generateRefreshToken(user.getId(), deviceId);
 
-        // Redis에 새 Refresh Token 저장 (기존 토큰 자동 덮어쓰기)
-        redisTemplate.opsForValue().set(
-                RT_PREFIX + user.getId(),
-                refreshToken,
-                Duration.ofMillis(jwtProvider.getRefreshTokenExpiry())
-        );
+        // 같은 기기의 기존 토큰은 덮어쓰고, 다른 기기 세션은 유지
+        refreshTokenStore.save(user.getId(), deviceId, refreshToken);
 
         return TokenResponse.of(accessToken, refreshToken);
     }
+
+    /**
+     * 설정된 strength로 비밀번호를 다시 해시해 저장한다 (실패해도 로그인은 진행, 다음 로그인에서 재시도).
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            String encodedPassword = passwordHasher.encode(rawPassword);
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword);
+        } catch (CustomException e) {
+            log.debug("[AuthService] 재해시 생략 userId={}, code={}", user.getId(), e.getErrorCode());
+        } catch (DataAccessException e) {
+            log.warn("[AuthService] 재해시 저장 실패 userId={}, message={}", user.getId(), e.getMessage());
+        }
+    }
+
+    private static String deviceIdOrDefault(String deviceId) {
+        return StringUtils.hasText(deviceId) ? deviceId : RefreshTokenStore.DEFAULT_DEVICE_ID;
+    }
 }
@@ -0,0 +1,34 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.global.security.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT 검증용 공개 키 목록 API (JWKS, RFC 7517).
+ *
+ * <pre>
+ * GET /.well-known/jwks.json — 현재 유효한 서명 공개 키 목록 (인증 불필요)
+ * </pre>
+ *
+ * <p>다른 서비스는 이 목록과 토큰 헤더의 kid로 직접 검증한다 (비밀 키 공유 불필요).
+ * 표준 형식을 그대로 반환하므로 ApiResponse로 감싸지 않으며, 응답은 키 링이 갱신할 때만 다시 만든다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(JwtKeyRing.JWKS_MAX_AGE).cachePublic())
+                .body(keyRing.jwks());
+    }
+}
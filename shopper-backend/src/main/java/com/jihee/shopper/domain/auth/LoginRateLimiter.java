@@ -0,0 +1,274 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷, Redis 공용 버킷 + 서버별 사전 버킷).
+ *
+ * <pre>
+ * Redis Key:   "RL:LOGIN:IP:{ip}"                  시도마다 차감
+ *              "RL:LOGIN:EMAIL_IP:{email}:{ip}"    로그인 실패 시에만 차감
+ *              "RL:LOGIN:EMAIL:{email}"            로그인 실패 시에만 차감 (IP와 무관한 느슨한 상한)
+ *              (Hash, 가득 찰 때까지 걸리는 시간 후 만료)
+ * Fields:      tokens, ts (마지막 갱신 시각 epoch ms)
+ * </pre>
+ *
+ * <p>IP 버킷은 여러 계정을 돌아가며 시도하는 크리덴셜 스터핑을 막는다. 계정 버킷은 비밀번호 확인에 실패했을 때만
+ * 차감하므로, 남의 이메일로 시도만 반복해 정상 사용자를 잠글 수 없다. 한 IP에서의 무차별 대입은 이메일+IP 버킷이,
+ * 여러 IP에 나눈 무차별 대입은 그보다 용량이 큰 이메일 버킷이 막는다.
+ *
+ * <p>시도 전에는 세 버킷을 Lua 스크립트 한 번으로 함께 확인하고, 모두 토큰이 있을 때만 IP 버킷을 차감한다
+ * (한 버킷이 거절하면 어느 버킷도 차감하지 않음). 제한에 걸리면 사용자 조회·비밀번호 해시 전에
+ * TOO_MANY_LOGIN_ATTEMPTS(429)로 거절한다. 실패 차감은 해시 계산 뒤에 이루어지므로 동시에 들어온 시도는
+ * 실패가 기록되기 전에 통과할 수 있으며, 그 수는 IP 버킷이 제한한다.
+ *
+ * <p>각 서버는 같은 용량·충전 속도의 버킷을 메모리에도 둔다. 이 서버를 통과한 시도만으로 사전 버킷이 비었다면
+ * 공용 버킷도 비어 있으므로, 공격 트래픽 대부분은 Redis 왕복 없이 거절된다.
+ * 사전 버킷은 최대 {@value #LOCAL_MAX_SIZE}개까지 두고, 넘으면 가득 찬(= 없는 것과 같은) 버킷부터 제거한다.
+ *
+ * <p>Redis 장애 시에는 사전 버킷 결과만으로 판단한다 (로그인 자체는 막지 않음).
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    static final String IP_KEY_PREFIX = "RL:LOGIN:IP:";
+    static final String EMAIL_IP_KEY_PREFIX = "RL:LOGIN:EMAIL_IP:";
+    static final String EMAIL_KEY_PREFIX = "RL:LOGIN:EMAIL:";
+
+    private static final int LOCAL_MAX_SIZE = 50_000;
+    private static final double MILLIS_PER_MINUTE = 60_000d;
+
+    /**
+     * 버킷 여러 개를 충전한 뒤 모두 필요 토큰 이상이면 각자의 차감량만큼 차감 (1: 허용, -i: i번째 버킷에서 거절, 거절 시 변경 없음).
+     * ARGV[1] = 현재 시각, 이후 버킷마다 (용량, 분당 충전량, 필요 토큰, 차감량). 차감량이 0인 버킷은 기록하지 않는다.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local tokens = {}
+            for i = 1, #KEYS do
+              local base = (i - 1) * 4 + 1
+              local capacity = tonumber(ARGV[base + 1])
+              local rate = tonumber(ARGV[base + 2]) / 60000
+              local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+              local current = tonumber(bucket[1]) or capacity
+              local updatedAt = tonumber(bucket[2]) or now
+              tokens[i] = math.min(capacity, current + math.max(0, now - updatedAt) * rate)
+              if tokens[i] < tonumber(ARGV[base + 3]) then return -i end
+            end
+            for i = 1, #KEYS do
+              local base = (i - 1) * 4 + 1
+              local cost = tonumber(ARGV[base + 4])
+              if cost > 0 then
+                local capacity = tonumber(ARGV[base + 1])
+                local rate = tonumber(ARGV[base + 2]) / 60000
+                local remaining = math.max(0, tokens[i] - cost)
+                redis.call('HMSET', KEYS[i], 'tokens', tostring(remaining), 'ts', ARGV[1])
+                redis.call('PEXPIRE', KEYS[i], math.max(1, math.ceil((capacity - remaining) / rate)))
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailIpLimit;
+    private final Limit emailLimit;
+
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+    private final LongAdder locallyRejected = new LongAdder();
+    private final LongAdder remotelyRejected = new LongAdder();
+
+    public LoginRateLimiter(StringRedisTemplate redisTemplate,
+                            @Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.ip.capacity:30}") int ipCapacity,
+                            @Value("${login.rate-limit.ip.refill-per-minute:30}") int ipRefillPerMinute,
+                            @Value("${login.rate-limit.email-ip.capacity:5}") int emailIpCapacity,
+                            @Value("${login.rate-limit.email-ip.refill-per-minute:5}") int emailIpRefillPerMinute,
+                            @Value("${login.rate-limit.email.capacity:30}") int emailCapacity,
+                            @Value("${login.rate-limit.email.refill-per-minute:10}") int emailRefillPerMinute) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipCapacity, ipRefillPerMinute);
+        this.emailIpLimit = new Limit(emailIpCapacity, emailIpRefillPerMinute);
+        this.emailLimit = new Limit(emailCapacity, emailRefillPerMinute);
+    }
+
+    private record Limit(int capacity, int refillPerMinute) {
+        double refillPerMillis() {
+            return refillPerMinute / MILLIS_PER_MINUTE;
+        }
+    }
+
+    /** 스크립트에 넘길 버킷 하나 (required: 통과에 필요한 토큰, cost: 통과 시 차감량) */
+    private record Charge(String key, Limit limit, int required, int cost) {
+    }
+
+    // ── 제한 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 로그인 시도 전 확인. 세 버킷 모두 토큰이 있을 때만 IP 버킷에서 1회분을 차감한다.
+     *
+     * @throws CustomException TOO_MANY_LOGIN_ATTEMPTS — IP·이메일+IP·이메일 버킷 중 하나가 비었음
+     */
+    public void acquire(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Charge ip = new Charge(IP_KEY_PREFIX + clientIp, ipLimit, 1, 1);
+        Charge emailIp = new Charge(emailIpKey(clientIp, email), emailIpLimit, 1, 0);
+        Charge account = new Charge(EMAIL_KEY_PREFIX + normalize(email), emailLimit, 1, 0);
+
+        // 1. 사전 버킷: 이 서버를 통과한 시도만으로 이미 한도를 넘었으면 Redis 없이 거절 (확인 후 차감)
+        if (!hasLocalToken(ip, now) || !hasLocalToken(emailIp, now) || !hasLocalToken(account, now)) {
+            locallyRejected.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        consumeLocal(ip, now);
+
+        // 2. 공용 버킷: 전체 서버 기준 (세 버킷 확인 + IP 차감을 원자적으로)
+        Long result;
+        try {
+            result = execute(now, List.of(ip, emailIp, account));
+        } catch (DataAccessException e) {
+            log.warn("[LoginRateLimiter] 공용 버킷 확인 실패, 사전 버킷으로만 판단 message={}", e.getMessage());
+            return;
+        }
+        if (result == null || result != 1L) {
+            // 계정 버킷에서 거절되면 공용 IP 버킷은 그대로이므로 사전 IP 버킷도 되돌린다
+            if (result != null && result != -1L) {
+                localBuckets.computeIfPresent(ip.key(), (k, bucket) -> bucket.refund(ip.cost()));
+            }
+            remotelyRejected.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 로그인 실패(사용자 없음·비밀번호 불일치) 기록. 이메일+IP·이메일 버킷에서 1회분씩 차감한다.
+     */
+    public void recordFailure(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Charge emailIp = new Charge(emailIpKey(clientIp, email), emailIpLimit, 0, 1);
+        Charge account = new Charge(EMAIL_KEY_PREFIX + normalize(email), emailLimit, 0, 1);
+
+        consumeLocal(emailIp, now);
+        consumeLocal(account, now);
+        try {
+            execute(now, List.of(emailIp, account));
+        } catch (DataAccessException e) {
+            log.warn("[LoginRateLimiter] 로그인 실패 기록 실패 message={}", e.getMessage());
+        }
+    }
+
+    /** 사전 버킷에서 거절한 수 (테스트용) */
+    long locallyRejected() {
+        return locallyRejected.sum();
+    }
+
+    /** 공용 버킷에서 거절한 수 (테스트용) */
+    long remotelyRejected() {
+        return remotelyRejected.sum();
+    }
+
+    // ── 사전 버킷 ──────────────────────────────────────────────────────────
+
+    private boolean hasLocalToken(Charge charge, long now) {
+        LocalBucket bucket = localBuckets.get(charge.key());
+        return bucket == null || bucket.refill(now).tokens() >= charge.required();
+    }
+
+    private void consumeLocal(Charge charge, long now) {
+        if (localBuckets.size() >= LOCAL_MAX_SIZE && !localBuckets.containsKey(charge.key())) {
+            evictOneLocal(now);
+        }
+
+        localBuckets.compute(charge.key(), (k, bucket) -> (bucket == null
+                ? new LocalBucket(charge.limit(), charge.limit().capacity(), now)
+                : bucket.refill(now)).consume(charge.cost()));
+    }
+
+    /** 최대 크기 초과 시 항목 하나를 제거 (가득 찬 버킷 우선) */
+    private void evictOneLocal(long now) {
+        Iterator<Map.Entry<String, LocalBucket>> iterator = localBuckets.entrySet().iterator();
+        Map.Entry<String, LocalBucket> victim = null;
+        while (iterator.hasNext()) {
+            Map.Entry<String, LocalBucket> next = iterator.next();
+            if (next.getValue().isFull(now)) {
+                victim = next;
+                break;
+            }
+            if (victim == null) {
+                victim = next;
+            }
+        }
+        if (victim != null) {
+            localBuckets.remove(victim.getKey(), victim.getValue());
+        }
+    }
+
+    private Long execute(long now, List<Charge> charges) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(now));
+        for (Charge charge : charges) {
+            keys.add(charge.key());
+            args.add(String.valueOf(charge.limit().capacity()));
+            args.add(String.valueOf(charge.limit().refillPerMinute()));
+            args.add(String.valueOf(charge.required()));
+            args.add(String.valueOf(charge.cost()));
+        }
+        return redisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+    }
+
+    private static String emailIpKey(String clientIp, String email) {
+        return EMAIL_IP_KEY_PREFIX + normalize(email) + ":" + clientIp;
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record LocalBucket(Limit limit, double tokens, long updatedAt) {
+
+        LocalBucket refill(long now) {
+            double refilled = tokens + Math.max(0, now - updatedAt) * limit.refillPerMillis();
+            return new LocalBucket(limit, Math.min(limit.capacity(), refilled), now);
+        }
+
+        LocalBucket consume(int cost) {
+            return new LocalBucket(limit, Math.max(0, tokens - cost), updatedAt);
+        }
+
+        LocalBucket refund(int cost) {
+            return new LocalBucket(limit, Math.min(limit.capacity(), tokens + cost), updatedAt);
+        }
+
+        boolean isFull(long now) {
+            return refill(now).tokens() >= limit.capacity();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.jihee.shopper.domain.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Refresh Token 저장소 (Redis Hash, 기기별 세션) (ADR-02-002, ADR-02-003).
+ *
+ * <pre>
+ * Redis Key:   "RT:{userId}"   (Hash, TTL = Refresh Token 만료 시간, 발급할 때마다 연장)
+ * Field:       deviceId        (로그인 요청의 기기 ID, 없으면 "default")
+ * Value:       Refresh Token
+ * </pre>
+ *
+ * <p>재발급(RTR)은 Lua 스크립트 한 번으로 비교와 교체를 원자적으로 처리한다 (왕복 1회).
+ * 저장된 토큰과 다르면 재사용(탈취 의심)으로 보고 해당 사용자의 모든 기기 세션을 삭제한다.
+ *
+ * <p>이전 형식(String "RT:{userId}")의 키는 재발급·로그인 시 Hash로 옮긴다 (기기 ID "default").
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    public static final String DEFAULT_DEVICE_ID = "default";
+
+    private static final String KEY_PREFIX = "RT:";
+    private static final int REVOKE_BATCH_SIZE = 500;
+
+    /** 기기 세션 저장 (이전 형식 키는 삭제 후 저장) */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+              redis.call('DEL', KEYS[1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 비교 후 교체 (1: 교체, 0: 세션 없음, -1: 불일치 → 전체 세션 삭제) */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+              local legacy = redis.call('GET', KEYS[1])
+              redis.call('DEL', KEYS[1])
+              if legacy ~= ARGV[2] then return -1 end
+            else
+              local stored = redis.call('HGET', KEYS[1], ARGV[1])
+              if not stored then return 0 end
+              if stored ~= ARGV[2] then
+                redis.call('DEL', KEYS[1])
+                return -1
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = refreshTokenExpiry;
+    }
+
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+
+    // ── 저장 / 교체 ─────────────────────────────────────────────────────────
+
+    /**
+     * 기기 세션의 Refresh Token 저장 (같은 기기의 이전 토큰은 덮어쓴다).
+     */
+    public void save(Long userId, String deviceId, String refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)),
+                deviceId, refreshToken, String.valueOf(ttlMillis));
+    }
+
+    /**
+     * 저장된 토큰이 presented와 같을 때만 next로 교체한다.
+     */
+    public RotationResult rotate(Long userId, String deviceId, String presented, String next) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                deviceId, presented, next, String.valueOf(ttlMillis));
+
+        if (result != null && result == 1L) {
+            return RotationResult.ROTATED;
+        }
+        if (result != null && result == -1L) {
+            return RotationResult.REUSED;
+        }
+        return RotationResult.NOT_FOUND;
+    }
+
+    // ── 폐기 ───────────────────────────────────────────────────────────────
+
+    /** 한 기기 세션 삭제 */
+    public void revoke(Long userId, String deviceId) {
+        redisTemplate.opsForHash().delete(key(userId), deviceId);
+    }
+
+    /** 사용자의 모든 기기 세션 삭제 */
+    public void revokeAll(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    /**
+     * 여러 사용자의 모든 세션 삭제 (묶음 단위 파이프라인).
+     *
+     * @return 삭제된 키 수
+     */
+    public long revokeAll(Collection<Long> userIds) {
+        List<String> keys = userIds.stream().distinct().map(RefreshTokenStore::key).toList();
+        return deleteInBatches(keys);
+    }
+
+    /**
+     * 전체 사용자 세션 삭제 (SCAN으로 키를 모아 묶음 단위 파이프라인 삭제).
+     *
+     * @return 삭제된 키 수
+     */
+    public long revokeEveryone() {
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(REVOKE_BATCH_SIZE);
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1_000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == REVOKE_BATCH_SIZE) {
+                    deleted += deleteInBatches(batch);
+                    batch.clear();
+                }
+            }
+        }
+        deleted += deleteInBatches(batch);
+
+        log.info("[RefreshTokenStore] 전체 세션 삭제 keys={}", deleted);
+        return deleted;
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private long deleteInBatches(List<String> keys) {
+        long deleted = 0;
+        for (int from = 0; from < keys.size(); from += REVOKE_BATCH_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + REVOKE_BATCH_SIZE, keys.size()));
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                chunk.forEach(redis::del);
+                return null;
+            });
+            for (Object result : results) {
+                if (result instanceof Long count) {
+                    deleted += count;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -2,6 +2,7 @@ package com.jihee.shopper.domain.auth.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
 @Getter
@@ -13,4 +14,8 @@ public class LoginRequest {
 
     @NotBlank(message = "비밀번호는 필수입니다")
     private String password;
+
+    /** 기기 ID (선택, 기기마다 세션 유지. 없으면 기본 기기 하나로 취급) */
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다")
+    private String deviceId;
 }
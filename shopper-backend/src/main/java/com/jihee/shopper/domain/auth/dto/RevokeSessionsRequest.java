@@ -0,0 +1,15 @@
+package com.jihee.shopper.domain.auth.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class RevokeSessionsRequest {
+
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = 10_000, message = "한 번에 최대 10,000명까지 처리할 수 있습니다")
+    private List<Long> userIds;
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,17 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      */
     Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
 
+    /**
+     * 사용자 본인 장바구니의 상품들을 상품과 함께 조회 (주문 생성용).
+     *
+     * <p>다른 사용자의 장바구니 상품이나 존재하지 않는 ID는 결과에서 빠진다.
+     * 소유자 비교는 carts.user_id 컬럼으로 처리하므로 User는 로딩하지 않는다.
+     */
+    @Query("SELECT ci FROM CartItem ci "
+            + "JOIN FETCH ci.product "
+            + "WHERE ci.id IN :cartItemIds AND ci.cart.user.id = :userId")
+    List<CartItem> findAllWithProductByIdInAndUserId(Collection<Long> cartItemIds, Long userId);
+
     /**
      * 장바구니 전체 비우기.
      */
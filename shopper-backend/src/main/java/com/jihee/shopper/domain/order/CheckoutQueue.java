@@ -0,0 +1,270 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.order.dto.CheckoutResponse;
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.order.dto.OrderResponse;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수 큐 (접수 → 작업자 처리 → 상태 조회).
+ *
+ * <p>동기 주문 생성은 요청마다 검증·재고 차감·INSERT·장바구니 삭제 동안 DB 커넥션을 잡으므로,
+ * 순간 주문량이 커넥션 풀 크기(운영 10개)를 넘으면 나머지 요청은 커넥션을 기다린다.
+ * 비동기 접수는 요청을 메모리 큐에 넣고 바로 응답하며, 고정된 수의 작업자만 주문을 생성하므로
+ * 주문 처리에 쓰이는 커넥션 수가 작업자 수로 제한된다.
+ *
+ * <p>작업자는 큐에서 최대 {@value #BATCH_SIZE}건씩 꺼내 한 트랜잭션(커넥션 하나, 커밋 한 번)으로 생성하고,
+ * 커밋 직후 결과 상태를 주문별로 Redis에 한 번에 기록한다. 묶음 중 한 건이라도 실패하면 묶음 전체가 롤백되고
+ * (재고 차감·Redis 예약은 트랜잭션 완료 시 복구됨) 주문마다 별도 트랜잭션으로 다시 처리하므로,
+ * 실패한 주문만 FAILED가 되고 나머지 주문은 영향을 받지 않는다. 이때는 주문이 끝나는 즉시 상태를 기록한다.
+ * <pre>
+ * Redis Key:   "CHK:{ticketId}"  (Hash, TTL 1시간)
+ * Fields:      userId, status, orderId, errorCode
+ * </pre>
+ * 상태를 Redis에 두므로 접수한 서버와 다른 서버에서도 조회할 수 있다.
+ *
+ * <p>큐는 서버 메모리에 있으므로 비정상 종료 시 처리 전 요청은 유실된다 (상태는 QUEUED로 남았다가 만료).
+ * 정상 종료 시에는 접수를 멈추고 남은 요청을 처리한 뒤 종료한다.
+ *
+ * <p>{@code checkout.async.enabled=true}일 때만 등록한다 (작업자 스레드를 띄우므로 기본은 비활성).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "checkout.async.enabled", havingValue = "true")
+public class CheckoutQueue {
+
+    static final int BATCH_SIZE = 10;
+
+    private static final String KEY_PREFIX = "CHK:";
+    private static final Duration STATUS_TTL = Duration.ofHours(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OrderService orderService;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final int workers;
+    private final BlockingQueue<CheckoutTask> queue;
+
+    private ExecutorService executor;
+    /** 접수 가능 여부 (종료 시 false, 작업자는 큐를 비운 뒤 끝난다) */
+    private volatile boolean running = true;
+
+    public CheckoutQueue(OrderService orderService,
+                         StringRedisTemplate redisTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${checkout.async.workers:4}") int workers,
+                         @Value("${checkout.async.queue-capacity:1000}") int queueCapacity) {
+        this.orderService = orderService;
+        this.redisTemplate = redisTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers,
+                runnable -> new Thread(runnable, "checkout-worker-" + sequence.incrementAndGet()));
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::work);
+        }
+    }
+
+    /**
+     * 접수를 멈추고 큐에 남은 요청을 처리한 뒤 작업자를 종료한다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            log.warn("[CheckoutQueue] 종료 대기 시간 초과, 미처리 요청={}", queue.size());
+            executor.shutdownNow();
+        }
+    }
+
+    // ── 접수 / 조회 ─────────────────────────────────────────────────────────
+
+    /**
+     * 주문 요청 접수 (QUEUED 상태 기록 후 큐에 추가).
+     *
+     * @throws CustomException CHECKOUT_QUEUE_FULL — 큐가 가득 찼거나 종료 중
+     */
+    public CheckoutResponse enqueue(Long userId, OrderRequest request) {
+        String ticketId = UUID.randomUUID().toString();
+        String key = KEY_PREFIX + ticketId;
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", userId.toString());
+        fields.put("status", CheckoutStatus.QUEUED.name());
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, STATUS_TTL);
+
+        if (!running || !queue.offer(new CheckoutTask(ticketId, userId, request))) {
+            redisTemplate.delete(key);
+            throw new CustomException(ErrorCode.CHECKOUT_QUEUE_FULL);
+        }
+        return CheckoutResponse.queued(ticketId);
+    }
+
+    /**
+     * 접수 상태 조회 (본인 요청만).
+     *
+     * @throws CustomException CHECKOUT_NOT_FOUND — 없거나 만료되었거나 다른 사용자의 요청
+     */
+    public CheckoutResponse getStatus(Long userId, String ticketId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + ticketId);
+        if (fields.isEmpty() || !userId.toString().equals(fields.get("userId"))) {
+            throw new CustomException(ErrorCode.CHECKOUT_NOT_FOUND);
+        }
+
+        CheckoutStatus status = CheckoutStatus.valueOf((String) fields.get("status"));
+        return switch (status) {
+            case QUEUED -> CheckoutResponse.queued(ticketId);
+            case COMPLETED -> CheckoutResponse.completed(ticketId, Long.valueOf((String) fields.get("orderId")));
+            case FAILED -> {
+                ErrorCode errorCode = ErrorCode.valueOf((String) fields.get("errorCode"));
+                yield CheckoutResponse.failed(ticketId, errorCode.name(), errorCode.getMessage());
+            }
+        };
+    }
+
+    // ── 작업자 ─────────────────────────────────────────────────────────────
+
+    private void work() {
+        List<CheckoutTask> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                CheckoutTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[CheckoutQueue] 작업자 오류 batch={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 처리하고, 실패하면 주문마다 다시 처리한다.
+     */
+    private void process(List<CheckoutTask> batch) {
+        if (batch.size() > 1 && processInOneTransaction(batch)) {
+            log.debug("[CheckoutQueue] {}건 일괄 처리", batch.size());
+            return;
+        }
+        batch.forEach(this::processOne);
+    }
+
+    /**
+     * 묶음의 주문을 모두 한 트랜잭션으로 생성한다 (createOrder가 호출자 트랜잭션에 참여).
+     *
+     * @return false — 한 건이라도 실패해 묶음 전체가 롤백됨
+     */
+    private boolean processInOneTransaction(List<CheckoutTask> batch) {
+        List<OrderResponse> responses;
+        try {
+            responses = batchTransaction.execute(status -> batch.stream()
+                    .map(task -> orderService.createOrder(task.userId(), task.request()))
+                    .toList());
+        } catch (RuntimeException e) {
+            log.debug("[CheckoutQueue] 일괄 처리 롤백, 건별 재처리 batch={}, message={}", batch.size(), e.getMessage());
+            return false;
+        }
+
+        Map<String, Map<String, String>> results = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            results.put(KEY_PREFIX + batch.get(i).ticketId(), completed(responses.get(i)));
+        }
+        writeStatuses(results);
+        return true;
+    }
+
+    /**
+     * 주문을 생성하고 (별도 트랜잭션) 결과 상태를 바로 기록한다.
+     */
+    private void processOne(CheckoutTask task) {
+        Map<String, String> fields;
+        try {
+            fields = completed(orderService.createOrder(task.userId(), task.request()));
+        } catch (CustomException e) {
+            fields = failed(e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("[CheckoutQueue] 주문 생성 오류 ticketId={}", task.ticketId(), e);
+            fields = failed(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        writeStatuses(Map.of(KEY_PREFIX + task.ticketId(), fields));
+    }
+
+    /**
+     * 상태 키별 결과를 파이프라인 한 번으로 기록한다.
+     */
+    private void writeStatuses(Map<String, Map<String, String>> results) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                results.forEach((key, fields) -> {
+                    redis.hMSet(key, fields);
+                    redis.expire(key, STATUS_TTL.toSeconds());
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[CheckoutQueue] 상태 기록 실패 keys={}, message={}", results.keySet(), e.getMessage());
+        }
+    }
+
+    private static Map<String, String> completed(OrderResponse response) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", CheckoutStatus.COMPLETED.name());
+        fields.put("orderId", response.getOrderId().toString());
+        return fields;
+    }
+
+    private static Map<String, String> failed(ErrorCode errorCode) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", CheckoutStatus.FAILED.name());
+        fields.put("errorCode", errorCode.name());
+        return fields;
+    }
+
+    private record CheckoutTask(String ticketId, Long userId, OrderRequest request) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.jihee.shopper.domain.order;
+
+/**
+ * 비동기 주문 접수 처리 상태.
+ *
+ * <p>QUEUED: 접수 (처리 대기)
+ * <p>COMPLETED: 주문 생성 완료 (orderId 확정)
+ * <p>FAILED: 주문 생성 실패 (errorCode 참조)
+ */
+public enum CheckoutStatus {
+    QUEUED,     // 처리 대기
+    COMPLETED,  // 주문 생성 완료
+    FAILED      // 주문 생성 실패
+}
@@ -1,11 +1,15 @@
 package com.jihee.shopper.domain.order;
 
+import com.jihee.shopper.domain.order.dto.CheckoutResponse;
 import com.jihee.shopper.domain.order.dto.OrderRequest;
 import com.jihee.shopper.domain.order.dto.OrderResponse;
 import com.jihee.shopper.global.common.ApiResponse;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
 import com.jihee.shopper.global.security.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,7 +23,9 @@ import org.springframework.web.bind.annotation.*;
  * 주문 API 컨트롤러.
  *
  * <pre>
- * POST /api/orders      — 주문 생성 (재고 차감, 장바구니 비우기)
+ * POST /api/orders      — 주문 생성 (재고 차감, 장바구니 비우기, Idempotency-Key 헤더 선택)
+ * POST /api/orders/checkout — 비동기 주문 접수 (202, 처리 결과는 상태 조회로 확인, checkout.async.enabled)
+ * GET  /api/orders/checkout/{ticketId} — 비동기 주문 접수 상태
  * GET  /api/orders/me   — 내 주문 내역 (페이징)
  * GET  /api/orders/{id} — 주문 상세
  * DELETE /api/orders/{id} — 주문 취소 (PENDING 상태만)
@@ -31,19 +37,51 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final ObjectProvider<CheckoutQueue> checkoutQueue;
 
     /**
      * 주문 생성 (재고 차감, OrderItem 스냅샷, 장바구니 비우기).
+     *
+     * @param idempotencyKey 재시도 중복 제거 키 (선택적, 같은 키로 재요청하면 기존 주문을 반환)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody OrderRequest request) {
-        OrderResponse response = orderService.createOrder(userDetails.getUserId(), request);
+        OrderResponse response = idempotencyKey != null
+                ? orderIdempotencyService.createOrder(userDetails.getUserId(), idempotencyKey, request)
+                : orderService.createOrder(userDetails.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("주문이 생성되었습니다", response));
     }
 
+    /**
+     * 비동기 주문 접수 (작업자가 순서대로 주문 생성).
+     *
+     * <p>주문 생성 결과는 응답의 ticketId로 상태 조회 API를 호출해 확인한다.
+     */
+    @PostMapping("/checkout")
+    public ResponseEntity<ApiResponse<CheckoutResponse>> checkout(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody OrderRequest request) {
+        CheckoutResponse response = checkoutQueue().enqueue(userDetails.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("주문이 접수되었습니다", response));
+    }
+
+    /**
+     * 비동기 주문 접수 상태 조회 (QUEUED → COMPLETED / FAILED).
+     */
+    @GetMapping("/checkout/{ticketId}")
+    public ResponseEntity<ApiResponse<CheckoutResponse>> getCheckoutStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ticketId) {
+        CheckoutResponse response = checkoutQueue().getStatus(userDetails.getUserId(), ticketId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 내 주문 내역 조회 (페이징).
      */
@@ -76,4 +114,15 @@ public class OrderController {
         orderService.cancelOrder(userDetails.getUserId(), orderId);
         return ResponseEntity.ok(ApiResponse.success("주문이 취소되었습니다"));
     }
+
+    /**
+     * 비동기 주문 접수 큐 (비활성이면 CHECKOUT_DISABLED).
+     */
+    private CheckoutQueue checkoutQueue() {
+        CheckoutQueue queue = checkoutQueue.getIfAvailable();
+        if (queue == null) {
+            throw new CustomException(ErrorCode.CHECKOUT_DISABLED);
+        }
+        return queue;
+    }
 }
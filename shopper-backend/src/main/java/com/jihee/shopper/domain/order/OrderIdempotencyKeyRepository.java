@@ -0,0 +1,24 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.order.entity.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 멱등성 키 리포지토리.
+ */
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    Optional<OrderIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * 보관 기간이 지난 키 기록 일괄 삭제.
+     */
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.createdAt < :threshold")
+    int deleteCreatedBefore(LocalDateTime threshold);
+}
@@ -0,0 +1,274 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.order.dto.OrderResponse;
+import com.jihee.shopper.domain.order.entity.OrderIdempotencyKey;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 멱등성 키(Idempotency-Key) 기반 주문 생성 중복 제거.
+ *
+ * <p>타임아웃 후 재시도한 요청이 주문 생성 전체(조회·재고 차감·INSERT)를 다시 실행하지 않도록,
+ * 사용자별 키 → 주문 ID를 기록하고 같은 키의 요청에는 기존 주문을 돌려준다.
+ * <ul>
+ *   <li>DB(order_idempotency_keys): 주문과 같은 트랜잭션에 INSERT하는 원본 기록, (user_id, key) 유니크</li>
+ *   <li>Redis: 처리 중 선점 + 완료 기록 캐시 (중복 요청이 DB·주문 로직까지 오지 않도록)</li>
+ * </ul>
+ * <pre>
+ * Redis Key:   "IDEM:ORDER:{userId}:{idempotencyKey}"
+ * Redis Value: "P:{fingerprint}"            처리 중 (TTL 30초)
+ *              "D:{fingerprint}:{orderId}"  완료 (TTL 24시간)
+ * </pre>
+ * fingerprint는 요청 본문(배송지, 장바구니 상품 ID 집합)의 해시로, 같은 키로 다른 요청을 보내면 거절한다.
+ *
+ * <p>처리 중인 키로 들어온 중복 요청은 주문을 다시 실행하지 않고 결과를 기다린다.
+ * 같은 서버의 요청은 진행 중인 작업의 Future를, 다른 서버의 요청은 Redis 값을 주기적으로 확인한다.
+ * 첫 요청이 실패하면 키를 지우므로, 기다리던 요청은 처음부터 다시 시도한다.
+ * Redis 완료 기록이 없거나(기록 실패·만료) 대기 시간을 넘기면 DB 기록을 확인한다.
+ *
+ * <p>키를 보낸 요청은 Redis 장애 시 503으로 거절한다 (중복 제거 없이 처리하면 재시도가 주문을 또 만든다).
+ * DB·Redis 기록은 {@value #RETENTION_HOURS}시간 보관한다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "IDEM:ORDER:";
+    private static final String PENDING_PREFIX = "P:";
+    private static final String DONE_PREFIX = "D:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30);
+    private static final long RETENTION_HOURS = 24;
+    private static final Duration DONE_TTL = Duration.ofHours(RETENTION_HOURS);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(10);
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 이 서버에서 처리 중인 키 → 생성될 주문 ID */
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderService orderService,
+                                   OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 멱등성 키 기준 주문 생성. 같은 키로 이미 생성된 주문이 있으면 그 주문을 반환한다.
+     *
+     * @throws CustomException IDEMPOTENCY_KEY_REUSED — 같은 키로 다른 요청 본문
+     * @throws CustomException ORDER_IN_PROGRESS — 처리 중인 요청이 대기 시간 내에 끝나지 않음
+     * @throws CustomException IDEMPOTENCY_UNAVAILABLE — Redis 장애
+     */
+    public OrderResponse createOrder(Long userId, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "Idempotency-Key는 1~100자여야 합니다");
+        }
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+
+        while (true) {
+            boolean acquired;
+            String value = null;
+            try {
+                acquired = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(key, PENDING_PREFIX + fingerprint, PENDING_TTL));
+                if (!acquired) {
+                    value = redisTemplate.opsForValue().get(key);
+                }
+            } catch (DataAccessException e) {
+                log.warn("[OrderIdempotency] Redis 조회 실패, 요청 거절 key={}, message={}", key, e.getMessage());
+                throw new CustomException(ErrorCode.IDEMPOTENCY_UNAVAILABLE);
+            }
+            if (acquired) {
+                return execute(key, fingerprint, userId, idempotencyKey, request);
+            }
+
+            if (value != null) {
+                Long orderId = completedOrderId(value, fingerprint);
+                if (orderId != null) {
+                    return orderService.getOrder(userId, orderId);
+                }
+            }
+
+            // 처리 중 (value == null이면 방금 실패·만료되어 다음 반복에서 다시 선점을 시도)
+            if (System.nanoTime() > deadline) {
+                // 첫 요청이 완료 기록에 실패했을 수 있으므로 DB 기록으로 확인
+                return findRecorded(userId, idempotencyKey, fingerprint)
+                        .orElseThrow(() -> new CustomException(ErrorCode.ORDER_IN_PROGRESS));
+            }
+            if (value != null) {
+                awaitInFlight(key, deadline);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 DB 키 기록 삭제 (Redis 완료 기록 TTL과 같은 기간).
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    @Transactional
+    public void purgeExpired() {
+        int deleted = orderIdempotencyKeyRepository.deleteCreatedBefore(
+                LocalDateTime.now().minusHours(RETENTION_HOURS));
+        if (deleted > 0) {
+            log.debug("[OrderIdempotency] 만료 키 기록 {}건 삭제", deleted);
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 키를 선점한 요청만 실제로 주문을 생성한다 (커밋 후 Redis 완료 기록).
+     * Redis 기록이 유실된 키일 수 있으므로 DB 기록을 먼저 확인한다.
+     */
+    private OrderResponse execute(String key, String fingerprint, Long userId, String idempotencyKey,
+                                  OrderRequest request) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        inFlight.put(key, future);
+
+        try {
+            OrderResponse response = findRecorded(userId, idempotencyKey, fingerprint)
+                    .orElseGet(() -> createAndRecord(userId, idempotencyKey, fingerprint, request));
+            markDone(key, fingerprint, response.getOrderId());
+            future.complete(response.getOrderId());
+            return response;
+        } catch (RuntimeException e) {
+            release(key);
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 주문 생성과 키 기록을 한 트랜잭션으로 커밋한다.
+     * 같은 키의 주문이 먼저 커밋되었으면(Redis 선점 만료 등) 유니크 제약으로 롤백하고 그 주문을 반환한다.
+     */
+    private OrderResponse createAndRecord(Long userId, String idempotencyKey, String fingerprint,
+                                          OrderRequest request) {
+        try {
+            return transactionTemplate.execute(status -> {
+                OrderResponse response = orderService.createOrder(userId, request);
+                orderIdempotencyKeyRepository.saveAndFlush(
+                        OrderIdempotencyKey.of(userId, idempotencyKey, fingerprint, response.getOrderId()));
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return findRecorded(userId, idempotencyKey, fingerprint).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * DB에 기록된 같은 키의 주문.
+     *
+     * @throws CustomException IDEMPOTENCY_KEY_REUSED — fingerprint 불일치
+     */
+    private Optional<OrderResponse> findRecorded(Long userId, String idempotencyKey, String fingerprint) {
+        return orderIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .map(recorded -> {
+                    if (!recorded.getFingerprint().equals(fingerprint)) {
+                        throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                    }
+                    return orderService.getOrder(userId, recorded.getOrderId());
+                });
+    }
+
+    /**
+     * 완료 값이면 주문 ID, 처리 중이면 null.
+     *
+     * @throws CustomException IDEMPOTENCY_KEY_REUSED — fingerprint 불일치
+     */
+    private Long completedOrderId(String value, String fingerprint) {
+        boolean done = value.startsWith(DONE_PREFIX);
+        String body = value.substring(done ? DONE_PREFIX.length() : PENDING_PREFIX.length());
+        if (!body.startsWith(fingerprint)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return done ? Long.valueOf(body.substring(fingerprint.length() + 1)) : null;
+    }
+
+    /**
+     * 같은 서버에서 처리 중이면 완료까지 기다리고, 아니면 잠시 쉰 뒤 Redis를 다시 확인한다.
+     * 결과는 다음 반복의 Redis 조회로 읽는다 (첫 요청의 예외는 전파하지 않음).
+     */
+    private void awaitInFlight(String key, long deadline) {
+        CompletableFuture<Long> future = inFlight.get(key);
+        try {
+            if (future != null) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.ORDER_IN_PROGRESS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 첫 요청 실패 또는 대기 시간 초과 → 다음 반복에서 처리
+        }
+    }
+
+    private void markDone(String key, String fingerprint, Long orderId) {
+        try {
+            redisTemplate.opsForValue().set(key, DONE_PREFIX + fingerprint + ":" + orderId, DONE_TTL);
+        } catch (DataAccessException e) {
+            // 주문·키 기록은 이미 DB에 커밋됨 → 이후 요청은 선점 만료 후 또는 대기 시간 초과 시 DB 기록으로 응답
+            log.warn("[OrderIdempotency] 완료 기록 실패 key={}, orderId={}, message={}", key, orderId, e.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("[OrderIdempotency] 키 해제 실패 key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 본문 해시 (배송지 + 정렬한 장바구니 상품 ID).
+     */
+    private static String fingerprint(OrderRequest request) {
+        String canonical = request.getAddressId() + "|" + request.getCartItemIds().stream()
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return UUID.nameUUIDFromBytes(canonical.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
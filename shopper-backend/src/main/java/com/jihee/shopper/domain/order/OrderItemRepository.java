@@ -1,7 +1,9 @@
 package com.jihee.shopper.domain.order;
 
 import com.jihee.shopper.domain.order.entity.OrderItem;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -14,4 +16,14 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      * 주문 ID로 전체 OrderItem 조회.
      */
     List<OrderItem> findByOrderId(Long orderId);
+
+    /**
+     * 주문의 상품별 수량 합계 (상품 ID 오름차순, 주문 취소 시 재고 복구·이벤트 발행용).
+     */
+    @Query("SELECT new com.jihee.shopper.domain.order.event.OrderedProduct("
+            + "oi.product.id, oi.product.category.id, CAST(SUM(oi.quantity) AS Integer)) "
+            + "FROM OrderItem oi WHERE oi.order.id = :orderId "
+            + "GROUP BY oi.product.id, oi.product.category.id "
+            + "ORDER BY oi.product.id")
+    List<OrderedProduct> sumQuantitiesByOrderId(Long orderId);
 }
@@ -7,6 +7,10 @@ import com.jihee.shopper.domain.order.dto.OrderResponse;
 import com.jihee.shopper.domain.order.entity.Order;
 import com.jihee.shopper.domain.order.entity.OrderItem;
 import com.jihee.shopper.domain.order.entity.OrderStatus;
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import com.jihee.shopper.domain.product.StockService;
 import com.jihee.shopper.domain.product.entity.Product;
 import com.jihee.shopper.domain.product.entity.ProductStatus;
 import com.jihee.shopper.domain.user.AddressRepository;
@@ -16,18 +20,26 @@ import com.jihee.shopper.domain.user.entity.User;
 import com.jihee.shopper.global.exception.CustomException;
 import com.jihee.shopper.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 주문 서비스 (ADR-04-006 ~ ADR-04-014).
  *
  * <p>주문 생성 시 재고 차감, OrderItem 스냅샷 저장, 장바구니 비우기를 처리한다.
+ * 주문 생성·취소 시 상품별 주문 수량을 담은 이벤트를 발행한다 (커밋 이후 판매 랭킹 등에 반영).
  */
 @Service
 @RequiredArgsConstructor
@@ -38,6 +50,8 @@ public class OrderService {
     private final CartItemRepository cartItemRepository;
     private final UserRepository userRepository;
     private final AddressRepository addressRepository;
+    private final StockService stockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ── 주문 생성 ──────────────────────────────────────────────────────────
 
@@ -56,22 +70,16 @@ public class OrderService {
         // 2. 재고 검증 및 차감 (ADR-04-010)
         for (CartItem cartItem : cartItems) {
             Product product = cartItem.getProduct();
-            int quantity = cartItem.getQuantity();
 
             // 상품 상태 검증
             if (product.getStatus() != ProductStatus.ACTIVE) {
                 throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
             }
-
-            // 재고 검증
-            if (product.getStock() < quantity) {
-                throw new CustomException(ErrorCode.OUT_OF_STOCK);
-            }
-
-            // 재고 차감 (낙관적 락)
-            product.decreaseStock(quantity);
         }
 
+        // 재고 검증 + 차감을 조건부 UPDATE 한 번으로 처리 (상품 ID 오름차순)
+        stockService.decrease(toQuantities(cartItems));
+
         // 3. 총액 계산 (ADR-04-008)
         int totalPrice = cartItems.stream()
                 .mapToInt(item -> item.getProduct().getPrice() * item.getQuantity())
@@ -81,7 +89,7 @@ public class OrderService {
         Order order = Order.create(user, address, totalPrice);
         orderRepository.save(order);
 
-        // 5. OrderItem 생성 (가격 스냅샷, ADR-04-007)
+        // 5. OrderItem 생성 (가격 스냅샷, ADR-04-007, 시퀀스 ID → flush 시 배치 INSERT)
         List<OrderItem> orderItems = new ArrayList<>();
         for (CartItem cartItem : cartItems) {
             OrderItem orderItem = OrderItem.of(
@@ -93,9 +101,10 @@ public class OrderService {
         }
         orderItemRepository.saveAll(orderItems);
 
-        // 6. 장바구니 비우기 (ADR-04-012)
-        cartItemRepository.deleteAll(cartItems);
+        // 6. 장바구니 비우기 (ADR-04-012, DELETE ... WHERE id IN 한 번)
+        cartItemRepository.deleteAllByIdInBatch(cartItems.stream().map(CartItem::getId).toList());
 
+        eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), toOrderedProducts(cartItems)));
         return OrderResponse.from(order);
     }
 
@@ -140,38 +149,70 @@ public class OrderService {
             throw new CustomException(ErrorCode.ORDER_CANCEL_NOT_ALLOWED);
         }
 
+        boolean restoreStock = order.getStatus() == OrderStatus.PENDING;
+        List<OrderedProduct> orderedProducts = orderItemRepository.sumQuantitiesByOrderId(orderId);
+        Map<Long, Integer> quantities = orderedProducts.stream()
+                .collect(Collectors.toMap(OrderedProduct::productId, OrderedProduct::quantity));
+
+        // 주문 취소 (재고 복구 UPDATE가 영속성 컨텍스트를 비우기 전에 상태 변경을 먼저 반영)
+        order.cancel();
+
         // PENDING 상태: 재고 복구 (ADR-04-011)
-        if (order.getStatus() == OrderStatus.PENDING) {
-            for (OrderItem item : order.getOrderItems()) {
-                item.getProduct().increaseStock(item.getQuantity());
-            }
+        if (restoreStock) {
+            stockService.increase(quantities);
         }
 
-        // 주문 취소
-        order.cancel();
+        eventPublisher.publishEvent(new OrderCancelledEvent(orderId, orderedProducts));
     }
 
     // ── 내부 공용 ──────────────────────────────────────────────────────────
 
     /**
      * CartItem 검증 (본인 장바구니, 존재 여부).
+     *
+     * <p>요청한 ID 전체를 쿼리 한 번으로 조회하고, 조회되지 않은 ID(없는 상품 또는 다른 사용자의 상품)가
+     * 하나라도 있으면 실패한다. 반환 순서는 요청 순서를 따른다.
      */
     private List<CartItem> validateCartItems(Long userId, List<Long> cartItemIds) {
-        List<CartItem> cartItems = new ArrayList<>();
-
-        for (Long cartItemId : cartItemIds) {
-            CartItem cartItem = cartItemRepository.findById(cartItemId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.CART_ITEM_NOT_FOUND));
+        Set<Long> requestedIds = new LinkedHashSet<>(cartItemIds);
 
-            // 본인 장바구니 확인
-            if (!cartItem.getCart().getUser().getId().equals(userId)) {
-                throw new CustomException(ErrorCode.CART_ITEM_NOT_FOUND);
-            }
+        Map<Long, CartItem> found = cartItemRepository
+                .findAllWithProductByIdInAndUserId(requestedIds, userId).stream()
+                .collect(Collectors.toMap(CartItem::getId, Function.identity()));
 
-            cartItems.add(cartItem);
+        if (!found.keySet().containsAll(requestedIds)) {
+            throw new CustomException(ErrorCode.CART_ITEM_NOT_FOUND);
         }
 
-        return cartItems;
+        return requestedIds.stream().map(found::get).toList();
+    }
+
+    /**
+     * 주문 대상 상품별 수량 (상품 ID → 수량).
+     */
+    private Map<Long, Integer> toQuantities(List<CartItem> cartItems) {
+        return cartItems.stream()
+                .collect(Collectors.toMap(
+                        cartItem -> cartItem.getProduct().getId(),
+                        CartItem::getQuantity,
+                        Integer::sum
+                ));
+    }
+
+    /**
+     * 이벤트에 담을 상품별 주문 수량 (상품 ID 오름차순, 같은 상품은 합산).
+     */
+    private List<OrderedProduct> toOrderedProducts(List<CartItem> cartItems) {
+        Map<Long, OrderedProduct> byProductId = new TreeMap<>();
+        for (CartItem cartItem : cartItems) {
+            Product product = cartItem.getProduct();
+            byProductId.merge(
+                    product.getId(),
+                    new OrderedProduct(product.getId(), product.getCategory().getId(), cartItem.getQuantity()),
+                    (a, b) -> new OrderedProduct(a.productId(), a.categoryId(), a.quantity() + b.quantity())
+            );
+        }
+        return List.copyOf(byProductId.values());
     }
 
     private User findUserById(Long userId) {
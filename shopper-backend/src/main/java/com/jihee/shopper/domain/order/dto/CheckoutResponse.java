@@ -0,0 +1,34 @@
+package com.jihee.shopper.domain.order.dto;
+
+import com.jihee.shopper.domain.order.CheckoutStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 주문 접수 응답 DTO (접수 직후 및 상태 조회).
+ *
+ * <p>orderId는 COMPLETED, errorCode·message는 FAILED 상태에서만 채워진다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CheckoutResponse {
+
+    private final String ticketId;
+    private final CheckoutStatus status;
+    private final Long orderId;
+    private final String errorCode;
+    private final String message;
+
+    public static CheckoutResponse queued(String ticketId) {
+        return new CheckoutResponse(ticketId, CheckoutStatus.QUEUED, null, null, null);
+    }
+
+    public static CheckoutResponse completed(String ticketId, Long orderId) {
+        return new CheckoutResponse(ticketId, CheckoutStatus.COMPLETED, orderId, null, null);
+    }
+
+    public static CheckoutResponse failed(String ticketId, String errorCode, String message) {
+        return new CheckoutResponse(ticketId, CheckoutStatus.FAILED, null, errorCode, message);
+    }
+}
@@ -63,6 +63,13 @@ public class Order extends BaseEntity {
 
     // ── 수정 메서드 ─────────────────────────────────────────────────────────
 
+    /**
+     * 주문 상품 추가 (OrderItem.of에서 호출, 양방향 연관관계 동기화).
+     */
+    void addOrderItem(OrderItem orderItem) {
+        this.orderItems.add(orderItem);
+    }
+
     /**
      * 주문 취소 (ADR-04-011).
      */
@@ -0,0 +1,54 @@
+package com.jihee.shopper.domain.order.entity;
+
+import com.jihee.shopper.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 멱등성 키 기록 (사용자별 Idempotency-Key → 생성된 주문).
+ *
+ * <p>주문과 같은 트랜잭션에 INSERT되므로, 주문이 커밋되었다면 키 기록도 반드시 남는다.
+ * Redis 완료 기록이 유실되거나 선점이 만료되어도 (user_id, idempotency_key) 유니크 제약이 같은 키의 두 번째 주문을 막는다.
+ * 운영 테이블은 db/order_idempotency_keys.sql로 만든다.
+ */
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_order_idempotency_keys_user_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_order_idempotency_keys_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIdempotencyKey extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /** 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 판별) */
+    @Column(nullable = false, length = 36)
+    private String fingerprint;
+
+    /** 생성된 주문 ID (연관관계 없이 ID만 보관) */
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    // ── 정적 팩토리 메서드 ───────────────────────────────────────────────────
+
+    public static OrderIdempotencyKey of(Long userId, String idempotencyKey, String fingerprint, Long orderId) {
+        OrderIdempotencyKey record = new OrderIdempotencyKey();
+        record.userId = userId;
+        record.idempotencyKey = idempotencyKey;
+        record.fingerprint = fingerprint;
+        record.orderId = orderId;
+        return record;
+    }
+}
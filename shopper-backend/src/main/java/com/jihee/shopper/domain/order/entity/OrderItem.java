@@ -11,6 +11,11 @@ import lombok.NoArgsConstructor;
  * 주문 상품 엔티티 (ADR-04-007).
  *
  * <p>주문 시점 가격과 상품명을 스냅샷으로 저장한다.
+ *
+ * <p>ID는 시퀀스(allocationSize 50, pooled optimizer)로 미리 할당받는다.
+ * IDENTITY는 INSERT 직후 키를 읽어야 해서 JDBC 배치가 적용되지 않으므로,
+ * 주문 한 건의 OrderItem INSERT를 hibernate.jdbc.batch_size 단위로 묶기 위함이다.
+ * 운영 시퀀스는 db/order_items_seq.sql로 만든다.
  */
 @Entity
 @Table(name = "order_items")
@@ -19,7 +24,8 @@ import lombok.NoArgsConstructor;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq_generator")
+    @SequenceGenerator(name = "order_item_seq_generator", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,7 +50,7 @@ public class OrderItem extends BaseEntity {
     // ── 정적 팩토리 메서드 ───────────────────────────────────────────────────
 
     /**
-     * OrderItem 생성 (가격, 상품명 스냅샷).
+     * OrderItem 생성 (가격, 상품명 스냅샷). 주문의 orderItems 컬렉션에도 추가된다.
      */
     public static OrderItem of(Order order, Product product, int quantity) {
         OrderItem item = new OrderItem();
@@ -53,6 +59,7 @@ public class OrderItem extends BaseEntity {
         item.quantity = quantity;
         item.price = product.getPrice();        // 스냅샷
         item.productName = product.getName();   // 스냅샷
+        order.addOrderItem(item);
         return item;
     }
 }
@@ -0,0 +1,11 @@
+package com.jihee.shopper.domain.order.event;
+
+import java.util.List;
+
+/**
+ * 주문 취소 이벤트.
+ *
+ * <p>주문 취소 트랜잭션에서 OrderService가 발행한다. products는 취소로 되돌릴 주문 수량이다.
+ */
+public record OrderCancelledEvent(Long orderId, List<OrderedProduct> products) {
+}
@@ -0,0 +1,12 @@
+package com.jihee.shopper.domain.order.event;
+
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트.
+ *
+ * <p>주문 생성 트랜잭션에서 OrderService가 발행한다.
+ * 리스너는 {@code @TransactionalEventListener}로 커밋 이후에만 반응한다 (판매 랭킹 등).
+ */
+public record OrderPlacedEvent(Long orderId, List<OrderedProduct> products) {
+}
@@ -0,0 +1,9 @@
+package com.jihee.shopper.domain.order.event;
+
+/**
+ * 주문 이벤트에 담기는 상품별 주문 수량.
+ *
+ * <p>같은 상품이 여러 줄이면 수량을 합산해 한 건으로 담는다.
+ */
+public record OrderedProduct(Long productId, Long categoryId, int quantity) {
+}
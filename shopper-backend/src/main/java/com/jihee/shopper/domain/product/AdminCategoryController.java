@@ -0,0 +1,56 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.CategoryRequest;
+import com.jihee.shopper.global.common.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자 카테고리 관리 API 컨트롤러 (ADR-03-001, ADR-03-008).
+ *
+ * <pre>
+ * POST   /api/admin/categories      — 카테고리 생성
+ * PUT    /api/admin/categories/{id} — 카테고리명 수정
+ * DELETE /api/admin/categories/{id} — 카테고리 삭제 (하위 상품 있으면 거부)
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/admin/categories")
+@RequiredArgsConstructor
+public class AdminCategoryController {
+
+    private final CategoryService categoryService;
+
+    /**
+     * 카테고리 생성 (관리자).
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Long>> createCategory(@Valid @RequestBody CategoryRequest request) {
+        Long categoryId = categoryService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("카테고리가 생성되었습니다", categoryId));
+    }
+
+    /**
+     * 카테고리명 수정 (관리자).
+     */
+    @PutMapping("/{categoryId}")
+    public ResponseEntity<ApiResponse<Void>> updateCategory(
+            @PathVariable Long categoryId,
+            @Valid @RequestBody CategoryRequest request) {
+        categoryService.updateCategory(categoryId, request);
+        return ResponseEntity.ok(ApiResponse.success("카테고리가 수정되었습니다"));
+    }
+
+    /**
+     * 카테고리 삭제 (관리자).
+     */
+    @DeleteMapping("/{categoryId}")
+    public ResponseEntity<ApiResponse<Void>> deleteCategory(@PathVariable Long categoryId) {
+        categoryService.deleteCategory(categoryId);
+        return ResponseEntity.ok(ApiResponse.success("카테고리가 삭제되었습니다"));
+    }
+}
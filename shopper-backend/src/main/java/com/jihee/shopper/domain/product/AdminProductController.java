@@ -19,6 +19,9 @@ import org.springframework.web.multipart.MultipartFile;
  * DELETE /api/admin/products/{id}         — 상품 삭제 (소프트 삭제)
  * POST   /api/admin/products/{id}/images  — 이미지 업로드
  * DELETE /api/admin/products/{id}/images/{imageId} — 이미지 삭제
+ * PUT    /api/admin/products/{id}/hot-inventory?enabled= — 한정 수량 모드 설정/해제
+ * POST   /api/admin/products/{id}/hot-inventory/rebuild — 한정 수량 재고 카운터 재구성
+ * POST   /api/admin/products/best-sellers/rebuild — 판매 랭킹 재구성 (products.salesCount 기준)
  * </pre>
  */
 @RestController
@@ -27,6 +30,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final HotInventoryService hotInventoryService;
+    private final BestSellerRanking bestSellerRanking;
 
     /**
      * 상품 등록 (관리자).
@@ -88,6 +93,40 @@ public class AdminProductController {
         return ResponseEntity.ok(ApiResponse.success("이미지가 삭제되었습니다"));
     }
 
+    /**
+     * 한정 수량 모드 설정/해제 (관리자).
+     * 설정 시 Redis 재고 카운터로 주문을 처리하고, 해제 시 미반영 재고 변동분을 DB에 반영한다.
+     */
+    @PutMapping("/{productId}/hot-inventory")
+    public ResponseEntity<ApiResponse<Void>> updateHotInventory(
+            @PathVariable Long productId,
+            @RequestParam boolean enabled) {
+        if (enabled) {
+            hotInventoryService.enable(productId);
+            return ResponseEntity.ok(ApiResponse.success("한정 수량 모드가 설정되었습니다"));
+        }
+        hotInventoryService.disable(productId);
+        return ResponseEntity.ok(ApiResponse.success("한정 수량 모드가 해제되었습니다"));
+    }
+
+    /**
+     * 한정 수량 재고 카운터 재구성 (관리자, 재고 직접 수정 후 호출).
+     */
+    @PostMapping("/{productId}/hot-inventory/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildHotInventory(@PathVariable Long productId) {
+        hotInventoryService.rebuild(productId);
+        return ResponseEntity.ok(ApiResponse.success("재고 카운터가 재구성되었습니다"));
+    }
+
+    /**
+     * 판매 랭킹 재구성 (관리자, products.salesCount 기준).
+     */
+    @PostMapping("/best-sellers/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildBestSellers() {
+        int rankedProducts = bestSellerRanking.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("판매 랭킹이 재구성되었습니다", rankedProducts));
+    }
+
     // ── 응답 DTO ───────────────────────────────────────────────────────────
 
     /**
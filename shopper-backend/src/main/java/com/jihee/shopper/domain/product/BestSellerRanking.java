@@ -0,0 +1,213 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 판매 랭킹 (Redis Sorted Set).
+ *
+ * <p>판매량순 상위 N개 조회가 매번 products 전체를 정렬하지 않도록, 상품별 판매 수량을 ZSET 점수로 유지한다.
+ * <pre>
+ * Redis Key:   "BS:ALL"               전체 랭킹
+ *              "BS:CAT:{categoryId}"  카테고리 랭킹 (하위 카테고리 판매 포함)
+ *              "BS:CATS"              랭킹이 있는 카테고리 ID 집합 (재구성 시 정리용)
+ * Member:      productId
+ * Score:       판매 수량
+ * </pre>
+ *
+ * <p>갱신: 주문 생성·취소 커밋 후 이벤트를 받아 전체 랭킹과 상품 카테고리 경로(자신 → 최상위)의 랭킹에
+ * ZINCRBY를 파이프라인 한 번으로 보낸다. 취소로 0 이하가 된 항목은 제거한다.
+ *
+ * <p>재구성: products.salesCount 기준으로 새로 만든다 (서버 기동 시 랭킹이 없을 때, 관리자 요청 시).
+ * salesCount는 SalesCountAggregator가 주기적으로 반영하므로, 재구성 도중 또는 직전에 들어온 주문은
+ * 반영되지 않을 수 있다.
+ *
+ * <p>Redis 장애 시에는 로그만 남긴다. 랭킹은 조회 최적화일 뿐 주문 처리에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BestSellerRanking {
+
+    private static final String GLOBAL_KEY = "BS:ALL";
+    private static final String CATEGORY_KEY_PREFIX = "BS:CAT:";
+    private static final String CATEGORIES_KEY = "BS:CATS";
+    private static final String TEMP_SUFFIX = ":tmp";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTreeCache;
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 판매량 상위 상품 (판매량 내림차순).
+     *
+     * @param categoryId 카테고리 ID (null이면 전체, 하위 카테고리 판매 포함)
+     * @param count      최대 건수
+     * @return Redis 장애 시 빈 목록
+     */
+    public List<RankedProduct> top(Long categoryId, int count) {
+        String key = categoryId != null ? CATEGORY_KEY_PREFIX + categoryId : GLOBAL_KEY;
+
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1);
+            if (tuples == null) {
+                return List.of();
+            }
+
+            List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                ranked.add(new RankedProduct(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+            }
+            return ranked;
+        } catch (DataAccessException e) {
+            log.warn("[BestSellerRanking] 조회 실패 key={}, message={}", key, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // ── 갱신 ───────────────────────────────────────────────────────────────
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        increment(event.products(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        increment(event.products(), -1);
+    }
+
+    /**
+     * 서버 기동 시 랭킹이 없으면(Redis 초기화 등) DB 기준으로 재구성한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(GLOBAL_KEY))) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("[BestSellerRanking] 초기화 실패 message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * products.salesCount 기준으로 전체·카테고리 랭킹을 다시 만든다 (관리자).
+     *
+     * <p>임시 키에 채운 뒤 RENAME으로 교체하므로 재구성 중에도 이전 랭킹을 조회할 수 있다.
+     * 판매 상품이 없어진 카테고리의 랭킹은 삭제한다.
+     *
+     * @return 랭킹에 포함된 상품 수
+     */
+    public int rebuild() {
+        List<ProductSalesRow> rows = productRepository.findAllSalesRows();
+        CategoryTree tree = categoryTreeCache.get();
+
+        Map<String, Map<String, Double>> scoresByKey = new HashMap<>();
+        Set<String> categoryIds = new HashSet<>();
+        for (ProductSalesRow row : rows) {
+            String member = row.productId().toString();
+            double score = row.salesCount();
+            scoresByKey.computeIfAbsent(GLOBAL_KEY, k -> new HashMap<>()).put(member, score);
+            for (Long categoryId : tree.pathOf(row.categoryId())) {
+                scoresByKey.computeIfAbsent(CATEGORY_KEY_PREFIX + categoryId, k -> new HashMap<>())
+                        .put(member, score);
+                categoryIds.add(categoryId.toString());
+            }
+        }
+
+        Set<String> previousCategoryIds = redisTemplate.opsForSet().members(CATEGORIES_KEY);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+
+            scoresByKey.forEach((key, scores) -> {
+                String tempKey = key + TEMP_SUFFIX;
+                redis.del(tempKey);
+                scores.forEach((member, score) -> redis.zAdd(tempKey, score, member));
+                redis.rename(tempKey, key);
+            });
+            if (!scoresByKey.containsKey(GLOBAL_KEY)) {
+                redis.del(GLOBAL_KEY);
+            }
+
+            if (previousCategoryIds != null) {
+                for (String categoryId : previousCategoryIds) {
+                    if (!categoryIds.contains(categoryId)) {
+                        redis.del(CATEGORY_KEY_PREFIX + categoryId);
+                    }
+                }
+            }
+            redis.del(CATEGORIES_KEY);
+            if (!categoryIds.isEmpty()) {
+                redis.sAdd(CATEGORIES_KEY, categoryIds.toArray(String[]::new));
+            }
+            return null;
+        });
+
+        log.info("[BestSellerRanking] 재구성 완료 products={}, categories={}", rows.size(), categoryIds.size());
+        return rows.size();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 주문 상품의 전체·카테고리 경로 랭킹 점수를 sign 방향으로 주문 수량만큼 변경한다.
+     */
+    private void increment(List<OrderedProduct> products, int sign) {
+        if (products.isEmpty()) {
+            return;
+        }
+        CategoryTree tree = categoryTreeCache.get();
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+
+                Set<String> touchedKeys = new HashSet<>();
+                touchedKeys.add(GLOBAL_KEY);
+                for (OrderedProduct product : products) {
+                    String member = product.productId().toString();
+                    double delta = (double) sign * product.quantity();
+
+                    redis.zIncrBy(GLOBAL_KEY, delta, member);
+                    for (Long categoryId : tree.pathOf(product.categoryId())) {
+                        String key = CATEGORY_KEY_PREFIX + categoryId;
+                        redis.zIncrBy(key, delta, member);
+                        redis.sAdd(CATEGORIES_KEY, categoryId.toString());
+                        touchedKeys.add(key);
+                    }
+                }
+
+                if (sign < 0) {
+                    touchedKeys.forEach(key -> redis.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, 0));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[BestSellerRanking] 갱신 실패 products={}, message={}", products.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.CategoryTreeResponse;
+import com.jihee.shopper.global.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 카테고리 공개 API 컨트롤러.
+ *
+ * <pre>
+ * GET /api/categories — 카테고리 계층 구조 조회 (트리 형태)
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    /**
+     * 카테고리 트리 조회 (공개).
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CategoryTreeResponse>>> getCategoryTree() {
+        return ResponseEntity.ok(ApiResponse.success(categoryService.getCategoryTree()));
+    }
+}
@@ -4,6 +4,7 @@ import com.jihee.shopper.domain.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,4 +27,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      */
     @Query("SELECT COUNT(c) FROM Category c WHERE c.parent.id = :parentId")
     long countByParentId(Long parentId);
+
+    /**
+     * 여러 부모의 자식 카테고리 ID 조회 (삭제 검증 시 하위 트리 탐색용).
+     */
+    @Query("SELECT c.id FROM Category c WHERE c.parent.id IN :parentIds")
+    List<Long> findIdsByParentIdIn(Collection<Long> parentIds);
 }
@@ -0,0 +1,113 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.CategoryRequest;
+import com.jihee.shopper.domain.product.dto.CategoryTreeResponse;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.event.CategoryChangedEvent;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 카테고리 서비스 (ADR-03-001, ADR-03-008).
+ *
+ * <p>트리 조회는 CategoryTreeCache 스냅샷에서 바로 응답하고,
+ * 관리자 변경 시 CategoryChangedEvent로 스냅샷을 다시 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryService {
+
+    /** 최대 깊이 (ADR-03-001: depth 0~2) */
+    private static final int MAX_DEPTH = 2;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ── 공개 조회 API ───────────────────────────────────────────────────────
+
+    /**
+     * 전체 카테고리 트리 조회 (공개).
+     */
+    public List<CategoryTreeResponse> getCategoryTree() {
+        return categoryTreeCache.get().roots();
+    }
+
+    // ── 관리자 API ─────────────────────────────────────────────────────────
+
+    /**
+     * 카테고리 생성 (관리자, ADR-03-001: 최대 3단계).
+     */
+    @Transactional
+    public Long createCategory(CategoryRequest request) {
+        Category category;
+        if (request.getParentId() == null) {
+            category = Category.createRoot(request.getName());
+        } else {
+            Category parent = findCategoryById(request.getParentId());
+            if (parent.getDepth() >= MAX_DEPTH) {
+                throw new CustomException(ErrorCode.CATEGORY_DEPTH_EXCEEDED);
+            }
+            category = Category.createChild(parent, request.getName());
+        }
+
+        categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+        return category.getId();
+    }
+
+    /**
+     * 카테고리명 수정 (관리자).
+     */
+    @Transactional
+    public void updateCategory(Long categoryId, CategoryRequest request) {
+        Category category = findCategoryById(categoryId);
+        category.updateName(request.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+    }
+
+    /**
+     * 카테고리 삭제 (관리자, ADR-03-008: 하위 카테고리 포함 상품이 있으면 거부).
+     */
+    @Transactional
+    public void deleteCategory(Long categoryId) {
+        Category category = findCategoryById(categoryId);
+
+        if (productRepository.countByCategoryIdIn(findSubtreeIds(categoryId)) > 0) {
+            throw new CustomException(ErrorCode.CATEGORY_HAS_PRODUCTS);
+        }
+
+        categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 카테고리 자신과 모든 하위 카테고리 ID를 DB에서 단계별로 조회한다.
+     * 트리 스냅샷은 다른 서버의 최근 변경을 아직 반영하지 못했을 수 있으므로 삭제 검증에는 쓰지 않는다.
+     */
+    private Set<Long> findSubtreeIds(Long categoryId) {
+        Set<Long> subtreeIds = new HashSet<>();
+        List<Long> level = List.of(categoryId);
+        while (!level.isEmpty()) {
+            subtreeIds.addAll(level);
+            level = categoryRepository.findIdsByParentIdIn(level);
+        }
+        return subtreeIds;
+    }
+
+    private Category findCategoryById(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+}
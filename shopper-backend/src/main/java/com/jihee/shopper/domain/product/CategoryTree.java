@@ -0,0 +1,125 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.CategoryTreeResponse;
+import com.jihee.shopper.domain.product.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 전체 트리 불변 스냅샷 (ADR-03-001: 최대 3단계).
+ *
+ * <p>전체 카테고리를 한 번에 읽어 부모-자식 관계를 메모리에서 조립하고,
+ * 카테고리별 하위 카테고리 ID 집합(자기 자신 포함)을 미리 계산해 둔다.
+ * 생성 이후 변경되지 않으므로 여러 스레드가 잠금 없이 공유한다.
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(List.of(), Map.of(), Map.of());
+
+    private final List<CategoryTreeResponse> roots;
+    private final Map<Long, Set<Long>> descendantIds;
+    private final Map<Long, Long> parentIds;
+
+    private CategoryTree(List<CategoryTreeResponse> roots, Map<Long, Set<Long>> descendantIds,
+                         Map<Long, Long> parentIds) {
+        this.roots = roots;
+        this.descendantIds = descendantIds;
+        this.parentIds = parentIds;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 카테고리 목록으로 트리 생성 (형제 간 순서: ID 오름차순).
+     * parent는 ID만 참조하므로 지연 로딩 프록시를 초기화하지 않는다.
+     */
+    public static CategoryTree of(List<Category> categories) {
+        Map<Long, List<Category>> childrenByParentId = new HashMap<>();
+        Map<Long, Long> parentIds = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+
+        for (Category category : categories) {
+            if (category.getParent() == null) {
+                rootCategories.add(category);
+            } else {
+                Long parentId = category.getParent().getId();
+                parentIds.put(category.getId(), parentId);
+                childrenByParentId
+                        .computeIfAbsent(parentId, id -> new ArrayList<>())
+                        .add(category);
+            }
+        }
+
+        Map<Long, Set<Long>> descendantIds = new HashMap<>();
+        List<CategoryTreeResponse> roots = build(rootCategories, childrenByParentId, descendantIds);
+        return new CategoryTree(roots, Collections.unmodifiableMap(descendantIds),
+                Collections.unmodifiableMap(parentIds));
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /** 최상위 카테고리부터 시작하는 전체 트리 */
+    public List<CategoryTreeResponse> roots() {
+        return roots;
+    }
+
+    public boolean contains(Long categoryId) {
+        return descendantIds.containsKey(categoryId);
+    }
+
+    /**
+     * 카테고리 자신과 모든 하위 카테고리 ID (없는 카테고리면 빈 집합).
+     */
+    public Set<Long> descendantIdsOf(Long categoryId) {
+        return descendantIds.getOrDefault(categoryId, Set.of());
+    }
+
+    /**
+     * 카테고리 자신과 모든 상위 카테고리 ID (자신 → 최상위 순).
+     */
+    public List<Long> pathOf(Long categoryId) {
+        List<Long> path = new ArrayList<>(3);
+        for (Long id = categoryId; id != null; id = parentIds.get(id)) {
+            path.add(id);
+        }
+        return path;
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 하위부터 노드를 만들며 각 노드의 하위 ID 집합을 채운다.
+     */
+    private static List<CategoryTreeResponse> build(List<Category> categories,
+                                                    Map<Long, List<Category>> childrenByParentId,
+                                                    Map<Long, Set<Long>> descendantIds) {
+        List<CategoryTreeResponse> nodes = new ArrayList<>();
+
+        categories.stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .forEach(category -> {
+                    List<CategoryTreeResponse> children = build(
+                            childrenByParentId.getOrDefault(category.getId(), List.of()),
+                            childrenByParentId, descendantIds);
+
+                    Set<Long> ids = new LinkedHashSet<>();
+                    ids.add(category.getId());
+                    children.forEach(child -> ids.addAll(descendantIds.get(child.getId())));
+                    descendantIds.put(category.getId(), Collections.unmodifiableSet(ids));
+
+                    nodes.add(new CategoryTreeResponse(
+                            category.getId(), category.getName(), category.getDepth(), children));
+                });
+
+        return List.copyOf(nodes);
+    }
+}
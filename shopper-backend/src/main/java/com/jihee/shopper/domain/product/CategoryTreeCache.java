@@ -0,0 +1,108 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.event.CategoryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 트리 메모리 캐시.
+ *
+ * <p>카테고리는 거의 바뀌지 않지만 모든 화면에서 읽으므로, 전체 트리를 {@link CategoryTree} 스냅샷으로
+ * 메모리에 두고 참조만 교체한다 (조회 시 DB·Redis 접근 없음). 최초 조회 시 생성한다.
+ *
+ * <p>무효화: 카테고리 변경 커밋 후 자신의 스냅샷을 다시 만들고 Redis 채널로 다른 서버에 알린다.
+ * <pre>
+ * Channel: "category:changed"
+ * Message: 발행 서버 ID (자신이 보낸 메시지는 무시)
+ * </pre>
+ * Redis 장애로 전파에 실패하면 다른 서버는 재시작 또는 다음 변경 시까지 이전 트리를 제공한다.
+ *
+ * <p>최초 생성은 DB 조회를 포함하므로 synchronized 대신 ReentrantLock으로 감싼다
+ * (가상 스레드가 synchronized 안에서 블로킹되면 캐리어 스레드를 점유한다).
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache implements MessageListener {
+
+    static final ChannelTopic CHANNEL = new ChannelTopic("category:changed");
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ReentrantLock initLock = new ReentrantLock();
+    private volatile CategoryTree snapshot;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    public CategoryTree get() {
+        CategoryTree current = snapshot;
+        if (current == null) {
+            initLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild();
+                }
+            } finally {
+                initLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    // ── 갱신 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 전체 카테고리를 한 번에 읽어 스냅샷 교체.
+     */
+    public CategoryTree rebuild() {
+        CategoryTree rebuilt = CategoryTree.of(categoryRepository.findAll());
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * 카테고리 변경 트랜잭션 커밋 이후 재생성 + 다른 서버에 전파.
+     */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), instanceId);
+        } catch (DataAccessException e) {
+            log.warn("[CategoryTreeCache] 변경 전파 실패 categoryId={}, message={}", event.categoryId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버의 변경 알림 수신.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!instanceId.equals(publisher)) {
+            rebuild();
+        }
+    }
+}
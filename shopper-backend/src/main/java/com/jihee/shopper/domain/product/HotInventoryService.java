@@ -0,0 +1,344 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.product.entity.StockDelta;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 한정 수량 상품 재고 서비스 (Redis 카운터).
+ *
+ * <p>hotItem 상품은 products.stock 단일 행에 주문이 몰리지 않도록 Redis 카운터에서 재고를 차감한다.
+ * <pre>
+ * Redis Key:   "INV:{productId}"
+ * Redis Value: 주문 가능 재고 (= products.stock + 미반영 stock_deltas 합계)
+ * </pre>
+ *
+ * <p>처리 흐름:
+ * <ol>
+ *   <li>Lua 스크립트로 주문 상품 전체를 한 번에 검증·차감 (전부 성공 또는 전부 실패)</li>
+ *   <li>같은 트랜잭션에 stock_deltas 기록 (커밋되면 유실되지 않음)</li>
+ *   <li>트랜잭션이 롤백되면 Redis 차감분을 되돌림</li>
+ *   <li>StockDeltaReconciler가 stock_deltas를 products.stock에 주기적으로 반영</li>
+ * </ol>
+ *
+ * <p>한정 수량 상품 목록은 서버마다 메모리에 두고, 모드 변경 커밋 후 Redis 채널로 다른 서버에 즉시 알린다.
+ * <pre>
+ * Channel: "hot-inventory:changed"
+ * Message: 발행 서버 ID (자신이 보낸 메시지는 무시)
+ * </pre>
+ * 알림을 받기 전(또는 전파 실패·기동 직후)이라도 products의 조건부 UPDATE가 hotItem 상품을 거부하므로
+ * DB 경로와 Redis 카운터가 같은 재고를 따로 팔지 않는다 (StockService가 Redis 카운터로 다시 보냄).
+ *
+ * <p>카운터가 없으면(Redis 재시작 등) DB 기준으로 재구성한다. 재구성은 상품 행을 FOR UPDATE로 잠근 뒤
+ * 재고와 미반영 변동분을 한 문장으로 읽으므로,
+ * <ul>
+ *   <li>StockDeltaReconciler의 반영(products UPDATE 후 stock_deltas 삭제)이 중간에 끼어들지 못하고</li>
+ *   <li>stock_deltas INSERT가 잡는 외래 키 잠금(FOR KEY SHARE)과 충돌해, 변동분을 기록한 채 진행 중인
+ *       주문 트랜잭션이 끝난 뒤에 읽는다 (db/stock_deltas.sql)</li>
+ * </ul>
+ * Lua 차감 직후 변동분 INSERT 전의 짧은 구간에 있는 주문만 이 잠금에 걸리지 않는다.
+ *
+ * <p>주문 트랜잭션 커밋 전에 서버가 중단되면 Redis 차감분만 남아 재고가 적게 보일 수 있으며(초과 판매 없음),
+ * 관리자 재구성(rebuild)으로 바로잡는다.
+ */
+@Slf4j
+@Service
+public class HotInventoryService implements MessageListener {
+
+    static final ChannelTopic CHANNEL = new ChannelTopic("hot-inventory:changed");
+
+    private static final String KEY_PREFIX = "INV:";
+
+    /** 전체 검증 후 일괄 차감 (1: 성공, 0: 재고 부족, -1: 카운터 없음) */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+              local stock = redis.call('GET', KEYS[i])
+              if not stock then return -1 end
+              if tonumber(stock) < tonumber(ARGV[i]) then return 0 end
+            end
+            for i = 1, #KEYS do
+              redis.call('DECRBY', KEYS[i], ARGV[i])
+            end
+            return 1
+            """, Long.class);
+
+    /** 카운터가 있는 경우에만 복구 (없는 키를 새로 만들지 않음) */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+              if redis.call('EXISTS', KEYS[i]) == 1 then
+                redis.call('INCRBY', KEYS[i], ARGV[i])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ProductRepository productRepository;
+    private final StockDeltaRepository stockDeltaRepository;
+    private final StockDeltaReconciler stockDeltaReconciler;
+    private final TransactionTemplate seedTransaction;
+
+    private volatile Set<Long> hotItemIds = Set.of();
+
+    public HotInventoryService(StringRedisTemplate redisTemplate,
+                               ProductRepository productRepository,
+                               StockDeltaRepository stockDeltaRepository,
+                               StockDeltaReconciler stockDeltaReconciler,
+                               RedisMessageListenerContainer listenerContainer,
+                               PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.stockDeltaRepository = stockDeltaRepository;
+        this.stockDeltaReconciler = stockDeltaReconciler;
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    public boolean isHot(Long productId) {
+        return hotItemIds.contains(productId);
+    }
+
+    /**
+     * 한정 수량 상품 ID 목록 갱신 (기동 시·주기적으로, 알림 유실 대비).
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void refreshHotItems() {
+        hotItemIds = Set.copyOf(productRepository.findHotItemIds());
+    }
+
+    /**
+     * 다른 서버의 모드 변경 알림 수신.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!instanceId.equals(publisher)) {
+            refreshHotItems();
+        }
+    }
+
+    // ── 재고 차감 / 복구 ────────────────────────────────────────────────────
+
+    /**
+     * Redis 카운터에서 재고 차감 (호출자 트랜잭션 필수).
+     *
+     * @return 한정 수량 모드가 해제된 것으로 확인되어 DB 경로로 처리해야 하는 상품 (상품 ID → 수량)
+     * @throws CustomException OUT_OF_STOCK — 재고 부족
+     */
+    @Transactional
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> managed = new TreeMap<>(quantities);
+        Map<Long, Integer> fallback = new HashMap<>();
+
+        for (int attempt = 0; attempt < 2 && !managed.isEmpty(); attempt++) {
+            Long result = execute(RESERVE_SCRIPT, managed);
+
+            if (result != null && result == 1L) {
+                recordDeltas(managed);
+                return fallback;
+            }
+            if (result != null && result == 0L) {
+                throw new CustomException(ErrorCode.OUT_OF_STOCK);
+            }
+
+            // 카운터 없음 → DB 기준 재구성, 모드가 해제된 상품은 DB 경로로 넘김
+            Iterator<Map.Entry<Long, Integer>> iterator = managed.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Integer> entry = iterator.next();
+                if (!initCounterIfHot(entry.getKey())) {
+                    fallback.put(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (!managed.isEmpty()) {
+            throw new IllegalStateException("Redis 재고 카운터를 초기화할 수 없습니다: " + managed.keySet());
+        }
+        return fallback;
+    }
+
+    /**
+     * 재고 복구 (주문 취소, 호출자 트랜잭션 필수).
+     * 변동분을 기록하고, 커밋된 뒤 Redis 카운터를 늘린다.
+     */
+    @Transactional
+    public void release(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        stockDeltaRepository.saveAll(toDeltas(sorted, 1));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                execute(RELEASE_SCRIPT, sorted);
+            }
+        });
+    }
+
+    // ── 관리자 ─────────────────────────────────────────────────────────────
+
+    /**
+     * 한정 수량 모드 설정. 커밋 후 DB 기준으로 카운터를 만든다.
+     */
+    @Transactional
+    public void enable(Long productId) {
+        Product product = findProductById(productId);
+        product.enableHotInventory();
+
+        afterCommit(() -> {
+            rebuild(productId);
+            refreshHotItems();
+            publishChange(productId);
+        });
+    }
+
+    /**
+     * 한정 수량 모드 해제. 미반영 변동분을 먼저 products.stock에 반영하고, 커밋 후 카운터를 삭제한다.
+     */
+    @Transactional
+    public void disable(Long productId) {
+        stockDeltaReconciler.flush(productId);
+
+        Product product = findProductById(productId);
+        product.disableHotInventory();
+
+        afterCommit(() -> {
+            redisTemplate.delete(KEY_PREFIX + productId);
+            refreshHotItems();
+            publishChange(productId);
+        });
+    }
+
+    /**
+     * DB 기준 카운터 재구성 (products.stock + 미반영 변동분).
+     *
+     * <p>관리자가 한정 수량 상품의 재고를 직접 수정한 경우 호출한다.
+     * 값을 읽은 뒤 덮어쓰기 전에 기존 카운터에서 차감된 주문은 덮어쓰기로 사라지므로 트래픽이 적을 때 실행한다.
+     */
+    public void rebuild(Long productId) {
+        seedCounter(productId, true);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * DB상 한정 수량 상품이면 카운터가 없을 때만 생성한다 (동시 재구성 시 덮어쓰기 방지).
+     */
+    private boolean initCounterIfHot(Long productId) {
+        boolean hot = productRepository.findHotItemById(productId).orElse(false);
+        if (!hot) {
+            log.info("[HotInventory] 한정 수량 모드 해제 확인, DB 경로로 처리 productId={}", productId);
+            return false;
+        }
+
+        seedCounter(productId, false);
+        return true;
+    }
+
+    /**
+     * 상품 행을 잠근 별도 트랜잭션에서 주문 가능 재고를 읽어 카운터에 기록한다.
+     *
+     * <p>잠금을 잡은 뒤 다음 문장에서 읽어야 잠금 대기 중 커밋된 반영·변동분이 보인다 (READ COMMITTED).
+     * 주문 트랜잭션 안에서 호출되어도 잠금은 카운터 기록 직후 풀린다.
+     */
+    private void seedCounter(Long productId, boolean overwrite) {
+        seedTransaction.executeWithoutResult(status -> {
+            productRepository.lockById(productId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+            String available = String.valueOf(productRepository.findAvailableStockById(productId).orElseThrow());
+
+            if (overwrite) {
+                redisTemplate.opsForValue().set(KEY_PREFIX + productId, available);
+            } else {
+                redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + productId, available);
+            }
+        });
+    }
+
+    /**
+     * 차감 변동분 기록 + 롤백 시 Redis 차감분 복구.
+     */
+    private void recordDeltas(Map<Long, Integer> reserved) {
+        stockDeltaRepository.saveAll(toDeltas(reserved, -1));
+
+        Map<Long, Integer> snapshot = new TreeMap<>(reserved);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    execute(RELEASE_SCRIPT, snapshot);
+                }
+            }
+        });
+    }
+
+    private List<StockDelta> toDeltas(Map<Long, Integer> quantities, int sign) {
+        List<StockDelta> deltas = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> deltas.add(StockDelta.of(productId, sign * quantity)));
+        return deltas;
+    }
+
+    private Long execute(RedisScript<Long> script, Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            keys.add(KEY_PREFIX + productId);
+            args.add(String.valueOf(quantity));
+        });
+        return redisTemplate.execute(script, keys, args.toArray());
+    }
+
+    private void publishChange(Long productId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), instanceId);
+        } catch (DataAccessException e) {
+            log.warn("[HotInventory] 모드 변경 전파 실패 productId={}, message={}", productId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Product findProductById(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+}
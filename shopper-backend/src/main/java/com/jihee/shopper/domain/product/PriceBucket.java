@@ -0,0 +1,23 @@
+package com.jihee.shopper.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 가격대 구간 (패싯 집계용, 원 단위).
+ *
+ * <p>하한 포함 · 상한 미포함이며, 마지막 구간은 상한이 없다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PriceBucket {
+    UNDER_10K(0, 10_000),
+    FROM_10K_TO_50K(10_000, 50_000),
+    FROM_50K_TO_100K(50_000, 100_000),
+    FROM_100K_TO_500K(100_000, 500_000),
+    FROM_500K_TO_1M(500_000, 1_000_000),
+    OVER_1M(1_000_000, null);
+
+    private final int min;
+    private final Integer max;  // 마지막 구간은 null
+}
@@ -0,0 +1,234 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductResponse;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 상세 2단계 캐시 (로컬 메모리 + Redis).
+ *
+ * <p>조회 순서: 로컬 → Redis → DB(ProductService). DB에서 읽은 결과는 두 단계 모두에 적재한다.
+ * <pre>
+ * Redis Key:   "PD:{productId}"
+ * Redis Value: CachedProduct { version, ProductResponse } (JDK 직렬화)
+ * </pre>
+ *
+ * <p>무효화: 상품 변경 트랜잭션이 커밋된 뒤 {@link ProductChangedEvent}를 받아 두 단계 모두 삭제한다.
+ * 로컬 캐시는 서버마다 따로 존재하므로 TTL을 짧게 두어 다른 서버의 변경도 곧 반영되게 한다.
+ *
+ * <p>Redis는 키를 지우는 대신 {@value #TOMBSTONE_TTL_SECONDS}초짜리 삭제 표시(tombstone)로 덮어쓰고,
+ * 적재는 키가 없을 때만(SET NX) 한다. 커밋 전에 시작된 DB 조회가 무효화 이후에 끝나더라도
+ * 이전 값을 다시 쓰지 못하며, 그동안의 조회는 캐시 없이 DB에서 읽는다.
+ *
+ * <p>주문에 의한 재고 변동은 무효화하지 않는다. 상세 화면의 재고는 TTL만큼 지연될 수 있으며,
+ * 실제 재고 검증은 주문 시점에 DB 기준으로 수행된다.
+ *
+ * <p>Redis 장애 시에는 로그만 남기고 DB 조회로 넘어간다 (캐시는 성능 최적화일 뿐 필수 경로가 아님).
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private static final String KEY_PREFIX = "PD:";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(5);
+    private static final long TOMBSTONE_TTL_SECONDS = 30;
+    private static final String TOMBSTONE = "EVICTED";
+    private static final long LOCAL_TTL_MILLIS = Duration.ofSeconds(10).toMillis();
+    private static final int LOCAL_MAX_SIZE = 1_000;
+
+    private final Map<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    public ProductCache(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Object> cacheRedisTemplate) {
+        this.cacheRedisTemplate = cacheRedisTemplate;
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시된 상품 상세 조회 (로컬 → Redis 순).
+     * Redis에서 찾은 경우 로컬 캐시에도 적재한다.
+     */
+    public Optional<ProductResponse> get(Long productId) {
+        LocalEntry local = localCache.get(productId);
+        if (local != null) {
+            if (!local.isExpired()) {
+                return Optional.of(local.response());
+            }
+            localCache.remove(productId, local);
+        }
+
+        CachedProduct remote = getFromRedis(productId);
+        if (remote == null) {
+            return Optional.empty();
+        }
+
+        putLocal(productId, remote.version(), remote.response());
+        return Optional.of(remote.response());
+    }
+
+    /**
+     * 여러 상품 상세를 한 번에 조회 (로컬 → Redis MGET 한 번).
+     *
+     * @return 캐시에 있는 상품만 담은 맵 (상품 ID → 상세)
+     */
+    public Map<Long, ProductResponse> getAll(Collection<Long> productIds) {
+        Map<Long, ProductResponse> found = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            LocalEntry local = localCache.get(productId);
+            if (local != null && !local.isExpired()) {
+                found.put(productId, local.response());
+            } else {
+                missedIds.add(productId);
+            }
+        }
+        if (missedIds.isEmpty()) {
+            return found;
+        }
+
+        List<Object> values;
+        try {
+            values = cacheRedisTemplate.opsForValue()
+                    .multiGet(missedIds.stream().map(productId -> KEY_PREFIX + productId).toList());
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[ProductCache] Redis 일괄 조회 실패 size={}, message={}", missedIds.size(), e.getMessage());
+            return found;
+        }
+        if (values == null) {
+            return found;
+        }
+
+        for (int i = 0; i < missedIds.size(); i++) {
+            if (values.get(i) instanceof CachedProduct remote) {
+                Long productId = missedIds.get(i);
+                putLocal(productId, remote.version(), remote.response());
+                found.put(productId, remote.response());
+            }
+        }
+        return found;
+    }
+
+    // ── 적재 ───────────────────────────────────────────────────────────────
+
+    /**
+     * DB에서 조회한 상품 상세를 두 단계 캐시에 적재한다.
+     * Redis에는 값이나 삭제 표시가 이미 있으면 쓰지 않는다.
+     *
+     * @param version 조회 시점의 Product @Version 값
+     */
+    public void put(Long productId, Long version, ProductResponse response) {
+        putLocal(productId, version, response);
+
+        try {
+            cacheRedisTemplate.opsForValue().setIfAbsent(
+                    KEY_PREFIX + productId,
+                    new CachedProduct(version, response),
+                    REDIS_TTL
+            );
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[ProductCache] Redis 적재 실패 productId={}, message={}", productId, e.getMessage());
+        }
+    }
+
+    // ── 무효화 ─────────────────────────────────────────────────────────────
+
+    /**
+     * 상품 변경 트랜잭션 커밋 이후 캐시 무효화.
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.productId());
+    }
+
+    /**
+     * 로컬 항목 삭제 + Redis 항목을 삭제 표시로 교체 (표시가 만료될 때까지 Redis 적재 차단).
+     */
+    public void evict(Long productId) {
+        localCache.remove(productId);
+
+        try {
+            cacheRedisTemplate.opsForValue().set(
+                    KEY_PREFIX + productId, TOMBSTONE, Duration.ofSeconds(TOMBSTONE_TTL_SECONDS));
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[ProductCache] Redis 삭제 실패 productId={}, message={}", productId, e.getMessage());
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private CachedProduct getFromRedis(Long productId) {
+        try {
+            Object value = cacheRedisTemplate.opsForValue().get(KEY_PREFIX + productId);
+            return value instanceof CachedProduct cached ? cached : null;
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[ProductCache] Redis 조회 실패 productId={}, message={}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로컬 캐시 적재. 이미 더 높은 version이 적재되어 있으면 덮어쓰지 않는다.
+     */
+    private void putLocal(Long productId, Long version, ProductResponse response) {
+        if (localCache.size() >= LOCAL_MAX_SIZE && !localCache.containsKey(productId)) {
+            evictOneLocal();
+        }
+
+        LocalEntry entry = new LocalEntry(version, response, System.currentTimeMillis() + LOCAL_TTL_MILLIS);
+        localCache.merge(productId, entry,
+                (current, candidate) -> isOlder(candidate.version(), current.version()) ? current : candidate);
+    }
+
+    /** 최대 크기 초과 시 임의의 항목 하나를 제거 (만료 항목 우선) */
+    private void evictOneLocal() {
+        Iterator<Map.Entry<Long, LocalEntry>> iterator = localCache.entrySet().iterator();
+        Map.Entry<Long, LocalEntry> victim = null;
+        while (iterator.hasNext()) {
+            Map.Entry<Long, LocalEntry> next = iterator.next();
+            if (next.getValue().isExpired()) {
+                victim = next;
+                break;
+            }
+            if (victim == null) {
+                victim = next;
+            }
+        }
+        if (victim != null) {
+            localCache.remove(victim.getKey(), victim.getValue());
+        }
+    }
+
+    private static boolean isOlder(Long candidate, Long current) {
+        return candidate != null && current != null && candidate < current;
+    }
+
+    // ── 캐시 항목 ──────────────────────────────────────────────────────────
+
+    private record LocalEntry(Long version, ProductResponse response, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    /** Redis 저장 단위 (Product version + 완성된 상세 응답) */
+    record CachedProduct(Long version, ProductResponse response) implements Serializable {
+    }
+}
@@ -1,8 +1,12 @@
 package com.jihee.shopper.domain.product;
 
+import com.jihee.shopper.domain.product.dto.BestSellerResponse;
+import com.jihee.shopper.domain.product.dto.ProductFacetResponse;
 import com.jihee.shopper.domain.product.dto.ProductListResponse;
 import com.jihee.shopper.domain.product.dto.ProductResponse;
+import com.jihee.shopper.domain.product.dto.ProductSuggestionResponse;
 import com.jihee.shopper.global.common.ApiResponse;
+import com.jihee.shopper.global.common.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,12 +15,20 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 상품 공개 API 컨트롤러.
  *
  * <pre>
- * GET /api/products       — 상품 목록 (페이징, 카테고리 필터)
- * GET /api/products/{id}  — 상품 상세
+ * GET /api/products        — 상품 목록 (페이징, 카테고리 필터)
+ * GET /api/products/cursor — 상품 목록 (커서 페이징, 카테고리 필터)
+ * GET /api/products/search — 상품 검색 (상품명·설명, 관련도순 커서 페이징)
+ * GET /api/products/autocomplete — 상품명 자동완성 (자모·초성 접두어, 판매량순)
+ * GET /api/products/facets — 카테고리별 · 가격대별 · 재고 여부별 상품 수
+ * GET /api/products/best-sellers — 판매량 상위 상품 (전체 또는 카테고리)
+ * GET /api/products/trending — 인기 급상승 상품 (최근 1h · 24h · 7d 주문 수량)
+ * GET /api/products/{id}   — 상품 상세
  * </pre>
  */
 @RestController
@@ -40,6 +52,105 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(products));
     }
 
+    /**
+     * 상품 목록 커서 조회 (공개, 전체 건수 없음).
+     *
+     * @param categoryId 카테고리 ID (선택적)
+     * @param sort       정렬 기준 (createdAt, price, salesCount)
+     * @param direction  정렬 방향 (기본: DESC)
+     * @param cursor     이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size       페이지 크기 (기본: 20, 최대: 100)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ProductListResponse>>> getProductsByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<ProductListResponse> products = productService.getProductsByCursor(
+                categoryId, ProductSortType.from(sort), direction, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
+    /**
+     * 상품 검색 (공개).
+     *
+     * @param keyword    검색어 (필수, 공백 기준 토큰 모두 포함하는 상품)
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
+     * @param minPrice   최소 가격 (선택적)
+     * @param maxPrice   최대 가격 (선택적)
+     * @param cursor     이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size       페이지 크기 (기본: 20, 최대: 100)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorResponse<ProductListResponse>>> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<ProductListResponse> products = productService.searchProducts(
+                keyword, categoryId, minPrice, maxPrice, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
+    /**
+     * 상품 목록 패싯 조회 (공개).
+     *
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
+     * @param minPrice   최소 가격 (선택적)
+     * @param maxPrice   최대 가격 (선택적)
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<ProductFacetResponse>> getFacets(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getFacets(categoryId, minPrice, maxPrice)));
+    }
+
+    /**
+     * 판매량 상위 상품 조회 (공개).
+     *
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
+     * @param size       최대 건수 (기본: 10, 최대: 50)
+     */
+    @GetMapping("/best-sellers")
+    public ResponseEntity<ApiResponse<List<BestSellerResponse>>> getBestSellers(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getBestSellers(categoryId, size)));
+    }
+
+    /**
+     * 인기 급상승 상품 조회 (공개).
+     *
+     * @param window 집계 구간 (1h, 24h, 7d, 기본: 24h)
+     * @param size   최대 건수 (기본: 10, 최대: 50)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<BestSellerResponse>>> getTrending(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                productService.getTrending(TrendingWindow.from(window), size)));
+    }
+
+    /**
+     * 상품명 자동완성 (공개).
+     *
+     * @param keyword 입력 중인 검색어 (예: "맥ㅂ", "ㅁㅂ", "노트부")
+     * @param size    최대 건수 (기본: 10, 최대: 20)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<ProductSuggestionResponse>>> getSuggestions(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(productService.getSuggestions(keyword, size)));
+    }
+
     /**
      * 상품 상세 조회 (공개).
      */
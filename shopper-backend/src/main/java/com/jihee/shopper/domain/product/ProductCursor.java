@@ -0,0 +1,81 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductListResponse;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (정렬 키 값 + id).
+ *
+ * <p>클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달한다.
+ * <pre>원문: "{sortType}|{direction}|{sortValue}|{id}"</pre>
+ *
+ * <p>정렬 기준이나 방향이 바뀐 요청에 이전 커서를 재사용하면 INVALID_CURSOR로 거부한다.
+ */
+public record ProductCursor(ProductSortType sortType, Sort.Direction direction, String sortValue, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 페이지의 마지막 상품으로 다음 커서 생성.
+     */
+    public static ProductCursor of(ProductSortType sortType, Sort.Direction direction, ProductListResponse last) {
+        String sortValue = switch (sortType) {
+            case CREATED_AT -> last.getCreatedAt().toString();
+            case PRICE -> String.valueOf(last.getPrice());
+            case SALES_COUNT -> String.valueOf(last.getSalesCount());
+        };
+        return new ProductCursor(sortType, direction, sortValue, last.getId());
+    }
+
+    /**
+     * 요청 커서 복원 (정렬 기준·방향 일치 검증 포함).
+     */
+    public static ProductCursor decode(String encoded, ProductSortType sortType, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4
+                    || ProductSortType.valueOf(parts[0]) != sortType
+                    || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            ProductCursor cursor = new ProductCursor(sortType, direction, parts[2], Long.parseLong(parts[3]));
+            cursor.validateSortValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + direction.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ── 정렬 키 값 변환 ──────────────────────────────────────────────────────
+
+    public LocalDateTime createdAtValue() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public Integer intValue() {
+        return Integer.valueOf(sortValue);
+    }
+
+    private void validateSortValue() {
+        if (sortType == ProductSortType.CREATED_AT) {
+            createdAtValue();
+        } else {
+            intValue();
+        }
+    }
+}
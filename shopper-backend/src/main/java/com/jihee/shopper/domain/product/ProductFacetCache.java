@@ -0,0 +1,85 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductFacetResponse;
+import com.jihee.shopper.domain.product.event.CategoryChangedEvent;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 패싯 로컬 캐시 (필터 조합별).
+ *
+ * <p>패싯은 전체 상품 집계라 상품 하나만 바뀌어도 모든 항목이 영향을 받으므로,
+ * 상품·카테고리 변경 커밋 후 전체를 비운다. 주문에 의한 재고 변동과 다른 서버의 변경은 TTL로 반영한다.
+ *
+ * <p>집계 도중 무효화가 일어나면 이전 데이터로 계산한 결과를 적재하지 않도록 세대 번호를 비교한다.
+ */
+@Component
+public class ProductFacetCache {
+
+    private static final long TTL_MILLIS = Duration.ofSeconds(60).toMillis();
+    private static final int MAX_SIZE = 500;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 패싯 반환, 없거나 만료되었으면 loader로 집계해 적재한다.
+     */
+    public ProductFacetResponse get(Long categoryId, Integer minPrice, Integer maxPrice,
+                                    Supplier<ProductFacetResponse> loader) {
+        Key key = new Key(categoryId, minPrice, maxPrice);
+        Entry entry = cache.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry.response();
+        }
+
+        long loadedGeneration = generation.get();
+        ProductFacetResponse response = loader.get();
+
+        if (cache.size() >= MAX_SIZE) {
+            cache.clear();
+        }
+        Entry loaded = new Entry(response, System.currentTimeMillis() + TTL_MILLIS);
+        cache.put(key, loaded);
+        if (generation.get() != loadedGeneration) {
+            cache.remove(key, loaded);
+        }
+        return response;
+    }
+
+    // ── 무효화 ─────────────────────────────────────────────────────────────
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        clear();
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    // ── 캐시 항목 ──────────────────────────────────────────────────────────
+
+    /** 필터 조합 (카테고리, 최소 가격, 최대 가격) */
+    private record Key(Long categoryId, Integer minPrice, Integer maxPrice) {
+    }
+
+    private record Entry(ProductFacetResponse response, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
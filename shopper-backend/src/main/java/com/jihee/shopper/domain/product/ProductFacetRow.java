@@ -0,0 +1,9 @@
+package com.jihee.shopper.domain.product;
+
+/**
+ * 패싯 집계 그룹 한 행 (카테고리 × 가격대 × 재고 여부 → 상품 수).
+ *
+ * @param priceBucket {@link PriceBucket#ordinal()}
+ */
+public record ProductFacetRow(Long categoryId, int priceBucket, boolean inStock, long count) {
+}
@@ -2,17 +2,23 @@ package com.jihee.shopper.domain.product;
 
 import com.jihee.shopper.domain.product.entity.Product;
 import com.jihee.shopper.domain.product.entity.ProductStatus;
+import com.jihee.shopper.domain.product.search.ProductSearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 상품 리포지토리.
  *
- * <p>QueryDSL 동적 쿼리는 ProductRepositoryCustom으로 확장 예정.
+ * <p>QueryDSL 동적 쿼리는 ProductRepositoryCustom으로 확장한다 (ADR-01-003).
  */
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     /**
      * 카테고리별 상품 목록 조회 (상태 필터링).
@@ -24,9 +30,119 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Page<Product> findByStatus(ProductStatus status, Pageable pageable);
 
+    /**
+     * 상품 상세 조회 (카테고리 + 이미지 fetch join, 단일 쿼리).
+     */
+    @Query("SELECT DISTINCT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.images WHERE p.id = :productId")
+    Optional<Product> findDetailById(Long productId);
+
+    /**
+     * 여러 ACTIVE 상품 상세 조회 (카테고리 + 이미지 fetch join, 랭킹 캐시 적재용).
+     */
+    @Query("SELECT DISTINCT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.images "
+            + "WHERE p.id IN :productIds "
+            + "AND p.status = com.jihee.shopper.domain.product.entity.ProductStatus.ACTIVE")
+    List<Product> findActiveDetailsByIdIn(Collection<Long> productIds);
+
+    /**
+     * 조건부 재고 차감 (재고가 충분할 때만 1행 갱신).
+     *
+     * <p>관리자 수정과의 충돌 감지를 위해 version도 함께 증가시킨다.
+     * 한정 수량 상품은 Redis 카운터와 따로 팔리지 않도록 갱신하지 않는다 (다른 서버가 아직 모드 변경을 모르는 경우 대비).
+     *
+     * @return 갱신된 행 수 (0이면 재고 부족, 상품 없음 또는 한정 수량 상품)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :productId AND p.stock >= :quantity AND p.hotItem = false")
+    int decreaseStock(Long productId, int quantity);
+
+    /**
+     * 재고 복구 (주문 취소, 한정 수량 상품은 갱신하지 않음).
+     *
+     * @return 갱신된 행 수 (0이면 상품 없음 또는 한정 수량 상품)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :productId AND p.hotItem = false")
+    int increaseStock(Long productId, int quantity);
+
+    /**
+     * 재고 변동분 반영 (StockDeltaReconciler, delta: 음수 차감 / 양수 복구).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta, p.version = p.version + 1 "
+            + "WHERE p.id = :productId")
+    int applyStockDelta(Long productId, int delta);
+
+    /**
+     * 재고 수량만 조회.
+     */
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :productId")
+    Optional<Integer> findStockById(Long productId);
+
+    /**
+     * 상품 행 FOR UPDATE 잠금 (Redis 재고 카운터 재구성용).
+     *
+     * <p>PESSIMISTIC_WRITE는 PostgreSQL에서 FOR NO KEY UPDATE로 바뀌어 stock_deltas INSERT의
+     * 외래 키 잠금(FOR KEY SHARE)과 충돌하지 않으므로 네이티브 쿼리로 FOR UPDATE를 명시한다.
+     */
+    @Query(value = "SELECT id FROM products WHERE id = :productId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(Long productId);
+
+    /**
+     * 주문 가능 재고 (products.stock + 미반영 stock_deltas 합계)를 한 문장으로 조회.
+     */
+    @Query("SELECT p.stock + COALESCE((SELECT SUM(d.quantity) FROM StockDelta d WHERE d.productId = p.id), 0) "
+            + "FROM Product p WHERE p.id = :productId")
+    Optional<Long> findAvailableStockById(Long productId);
+
+    /**
+     * 한정 수량 상품 여부만 조회.
+     */
+    @Query("SELECT p.hotItem FROM Product p WHERE p.id = :productId")
+    Optional<Boolean> findHotItemById(Long productId);
+
+    /**
+     * 한정 수량 상품 ID 목록.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.hotItem = true")
+    List<Long> findHotItemIds();
+
+    /**
+     * ACTIVE 상품 전체 검색 색인용 프로젝션 (InMemoryProductSearchEngine, ProductAutocompleteIndex).
+     */
+    @Query("SELECT new com.jihee.shopper.domain.product.search.ProductSearchDocument("
+            + "p.id, p.category.id, p.name, p.description, p.price, p.salesCount) "
+            + "FROM Product p WHERE p.status = com.jihee.shopper.domain.product.entity.ProductStatus.ACTIVE")
+    List<ProductSearchDocument> findAllSearchDocuments();
+
+    /**
+     * ACTIVE 상품 한 건 검색 색인용 프로젝션 (비활성·삭제 상품이면 빈 값).
+     */
+    @Query("SELECT new com.jihee.shopper.domain.product.search.ProductSearchDocument("
+            + "p.id, p.category.id, p.name, p.description, p.price, p.salesCount) "
+            + "FROM Product p WHERE p.id = :productId "
+            + "AND p.status = com.jihee.shopper.domain.product.entity.ProductStatus.ACTIVE")
+    Optional<ProductSearchDocument> findSearchDocumentById(Long productId);
+
+    /**
+     * 판매 이력이 있는 ACTIVE 상품의 누적 판매량 (BestSellerRanking 재구성용).
+     */
+    @Query("SELECT new com.jihee.shopper.domain.product.ProductSalesRow(p.id, p.category.id, p.salesCount) "
+            + "FROM Product p WHERE p.salesCount > 0 "
+            + "AND p.status = com.jihee.shopper.domain.product.entity.ProductStatus.ACTIVE")
+    List<ProductSalesRow> findAllSalesRows();
+
     /**
      * 특정 카테고리의 상품 수 조회 (ADR-03-008: 카테고리 삭제 검증용).
      */
     @Query("SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId")
     long countByCategoryId(Long categoryId);
+
+    /**
+     * 여러 카테고리의 상품 수 조회 (하위 카테고리까지 포함한 삭제 검증용).
+     */
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.category.id IN :categoryIds")
+    long countByCategoryIdIn(Collection<Long> categoryIds);
 }
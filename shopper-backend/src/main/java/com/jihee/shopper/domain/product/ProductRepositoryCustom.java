@@ -0,0 +1,51 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 QueryDSL 동적 쿼리 인터페이스 (ADR-01-003).
+ *
+ * <p>목록 조회는 엔티티 대신 ProductListResponse 프로젝션을 반환한다.
+ * 대표 이미지는 product_images를 isMain 조건으로 LEFT JOIN해 같은 SQL에서 읽는다.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * ACTIVE 상품 목록 페이징 조회 (OFFSET + COUNT).
+     *
+     * @param categoryIds 카테고리 ID 집합 ({@code category_id IN (...)}, null이면 전체)
+     */
+    Page<ProductListResponse> findActivePage(Collection<Long> categoryIds, Pageable pageable);
+
+    /**
+     * ACTIVE 상품 커서(keyset) 조회.
+     *
+     * <p>OFFSET / COUNT 없이 {@code (정렬 키, id)}가 커서 다음인 행부터 limit건을 읽는다.
+     *
+     * @param categoryIds 카테고리 ID 집합 ({@code category_id IN (...)}, null이면 전체)
+     * @param cursor     이전 페이지 마지막 행 (null이면 첫 페이지)
+     * @param limit      조회 건수 (다음 페이지 여부 판단용으로 size + 1을 전달)
+     */
+    List<ProductListResponse> findActiveByCursor(Collection<Long> categoryIds, ProductSortType sortType,
+                                                 Sort.Direction direction, ProductCursor cursor, int limit);
+
+    /**
+     * ID 목록으로 ACTIVE 상품 목록 프로젝션 조회 (검색 결과 조립용, 순서 보장 없음).
+     */
+    List<ProductListResponse> findActiveByIds(Collection<Long> productIds);
+
+    /**
+     * ACTIVE 상품 패싯 집계 (카테고리 × 가격대 × 재고 여부 GROUP BY, 단일 SQL).
+     *
+     * @param categoryIds 카테고리 ID 집합 (null이면 전체)
+     * @param minPrice    최소 가격 (null이면 제한 없음)
+     * @param maxPrice    최대 가격 (null이면 제한 없음)
+     */
+    List<ProductFacetRow> countFacets(Collection<Long> categoryIds, Integer minPrice, Integer maxPrice);
+}
@@ -0,0 +1,247 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductListResponse;
+import com.jihee.shopper.domain.product.dto.QProductListResponse;
+import com.jihee.shopper.domain.product.entity.ProductStatus;
+import com.jihee.shopper.domain.product.entity.QProductImage;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.jihee.shopper.domain.product.entity.QProduct.product;
+import static com.jihee.shopper.domain.product.entity.QProductImage.productImage;
+
+/**
+ * 상품 QueryDSL 동적 쿼리 구현 (ADR-01-003).
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    /** Pageable 정렬에 허용하는 속성 (그 외 속성은 400) */
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+            "id", product.id,
+            "name", product.name,
+            "price", product.price,
+            "stock", product.stock,
+            "salesCount", product.salesCount,
+            "createdAt", product.createdAt
+    );
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<ProductListResponse> findActivePage(Collection<Long> categoryIds, Pageable pageable) {
+        List<ProductListResponse> content = selectListResponse()
+                .where(
+                        product.status.eq(ProductStatus.ACTIVE),
+                        categoryIdIn(categoryIds)
+                )
+                .orderBy(pageableOrders(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(
+                        product.status.eq(ProductStatus.ACTIVE),
+                        categoryIdIn(categoryIds)
+                );
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<ProductListResponse> findActiveByCursor(Collection<Long> categoryIds, ProductSortType sortType,
+                                                        Sort.Direction direction, ProductCursor cursor, int limit) {
+        boolean asc = direction.isAscending();
+
+        return selectListResponse()
+                .where(
+                        product.status.eq(ProductStatus.ACTIVE),
+                        categoryIdIn(categoryIds),
+                        afterCursor(sortType, asc, cursor)
+                )
+                .orderBy(sortOrder(sortKey(sortType), asc), sortOrder(product.id, asc))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductListResponse> findActiveByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectListResponse()
+                .where(
+                        product.status.eq(ProductStatus.ACTIVE),
+                        product.id.in(productIds)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<ProductFacetRow> countFacets(Collection<Long> categoryIds, Integer minPrice, Integer maxPrice) {
+        NumberExpression<Integer> priceBucket = priceBucket();
+        NumberExpression<Integer> inStock = Expressions.numberTemplate(Integer.class,
+                "case when {0} > 0 then 1 else 0 end", product.stock);
+        NumberExpression<Long> count = product.count();
+
+        return queryFactory
+                .select(product.category.id, priceBucket, inStock, count)
+                .from(product)
+                .where(
+                        product.status.eq(ProductStatus.ACTIVE),
+                        categoryIdIn(categoryIds),
+                        minPrice != null ? product.price.goe(minPrice) : null,
+                        maxPrice != null ? product.price.loe(maxPrice) : null
+                )
+                .groupBy(product.category.id, priceBucket, inStock)
+                .fetch()
+                .stream()
+                .map(row -> new ProductFacetRow(
+                        row.get(product.category.id),
+                        row.get(priceBucket),
+                        row.get(inStock) == 1,
+                        row.get(count)
+                ))
+                .toList();
+    }
+
+    // ── 프로젝션 ───────────────────────────────────────────────────────────
+
+    /**
+     * 목록 프로젝션 (상품 컬럼 + 대표 이미지 URL, 단일 SQL).
+     *
+     * <p>대표 이미지가 여러 장이어도 상품당 한 행만 나오도록 id가 가장 작은 대표 이미지만 조인한다.
+     */
+    private JPAQuery<ProductListResponse> selectListResponse() {
+        QProductImage mainImage = new QProductImage("mainImage");
+
+        return queryFactory
+                .select(new QProductListResponse(
+                        product.id,
+                        product.name,
+                        product.price,
+                        product.stock,
+                        product.status,
+                        product.salesCount,
+                        productImage.url,
+                        product.createdAt
+                ))
+                .from(product)
+                .leftJoin(productImage)
+                .on(productImage.product.id.eq(product.id),
+                        productImage.isMain.isTrue(),
+                        productImage.id.eq(JPAExpressions
+                                .select(mainImage.id.min())
+                                .from(mainImage)
+                                .where(mainImage.product.id.eq(product.id), mainImage.isMain.isTrue())));
+    }
+
+    // ── 조건 ───────────────────────────────────────────────────────────────
+
+    private BooleanExpression categoryIdIn(Collection<Long> categoryIds) {
+        return categoryIds != null ? product.category.id.in(categoryIds) : null;
+    }
+
+    /**
+     * keyset 조건: {@code key > c OR (key = c AND id > cid)} (DESC면 부등호 반대).
+     */
+    private BooleanExpression afterCursor(ProductSortType sortType, boolean asc, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (sortType) {
+            case CREATED_AT -> keyset(product.createdAt, cursor.createdAtValue(), cursor.id(), asc);
+            case PRICE -> keyset(product.price, cursor.intValue(), cursor.id(), asc);
+            case SALES_COUNT -> keyset(product.salesCount, cursor.intValue(), cursor.id(), asc);
+        };
+    }
+
+    private <T extends Comparable<?>> BooleanExpression keyset(ComparableExpression<T> key, T value,
+                                                               Long id, boolean asc) {
+        BooleanExpression beyond = asc ? key.gt(value) : key.lt(value);
+        return beyond.or(key.eq(value).and(idBeyond(id, asc)));
+    }
+
+    private <T extends Number & Comparable<?>> BooleanExpression keyset(NumberExpression<T> key, T value,
+                                                                        Long id, boolean asc) {
+        BooleanExpression beyond = asc ? key.gt(value) : key.lt(value);
+        return beyond.or(key.eq(value).and(idBeyond(id, asc)));
+    }
+
+    private BooleanExpression idBeyond(Long id, boolean asc) {
+        return asc ? product.id.gt(id) : product.id.lt(id);
+    }
+
+    /**
+     * 가격 → PriceBucket 순번 ({@code case when price < 10000 then 0 when ... else 5 end}).
+     *
+     * <p>SELECT와 GROUP BY의 식이 같은 SQL이 되도록 경계값을 바인딩 파라미터가 아닌 리터럴로 넣는다.
+     */
+    private NumberExpression<Integer> priceBucket() {
+        PriceBucket[] buckets = PriceBucket.values();
+        StringBuilder template = new StringBuilder("case");
+        for (int i = 0; i < buckets.length - 1; i++) {
+            template.append(" when {0} < ").append(buckets[i].getMax()).append(" then ").append(i);
+        }
+        template.append(" else ").append(buckets.length - 1).append(" end");
+        return Expressions.numberTemplate(Integer.class, template.toString(), product.price);
+    }
+
+    // ── 정렬 ───────────────────────────────────────────────────────────────
+
+    private ComparableExpressionBase<?> sortKey(ProductSortType sortType) {
+        return switch (sortType) {
+            case CREATED_AT -> product.createdAt;
+            case PRICE -> product.price;
+            case SALES_COUNT -> product.salesCount;
+        };
+    }
+
+    private OrderSpecifier<?> sortOrder(ComparableExpressionBase<?> key, boolean asc) {
+        return asc ? key.asc() : key.desc();
+    }
+
+    /**
+     * Pageable의 Sort를 허용된 Product 속성의 OrderSpecifier로 변환한다.
+     *
+     * @throws CustomException INVALID_INPUT — 정렬할 수 없는 속성
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] pageableOrders(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> key = SORTABLE.get(order.getProperty());
+            if (key == null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT, "정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, key));
+        }
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jihee.shopper.domain.product;
+
+/**
+ * 판매 랭킹 재구성용 상품 한 행 (상품 ID, 카테고리 ID, 누적 판매량).
+ */
+public record ProductSalesRow(Long productId, Long categoryId, Integer salesCount) {
+}
@@ -1,72 +1,207 @@
 package com.jihee.shopper.domain.product;
 
+import com.jihee.shopper.domain.product.dto.BestSellerResponse;
+import com.jihee.shopper.domain.product.dto.ProductFacetResponse;
 import com.jihee.shopper.domain.product.dto.ProductListResponse;
 import com.jihee.shopper.domain.product.dto.ProductRequest;
 import com.jihee.shopper.domain.product.dto.ProductResponse;
+import com.jihee.shopper.domain.product.dto.ProductSuggestionResponse;
 import com.jihee.shopper.domain.product.entity.Category;
 import com.jihee.shopper.domain.product.entity.Product;
 import com.jihee.shopper.domain.product.entity.ProductImage;
 import com.jihee.shopper.domain.product.entity.ProductStatus;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import com.jihee.shopper.domain.product.search.ProductAutocompleteIndex;
+import com.jihee.shopper.domain.product.search.ProductSearchCondition;
+import com.jihee.shopper.domain.product.search.ProductSearchCursor;
+import com.jihee.shopper.domain.product.search.ProductSearchEngine;
+import com.jihee.shopper.domain.product.search.ProductSearchHit;
+import com.jihee.shopper.global.common.CursorResponse;
 import com.jihee.shopper.global.exception.CustomException;
 import com.jihee.shopper.global.exception.ErrorCode;
 //import com.jihee.shopper.infra.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 상품 서비스.
  *
  * <p>공개 조회 API와 관리자 CRUD를 처리한다.
+ * 상품 상세는 ProductCache를 거쳐 조회하며, 변경 시 ProductChangedEvent로 캐시를 무효화한다.
+ * 카테고리 필터는 CategoryTreeCache의 하위 카테고리 ID 집합으로 풀어 한 번의 IN 조건으로 조회한다.
  */
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private static final int MAX_IMAGES_PER_PRODUCT = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_RANKING_SIZE = 50;
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductImageRepository productImageRepository;
+    private final ProductCache productCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ProductSearchEngine productSearchEngine;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final ProductFacetCache productFacetCache;
+    private final BestSellerRanking bestSellerRanking;
+    private final TrendingRanking trendingRanking;
+    private final RankingProductWarmer rankingProductWarmer;
+    private final ApplicationEventPublisher eventPublisher;
 //    private final S3Uploader s3Uploader;
 
     // ── 공개 조회 API ───────────────────────────────────────────────────────
 
     /**
-     * 상품 목록 조회 (카테고리 필터 선택적, ACTIVE 상품만).
+     * 상품 목록 조회 (카테고리 필터 선택적, 하위 카테고리 포함, ACTIVE 상품만).
      */
     @Transactional(readOnly = true)
     public Page<ProductListResponse> getProducts(Long categoryId, Pageable pageable) {
-        Page<Product> products;
+        return productRepository.findActivePage(subtreeIds(categoryId), pageable);
+    }
+
+    /**
+     * 상품 목록 커서 조회 (카테고리 필터 선택적, 하위 카테고리 포함, ACTIVE 상품만).
+     *
+     * <p>OFFSET/COUNT 없이 keyset 조건으로 읽으므로 페이지 깊이와 무관하게 일정한 비용이 든다.
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단한다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductListResponse> getProductsByCursor(Long categoryId, ProductSortType sortType,
+                                                                   Sort.Direction direction, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        ProductCursor after = cursor != null ? ProductCursor.decode(cursor, sortType, direction) : null;
+
+        List<ProductListResponse> products = productRepository.findActiveByCursor(
+                subtreeIds(categoryId), sortType, direction, after, pageSize + 1);
+
+        boolean hasNext = products.size() > pageSize;
+        List<ProductListResponse> content = hasNext ? products.subList(0, pageSize) : products;
+        String nextCursor = hasNext
+                ? ProductCursor.of(sortType, direction, content.get(pageSize - 1)).encode()
+                : null;
 
-        if (categoryId != null) {
-            products = productRepository.findByCategoryIdAndStatus(
-                    categoryId, ProductStatus.ACTIVE, pageable);
-        } else {
-            products = productRepository.findByStatus(ProductStatus.ACTIVE, pageable);
+        return CursorResponse.of(content, pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * 상품 검색 (공개, 상품명·설명 전문 검색, 관련도순 커서 페이징).
+     *
+     * <p>검색 엔진은 정렬된 상품 ID와 점수만 돌려주고, 목록 응답은 ID IN 조건 한 번으로 조립한다.
+     *
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
+     * @param cursor     이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductListResponse> searchProducts(String keyword, Long categoryId,
+                                                              Integer minPrice, Integer maxPrice,
+                                                              String cursor, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
         }
 
-        return products.map(ProductListResponse::from);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        ProductSearchCursor after = cursor != null ? ProductSearchCursor.decode(cursor) : null;
+        ProductSearchCondition condition = new ProductSearchCondition(
+                keyword, subtreeIds(categoryId), minPrice, maxPrice);
+
+        List<ProductSearchHit> hits = productSearchEngine.search(condition, after, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<ProductSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        Map<Long, ProductListResponse> byId = productRepository
+                .findActiveByIds(pageHits.stream().map(ProductSearchHit::productId).toList()).stream()
+                .collect(Collectors.toMap(ProductListResponse::getId, Function.identity()));
+        List<ProductListResponse> content = pageHits.stream()
+                .map(hit -> byId.get(hit.productId()))
+                .filter(Objects::nonNull)
+                .toList();
+        String nextCursor = hasNext ? ProductSearchCursor.of(pageHits.get(pageSize - 1)).encode() : null;
+
+        return CursorResponse.of(content, pageSize, hasNext, nextCursor);
     }
 
     /**
-     * 상품 상세 조회 (ACTIVE 상품만).
+     * 상품 목록 패싯 조회 (공개, 카테고리별 · 가격대별 · 재고 여부별 상품 수).
+     *
+     * <p>GROUP BY 한 번으로 집계하고 필터 조합별로 캐시한다.
+     *
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
      */
     @Transactional(readOnly = true)
-    public ProductResponse getProduct(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+    public ProductFacetResponse getFacets(Long categoryId, Integer minPrice, Integer maxPrice) {
+        return productFacetCache.get(categoryId, minPrice, maxPrice, () -> ProductFacetResponse.of(
+                productRepository.countFacets(subtreeIds(categoryId), minPrice, maxPrice),
+                categoryTreeCache.get()
+        ));
+    }
 
-        if (product.getStatus() != ProductStatus.ACTIVE) {
-            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
-        }
+    /**
+     * 상품명 자동완성 (공개, 메모리 색인, DB 조회 없음).
+     *
+     * @param size 최대 건수 (기본: 10, 최대: 20)
+     */
+    public List<ProductSuggestionResponse> getSuggestions(String keyword, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+        return productAutocompleteIndex.suggest(keyword, limit);
+    }
 
-        return ProductResponse.from(product);
+    /**
+     * 판매량 상위 상품 (공개, 판매량 내림차순).
+     *
+     * <p>순위는 BestSellerRanking(Redis ZSET)에서 읽는다.
+     *
+     * @param categoryId 카테고리 ID (선택적, 하위 카테고리 포함)
+     * @param size       최대 건수 (기본: 10, 최대: 50)
+     */
+    public List<BestSellerResponse> getBestSellers(Long categoryId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_RANKING_SIZE));
+        return toRankingResponses(bestSellerRanking.top(categoryId, limit * 2), limit);
+    }
+
+    /**
+     * 인기 급상승 상품 (공개, 최근 구간 주문 수량 내림차순).
+     *
+     * <p>순위는 TrendingRanking의 메모리 스냅샷에서 읽는다 (최대 10초 지연).
+     *
+     * @param window 집계 구간 (1h, 24h, 7d)
+     * @param size   최대 건수 (기본: 10, 최대: 50)
+     */
+    public List<BestSellerResponse> getTrending(TrendingWindow window, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_RANKING_SIZE));
+        return toRankingResponses(trendingRanking.top(window, limit * 2), limit);
+    }
+
+    /**
+     * 상품 상세 조회 (ACTIVE 상품만, read-through 캐시).
+     *
+     * <p>캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 두지 않는다.
+     * 캐시 미스 시 fetch join 단일 쿼리로 카테고리·이미지까지 읽어 응답을 만든다.
+     */
+    public ProductResponse getProduct(Long productId) {
+        return productCache.get(productId)
+                .orElseGet(() -> loadProduct(productId));
     }
 
     // ── 관리자 CRUD ─────────────────────────────────────────────────────────
@@ -87,6 +222,7 @@ public class ProductService {
         );
 
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         return ProductResponse.from(product);
     }
 
@@ -106,6 +242,7 @@ public class ProductService {
                 request.getStock()
         );
 
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         return ProductResponse.from(product);
     }
 
@@ -116,6 +253,7 @@ public class ProductService {
     public void deleteProduct(Long productId) {
         Product product = findProductById(productId);
         product.deactivate();  // status = INACTIVE (이미지는 유지, ADR-03-018)
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     // ── 이미지 업로드 ───────────────────────────────────────────────────────
@@ -161,6 +299,7 @@ public class ProductService {
                 (int) imageCount  // sortOrder
         );
         productImageRepository.save(productImage);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
 
         return imageUrl;
     }
@@ -183,10 +322,66 @@ public class ProductService {
 
         // DB 삭제
         productImageRepository.delete(image);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     // ── 내부 공용 ──────────────────────────────────────────────────────────
 
+    /**
+     * 카테고리 필터 → 자신과 모든 하위 카테고리 ID (CategoryTree 스냅샷 기준).
+     * 스냅샷에 아직 없는 카테고리(다른 서버에서 방금 생성 등)는 자기 자신만 조회한다.
+     */
+    private Set<Long> subtreeIds(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Set<Long> ids = categoryTreeCache.get().descendantIdsOf(categoryId);
+        return ids.isEmpty() ? Set.of(categoryId) : ids;
+    }
+
+    /**
+     * 랭킹 항목에 상품 정보를 채운다 (비활성 상품은 제외하고 순위를 매김, 최대 limit건).
+     *
+     * <p>상품 정보는 상품 상세 캐시(로컬 + Redis MGET 한 번)에서 채우고, 캐시에 없는 상품은
+     * RankingProductWarmer가 IN 조회 한 번으로 읽어 캐시에 적재한 뒤 채운다.
+     */
+    private List<BestSellerResponse> toRankingResponses(List<RankedProduct> ranked, int limit) {
+        List<Long> productIds = ranked.stream().map(RankedProduct::productId).toList();
+        Map<Long, ProductResponse> details = new HashMap<>(productCache.getAll(productIds));
+
+        List<Long> missedIds = productIds.stream()
+                .filter(productId -> !details.containsKey(productId))
+                .toList();
+        if (!missedIds.isEmpty()) {
+            details.putAll(rankingProductWarmer.load(missedIds));
+        }
+
+        List<BestSellerResponse> responses = new ArrayList<>(limit);
+        for (RankedProduct rankedProduct : ranked) {
+            ProductResponse product = details.get(rankedProduct.productId());
+            if (product != null && responses.size() < limit) {
+                responses.add(BestSellerResponse.of(responses.size() + 1, rankedProduct.soldCount(), product));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 상품 상세를 읽어 캐시에 적재한다.
+     */
+    private ProductResponse loadProduct(Long productId) {
+        Product product = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        if (product.getStatus() != ProductStatus.ACTIVE) {
+            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        ProductResponse response = ProductResponse.from(product);
+        productCache.put(productId, product.getVersion(), response);
+        return response;
+    }
+
     private Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
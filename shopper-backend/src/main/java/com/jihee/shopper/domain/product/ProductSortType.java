@@ -0,0 +1,33 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 페이징 상품 목록의 정렬 기준.
+ *
+ * <p>각 정렬은 (정렬 키, id) 복합 키로 순서를 고정한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductSortType {
+    CREATED_AT("createdAt"),    // 등록일
+    PRICE("price"),             // 가격
+    SALES_COUNT("salesCount");  // 판매량 (ADR-03-009)
+
+    private final String property;
+
+    /**
+     * 요청 파라미터(엔티티 필드명)로 정렬 기준 조회.
+     */
+    public static ProductSortType from(String property) {
+        for (ProductSortType type : values()) {
+            if (type.property.equals(property)) {
+                return type;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT, "지원하지 않는 정렬 기준입니다: " + property);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jihee.shopper.domain.product;
+
+/**
+ * 판매 랭킹 한 항목 (상품 ID, 랭킹 기준 판매 수량).
+ */
+public record RankedProduct(Long productId, long soldCount) {
+}
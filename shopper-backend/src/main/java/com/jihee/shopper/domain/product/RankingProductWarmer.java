@@ -0,0 +1,50 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductResponse;
+import com.jihee.shopper.domain.product.entity.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 상품 상세 캐시 적재.
+ *
+ * <p>판매 랭킹·인기 급상승 조회는 상품 정보를 ProductCache에서 먼저 채우고,
+ * 캐시에 없던 상품만 모아 fetch join 한 번으로 읽어 캐시에 적재한다 (조회당 DB 왕복 최대 한 번).
+ * 캐시 미스 상품을 응답에서 빼지 않으므로 순위가 비지 않는다.
+ *
+ * <p>비활성 상품은 적재되지 않으므로 랭킹에 남아 있는 동안 조회마다 다시 읽힌다 (IN 조회 한 번에 포함).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingProductWarmer {
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+
+    /**
+     * 캐시에 없던 상품 상세를 읽어 캐시에 적재한다.
+     *
+     * @return 적재한 ACTIVE 상품 (상품 ID → 상세), 비활성·삭제 상품은 빠짐
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ProductResponse> load(Collection<Long> productIds) {
+        List<Product> products = productRepository.findActiveDetailsByIdIn(productIds);
+
+        Map<Long, ProductResponse> loaded = new HashMap<>();
+        for (Product product : products) {
+            ProductResponse response = ProductResponse.from(product);
+            productCache.put(product.getId(), product.getVersion(), response);
+            loaded.put(product.getId(), response);
+        }
+        log.debug("[RankingProductWarmer] 요청 {}건 중 {}건 적재", productIds.size(), products.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,133 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 판매 수량(products.sales_count) 비동기 집계 (ADR-03-009).
+ *
+ * <p>주문 트랜잭션에서 Product.increaseSalesCount를 호출하면 재고 차감과 같은 행에 쓰기가 하나 더 생기고
+ * @Version도 함께 올라 충돌이 늘어난다. 대신 주문 생성·취소 커밋 후 이벤트로 받은 수량을 메모리에서
+ * 상품별로 합산하고, 주기적으로 JDBC 배치 UPDATE로 반영한다.
+ * <pre>
+ * UPDATE products SET sales_count = GREATEST(sales_count + ?, 0) WHERE id = ?
+ * </pre>
+ * version 컬럼은 건드리지 않으므로 상품 수정·재고 차감과 충돌하지 않는다.
+ *
+ * <p>반영은 상품 ID 오름차순으로 한 트랜잭션에서 수행하며, 실패하면 합계를 다시 누적해 다음 주기에 재시도한다.
+ * 정상 종료 시에는 남은 합계를 모두 반영한다. 비정상 종료 시에는 마지막 주기 이후의 수량이 유실될 수 있다.
+ * 스케줄 반영과 종료 시 반영이 겹치지 않도록 flushLock으로 직렬화한다.
+ */
+@Slf4j
+@Component
+public class SalesCountAggregator {
+
+    private static final String UPDATE_SQL =
+            "UPDATE products SET sales_count = GREATEST(sales_count + ?, 0) WHERE id = ?";
+
+    /** 상품 ID → 미반영 판매 수량 (취소는 음수) */
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesCountAggregator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ── 누적 ───────────────────────────────────────────────────────────────
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        accumulate(event.products(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        accumulate(event.products(), -1);
+    }
+
+    // ── 반영 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 미반영 합계를 일괄 반영한다 (1초 주기).
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> drained = drain();
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> args = new ArrayList<>(drained.size());
+            drained.forEach((productId, delta) -> args.add(new Object[]{delta, productId}));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+            } catch (DataAccessException | TransactionException e) {
+                drained.forEach((productId, delta) -> pending.merge(productId, delta, Long::sum));
+                log.warn("[SalesCountAggregator] 반영 실패 products={}, message={}", drained.size(), e.getMessage());
+                return;
+            }
+
+            log.debug("[SalesCountAggregator] {}개 상품 반영", drained.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 합계를 반영한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("[SalesCountAggregator] 종료 시 미반영 products={}", pending.size());
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private void accumulate(List<OrderedProduct> products, int sign) {
+        for (OrderedProduct product : products) {
+            pending.merge(product.productId(), (long) sign * product.quantity(), Long::sum);
+        }
+    }
+
+    /**
+     * 미반영 합계를 꺼낸다 (상품 ID 오름차순, 합계 0 제외).
+     * 키 단위 remove는 merge와 원자적으로 처리되므로 꺼내는 도중 들어온 수량은 유실되지 않고 다음 주기로 넘어간다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new TreeMap<>();
+        for (Long productId : pending.keySet()) {
+            Long delta = pending.remove(productId);
+            if (delta != null && delta != 0) {
+                drained.put(productId, delta);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,224 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 상품 재고 차감 묶음 처리 (group commit).
+ *
+ * <p>같은 상품에 주문이 몰리면 주문마다 한 행에 UPDATE + 커밋을 반복하며 행 잠금을 순서대로 기다린다.
+ * 대신 짧은 시간({@code stock.group-commit.window-ms}, 기본 3ms) 동안 들어온 차감 요청을 상품별로 모아
+ * 한 트랜잭션에서 처리한다.
+ * <ol>
+ *   <li>{@code SELECT stock ... FOR UPDATE}로 현재 재고를 잠그고 읽는다</li>
+ *   <li>도착 순서대로 재고가 남는 요청만 승인한다 (요청별 성공·실패)</li>
+ *   <li>승인한 수량 합계를 UPDATE 한 번으로 차감하고 커밋한다</li>
+ * </ol>
+ *
+ * <p>차감은 주문 트랜잭션과 별도로 먼저 커밋되므로, 주문 트랜잭션이 롤백되면 차감분을 다시 더한다.
+ * 그 사이 서버가 중단되면 재고가 적게 남을 수 있다 (초과 판매 없음, HotInventoryService와 같은 성격).
+ *
+ * <p>주문 트랜잭션은 차감 결과를 기다리는 동안 커넥션을 잡고 있으므로, 묶음 처리는 주문용 풀과 분리된
+ * 전용 커넥션 풀({@code stock.group-commit.threads}개)을 쓴다. 주문 풀이 모두 대기 중이어도 묶음 처리는 진행된다.
+ * 접속 정보(URL, 계정, 드라이버)는 {@code spring.datasource}를 따르고, 풀 설정은 {@code stock.group-commit.*}로 따로 둔다.
+ *
+ * <p>결과는 최대 {@code stock.group-commit.timeout-ms}(기본 2초)만 기다리며, 넘기면 STOCK_BUSY로 실패한다.
+ * 그 뒤에 승인된 차감분은 묶음 처리가 바로 복구한다.
+ *
+ * <p>{@code stock.group-commit.enabled=true}일 때만 등록되며, StockService가 한정 수량(hotItem)이 아닌 상품에 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.group-commit.enabled", havingValue = "true")
+public class StockCombiner {
+
+    /** 한정 수량 상품은 잠그지 않고 빈 결과 → 묶음 전체 거절 (Redis 카운터 경로로 처리) */
+    private static final String LOCK_STOCK_SQL =
+            "SELECT stock FROM products WHERE id = ? AND hot_item = false FOR UPDATE";
+    private static final String DECREASE_SQL =
+            "UPDATE products SET stock = stock - ?, version = version + 1 WHERE id = ?";
+    private static final String INCREASE_SQL =
+            "UPDATE products SET stock = stock + ?, version = version + 1 WHERE id = ?";
+
+    /** 상품 ID → 모으는 중인 요청 묶음 (처리 시작 시 제거) */
+    private final Map<Long, List<Reservation>> pending = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService scheduler;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockCombiner(DataSourceProperties dataSourceProperties,
+                         @Value("${stock.group-commit.window-ms:3}") long windowMillis,
+                         @Value("${stock.group-commit.timeout-ms:2000}") long timeoutMillis,
+                         @Value("${stock.group-commit.threads:2}") int threads,
+                         @Value("${stock.group-commit.connection-timeout-ms:1000}") long connectionTimeoutMillis) {
+        this.windowMillis = windowMillis;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads,
+                runnable -> new Thread(runnable, "stock-combiner-" + sequence.incrementAndGet()));
+
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("stock-combiner");
+        dataSource.setMaximumPoolSize(threads);
+        dataSource.setMinimumIdle(threads);
+        dataSource.setConnectionTimeout(connectionTimeoutMillis);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        dataSource.close();
+    }
+
+    // ── 차감 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 재고 차감 요청 (묶음 처리 결과까지 대기).
+     *
+     * <p>호출자 트랜잭션이 있으면 롤백 시 차감분을 복구하도록 등록한다.
+     *
+     * @return 차감 여부 (false: 재고 부족, 존재하지 않는 상품 또는 한정 수량 상품)
+     * @throws CustomException STOCK_BUSY — 대기 시간 내에 묶음 처리가 끝나지 않음
+     */
+    public boolean decrease(Long productId, int quantity) {
+        Reservation reservation = new Reservation(quantity, new CompletableFuture<>());
+
+        pending.compute(productId, (id, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                scheduler.schedule(() -> flush(id), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.add(reservation);
+            return batch;
+        });
+
+        boolean granted;
+        try {
+            granted = reservation.result().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("[StockCombiner] 묶음 처리 대기 시간 초과 productId={}, quantity={}", productId, quantity);
+                throw new CustomException(ErrorCode.STOCK_BUSY);
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (!granted) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        increase(productId, quantity);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 재고 복구 (주문 트랜잭션 롤백 시, 묶지 않고 바로 반영).
+     */
+    public void increase(Long productId, int quantity) {
+        try {
+            jdbcTemplate.update(INCREASE_SQL, quantity, productId);
+        } catch (RuntimeException e) {
+            log.error("[StockCombiner] 재고 복구 실패 productId={}, quantity={}", productId, quantity, e);
+        }
+    }
+
+    // ── 묶음 처리 ───────────────────────────────────────────────────────────
+
+    /**
+     * 모인 요청을 한 트랜잭션에서 승인·차감하고 요청별 결과를 돌려준다.
+     * 처리 시작 시 묶음을 제거하므로 이후 요청은 새 묶음으로 모인다.
+     */
+    private void flush(Long productId) {
+        List<Reservation> batch = pending.remove(productId);
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            boolean[] granted = transactionTemplate.execute(status -> grant(productId, batch));
+            for (int i = 0; i < batch.size(); i++) {
+                Reservation reservation = batch.get(i);
+                // 대기 시간 초과로 이미 실패한 요청의 차감분은 되돌린다
+                if (!reservation.result().complete(granted[i]) && granted[i]) {
+                    increase(productId, reservation.quantity());
+                }
+            }
+            log.debug("[StockCombiner] productId={}, 요청 {}건 묶음 처리", productId, batch.size());
+        } catch (RuntimeException e) {
+            log.error("[StockCombiner] 묶음 처리 실패 productId={}, batch={}", productId, batch.size(), e);
+            batch.forEach(reservation -> reservation.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 현재 재고를 잠그고 도착 순서대로 승인한 뒤, 승인 합계를 한 번에 차감한다.
+     */
+    private boolean[] grant(Long productId, List<Reservation> batch) {
+        boolean[] granted = new boolean[batch.size()];
+        List<Integer> stock = jdbcTemplate.queryForList(LOCK_STOCK_SQL, Integer.class, productId);
+        if (stock.isEmpty()) {
+            return granted;
+        }
+
+        int remaining = stock.get(0);
+        int total = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            int quantity = batch.get(i).quantity();
+            if (quantity <= remaining) {
+                granted[i] = true;
+                remaining -= quantity;
+                total += quantity;
+            }
+        }
+
+        if (total > 0) {
+            jdbcTemplate.update(DECREASE_SQL, total, productId);
+        }
+        return granted;
+    }
+
+    private record Reservation(int quantity, CompletableFuture<Boolean> result) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.StockDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 변동 기록(stock_deltas)을 products.stock에 일괄 반영한다.
+ *
+ * <p>조회·반영·삭제를 한 트랜잭션에서 처리하므로 중간에 서버가 중단되면 전부 롤백되고
+ * 다음 주기에 같은 행을 다시 반영한다 (중복·유실 없음).
+ * 행은 SKIP LOCKED로 가져오므로 여러 서버에서 동시에 실행되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockDeltaReconciler {
+
+    private final StockDeltaRepository stockDeltaRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 주기적 일괄 반영 (최대 500건/회).
+     */
+    @Scheduled(fixedDelay = 1000)
+    @Transactional
+    public void flush() {
+        List<StockDelta> batch = stockDeltaRepository.findFirst500ByOrderByIdAsc();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        apply(batch);
+        log.debug("[StockDeltaReconciler] {}건 반영", batch.size());
+    }
+
+    /**
+     * 특정 상품의 미반영 변동분 즉시 반영 (한정 수량 모드 해제 전 호출).
+     */
+    @Transactional
+    public void flush(Long productId) {
+        List<StockDelta> deltas = stockDeltaRepository.findByProductId(productId);
+        if (!deltas.isEmpty()) {
+            apply(deltas);
+        }
+    }
+
+    /**
+     * 상품별 합계를 상품 ID 오름차순으로 반영한 뒤 반영한 행을 삭제한다.
+     */
+    private void apply(List<StockDelta> deltas) {
+        Map<Long, Integer> sums = deltas.stream()
+                .collect(Collectors.groupingBy(
+                        StockDelta::getProductId,
+                        TreeMap::new,
+                        Collectors.summingInt(StockDelta::getQuantity)
+                ));
+        List<Long> deltaIds = deltas.stream().map(StockDelta::getId).toList();
+
+        sums.forEach(productRepository::applyStockDelta);
+        stockDeltaRepository.deleteAllByIdInBatch(deltaIds);
+    }
+}
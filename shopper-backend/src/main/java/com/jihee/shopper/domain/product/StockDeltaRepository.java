@@ -0,0 +1,38 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.StockDelta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+/**
+ * 재고 변동 기록 리포지토리.
+ */
+public interface StockDeltaRepository extends JpaRepository<StockDelta, Long> {
+
+    /**
+     * 미반영 변동분 일괄 조회 (오래된 순, 행 잠금).
+     *
+     * <p>lock.timeout = -2 → SKIP LOCKED: 여러 서버의 Reconciler가 같은 행을 중복 반영하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<StockDelta> findFirst500ByOrderByIdAsc();
+
+    /**
+     * 특정 상품의 미반영 변동분 조회 (행 잠금).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<StockDelta> findByProductId(Long productId);
+
+    /**
+     * 특정 상품의 미반영 변동분 합계 (카운터 재구성용).
+     */
+    @Query("SELECT COALESCE(SUM(d.quantity), 0) FROM StockDelta d WHERE d.productId = :productId")
+    long sumQuantityByProductId(Long productId);
+}
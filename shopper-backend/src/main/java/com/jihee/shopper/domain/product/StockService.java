@@ -0,0 +1,118 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 차감·복구 서비스.
+ *
+ * <p>엔티티를 읽어 Java에서 검증 후 @Version으로 반영하는 대신,
+ * {@code UPDATE ... WHERE stock >= ?} 조건부 UPDATE 한 번으로 검증과 차감을 동시에 수행한다.
+ * 동시 주문은 OptimisticLockException으로 실패하지 않고 행 잠금 순서대로 처리된다.
+ *
+ * <p>여러 상품은 항상 상품 ID 오름차순으로 갱신해 주문 간 잠금 순서를 고정한다 (데드락 방지).
+ * 호출자 트랜잭션에 참여하므로 일부 상품이 실패하면 앞서 차감한 재고도 함께 롤백된다.
+ *
+ * <p>한정 수량 상품(hotItem)은 {@link HotInventoryService}의 Redis 카운터로 처리하고,
+ * 나머지 상품만 조건부 UPDATE로 처리한다. 이 서버의 한정 수량 목록이 아직 갱신되지 않았더라도
+ * 조건부 UPDATE가 hotItem 상품을 거부하므로, 0행이 갱신되면 DB에서 모드를 확인해 Redis 카운터로 넘긴다.
+ *
+ * <p>{@code stock.group-commit.enabled=true}이면 나머지 상품의 차감은 {@link StockCombiner}가
+ * 같은 상품 요청을 짧은 시간 동안 모아 한 번에 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+    private final ProductRepository productRepository;
+    private final HotInventoryService hotInventoryService;
+    private final ObjectProvider<StockCombiner> stockCombiner;
+
+    /**
+     * 재고 차감 (상품 ID → 수량).
+     *
+     * @throws CustomException OUT_OF_STOCK — 재고 부족 또는 존재하지 않는 상품
+     */
+    @Transactional
+    public void decrease(Map<Long, Integer> quantities) {
+        Map<Long, Integer> hot = new TreeMap<>();
+        Map<Long, Integer> normal = new TreeMap<>();
+        split(quantities, hot, normal);
+
+        if (!hot.isEmpty()) {
+            normal.putAll(hotInventoryService.reserve(hot));
+        }
+
+        Map<Long, Integer> rerouted = decreaseInDatabase(normal);
+        if (rerouted.isEmpty()) {
+            return;
+        }
+
+        // DB에서 한정 수량 상품으로 확인됨 → Redis 카운터로 차감 (그 사이 해제되었으면 DB로 한 번 더)
+        hotInventoryService.refreshHotItems();
+        Map<Long, Integer> fallback = hotInventoryService.reserve(rerouted);
+        if (!decreaseInDatabase(fallback).isEmpty()) {
+            throw new CustomException(ErrorCode.OUT_OF_STOCK);
+        }
+    }
+
+    /**
+     * 재고 복구 (주문 취소, 상품 ID → 수량).
+     */
+    @Transactional
+    public void increase(Map<Long, Integer> quantities) {
+        Map<Long, Integer> hot = new TreeMap<>();
+        Map<Long, Integer> normal = new TreeMap<>();
+        split(quantities, hot, normal);
+
+        normal.forEach((productId, quantity) -> {
+            if (productRepository.increaseStock(productId, quantity) == 0 && isHotInDatabase(productId)) {
+                hot.put(productId, quantity);
+            }
+        });
+        if (!hot.isEmpty()) {
+            hotInventoryService.release(hot);
+        }
+    }
+
+    /**
+     * 조건부 UPDATE(또는 묶음 처리)로 차감한다.
+     *
+     * @return DB상 한정 수량 상품이라 차감하지 않은 상품 (상품 ID → 수량)
+     * @throws CustomException OUT_OF_STOCK — 재고 부족 또는 존재하지 않는 상품
+     */
+    private Map<Long, Integer> decreaseInDatabase(Map<Long, Integer> quantities) {
+        Map<Long, Integer> hot = new TreeMap<>();
+        StockCombiner combiner = stockCombiner.getIfAvailable();
+
+        quantities.forEach((productId, quantity) -> {
+            boolean decreased = combiner != null
+                    ? combiner.decrease(productId, quantity)
+                    : productRepository.decreaseStock(productId, quantity) == 1;
+            if (decreased) {
+                return;
+            }
+            if (!isHotInDatabase(productId)) {
+                throw new CustomException(ErrorCode.OUT_OF_STOCK);
+            }
+            hot.put(productId, quantity);
+        });
+        return hot;
+    }
+
+    private boolean isHotInDatabase(Long productId) {
+        return productRepository.findHotItemById(productId).orElse(false);
+    }
+
+    private void split(Map<Long, Integer> quantities, Map<Long, Integer> hot, Map<Long, Integer> normal) {
+        quantities.forEach((productId, quantity) ->
+                (hotInventoryService.isHot(productId) ? hot : normal).put(productId, quantity));
+    }
+}
@@ -0,0 +1,170 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 인기 급상승 랭킹 (구간별 주문 수량, Redis 버킷 ZSET).
+ *
+ * <p>주문 수량을 고정 크기 시간 버킷 ZSET에 누적하고, 구간에 걸친 버킷을 ZUNIONSTORE로 합산한다.
+ * <pre>
+ * Redis Key:   "TR:{버킷 초}:{버킷 번호}"  버킷 (예: "TR:60:29123456" 1분, "TR:3600:485390" 1시간)
+ *              "TR:W:{구간}"              구간 합산 결과 (예: "TR:W:24h")
+ * Member:      productId
+ * Score:       버킷·구간 내 주문 수량
+ * </pre>
+ *
+ * <p>메모리: 버킷은 가장 긴 구간이 지나면 만료되므로 버킷 수가 고정된다 (1분 × 61개, 1시간 × 169개).
+ * 각 버킷의 크기는 해당 시간 동안 주문된 상품 종류 수를 넘지 않는다.
+ *
+ * <p>조회: 합산은 주기 작업으로 수행하고 구간별 상위 {@value #SNAPSHOT_SIZE}개를 메모리 스냅샷으로 두므로,
+ * 요청 시에는 Redis 접근 없이 참조만 읽는다. 결과는 최대 갱신 주기만큼 지연된다.
+ *
+ * <p>Redis 장애 시에는 로그만 남기고 이전 스냅샷을 유지한다.
+ * 주문 취소는 반영하지 않는다 (주문 시점의 관심도를 측정).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRanking {
+
+    /** 구간별 메모리 스냅샷 크기 (조회 최대 건수 + 비활성 상품 여유분) */
+    static final int SNAPSHOT_SIZE = 100;
+
+    private static final String BUCKET_KEY_PREFIX = "TR:";
+    private static final String WINDOW_KEY_PREFIX = "TR:W:";
+    private static final Duration WINDOW_KEY_TTL = Duration.ofMinutes(5);
+
+    /** 버킷 크기(초) → 보관 기간 (해당 버킷 크기를 쓰는 가장 긴 구간 + 버킷 하나) */
+    static final Map<Long, Duration> RETENTION = retentionByBucketSize();
+
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile Map<TrendingWindow, List<RankedProduct>> snapshot = Map.of();
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 구간 내 주문 수량 상위 상품 (메모리 스냅샷, 주문 수량 내림차순).
+     *
+     * @param count 최대 건수 ({@value #SNAPSHOT_SIZE}건 초과분은 잘림)
+     */
+    public List<RankedProduct> top(TrendingWindow window, int count) {
+        List<RankedProduct> ranked = snapshot.getOrDefault(window, List.of());
+        return ranked.size() <= count ? ranked : ranked.subList(0, count);
+    }
+
+    // ── 갱신 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 주문 생성 커밋 후 현재 버킷(버킷 크기별 하나)에 주문 수량을 더한다.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (event.products().isEmpty()) {
+            return;
+        }
+        long epochSecond = Instant.now().getEpochSecond();
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+
+                RETENTION.forEach((bucketSeconds, retention) -> {
+                    String key = bucketKey(bucketSeconds, epochSecond / bucketSeconds);
+                    for (OrderedProduct product : event.products()) {
+                        redis.zIncrBy(key, product.quantity(), product.productId().toString());
+                    }
+                    redis.expire(key, retention.toSeconds());
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[TrendingRanking] 갱신 실패 orderId={}, message={}", event.orderId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 구간별 버킷을 합산해 메모리 스냅샷을 교체한다.
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void refresh() {
+        long epochSecond = Instant.now().getEpochSecond();
+        Map<TrendingWindow, List<RankedProduct>> refreshed = new EnumMap<>(TrendingWindow.class);
+
+        try {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                refreshed.put(window, aggregate(window, epochSecond));
+            }
+        } catch (DataAccessException e) {
+            log.warn("[TrendingRanking] 스냅샷 갱신 실패 message={}", e.getMessage());
+            return;
+        }
+        snapshot = Collections.unmodifiableMap(refreshed);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 구간에 걸친 버킷(현재 버킷 포함 bucketCount개)을 합산해 상위 항목을 읽는다.
+     */
+    private List<RankedProduct> aggregate(TrendingWindow window, long epochSecond) {
+        long bucketSeconds = window.getBucketSize().toSeconds();
+        long current = epochSecond / bucketSeconds;
+
+        List<String> keys = new ArrayList<>(window.getBucketCount());
+        for (long bucket = current - window.getBucketCount() + 1; bucket <= current; bucket++) {
+            keys.add(bucketKey(bucketSeconds, bucket));
+        }
+
+        String windowKey = WINDOW_KEY_PREFIX + window.getParameter();
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.unionAndStore(keys.get(0), keys.subList(1, keys.size()), windowKey);
+        redisTemplate.expire(windowKey, WINDOW_KEY_TTL);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = zSet.reverseRangeWithScores(windowKey, 0, SNAPSHOT_SIZE - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            ranked.add(new RankedProduct(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+        }
+        return List.copyOf(ranked);
+    }
+
+    static String bucketKey(long bucketSeconds, long bucket) {
+        return BUCKET_KEY_PREFIX + bucketSeconds + ":" + bucket;
+    }
+
+    private static Map<Long, Duration> retentionByBucketSize() {
+        Map<Long, Duration> retention = new TreeMap<>();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            Duration size = window.getBucketSize();
+            retention.merge(size.toSeconds(), size.multipliedBy(window.getBucketCount() + 1L),
+                    (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+        return Collections.unmodifiableMap(retention);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 인기 급상승 집계 구간.
+ *
+ * <p>구간은 고정 크기 버킷 여러 개의 합으로 근사한다 (현재 진행 중인 버킷 포함).
+ * 같은 버킷 크기를 쓰는 구간은 버킷을 공유한다 (24h · 7d → 1시간 버킷).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    ONE_HOUR("1h", Duration.ofMinutes(1), 60),      // 1분 버킷 60개
+    ONE_DAY("24h", Duration.ofHours(1), 24),        // 1시간 버킷 24개
+    SEVEN_DAYS("7d", Duration.ofHours(1), 168);     // 1시간 버킷 168개
+
+    private final String parameter;
+    private final Duration bucketSize;
+    private final int bucketCount;
+
+    /**
+     * 요청 파라미터(1h, 24h, 7d)로 구간 조회.
+     */
+    public static TrendingWindow from(String parameter) {
+        for (TrendingWindow window : values()) {
+            if (window.parameter.equals(parameter)) {
+                return window;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT, "지원하지 않는 집계 구간입니다: " + parameter);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jihee.shopper.domain.product.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 판매 랭킹 응답 DTO (판매량 상위, 인기 급상승 공용).
+ *
+ * <p>soldCount는 랭킹 기준 판매 수량이다 (누적 또는 집계 구간 내 주문 수량).
+ * 상품 정보는 상품 상세 캐시에서 채운다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BestSellerResponse {
+
+    private final int rank;
+    private final Long id;
+    private final String name;
+    private final Integer price;
+    private final Integer stock;
+    private final String mainImageUrl;
+    private final long soldCount;
+
+    /**
+     * 상품 상세 캐시 기반 변환.
+     */
+    public static BestSellerResponse of(int rank, long soldCount, ProductResponse product) {
+        String mainImageUrl = product.getImages().stream()
+                .filter(ProductResponse.ImageInfo::isMain)
+                .findFirst()
+                .map(ProductResponse.ImageInfo::getUrl)
+                .orElse(null);
+
+        return new BestSellerResponse(rank, product.getId(), product.getName(), product.getPrice(),
+                product.getStock(), mainImageUrl, soldCount);
+    }
+}
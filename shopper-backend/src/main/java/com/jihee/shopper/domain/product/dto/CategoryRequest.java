@@ -0,0 +1,22 @@
+package com.jihee.shopper.domain.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카테고리 생성/수정 요청 DTO.
+ *
+ * <p>parentId는 생성 시에만 사용한다 (null이면 최상위 카테고리).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryRequest {
+
+    private Long parentId;
+
+    @NotBlank(message = "카테고리명은 필수입니다")
+    private String name;
+}
@@ -0,0 +1,21 @@
+package com.jihee.shopper.domain.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리 노드 응답 DTO.
+ *
+ * <p>CategoryTree 스냅샷 생성 시 한 번 만들어 모든 요청이 공유하므로 불변으로 유지한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryTreeResponse {
+
+    private final Long id;
+    private final String name;
+    private final Integer depth;
+    private final List<CategoryTreeResponse> children;
+}
@@ -0,0 +1,74 @@
+package com.jihee.shopper.domain.product.dto;
+
+import com.jihee.shopper.domain.product.CategoryTree;
+import com.jihee.shopper.domain.product.PriceBucket;
+import com.jihee.shopper.domain.product.ProductFacetRow;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 목록 패싯 응답 DTO (카테고리별 · 가격대별 · 재고 여부별 상품 수).
+ *
+ * <p>카테고리 수는 하위 카테고리 상품까지 합산한 값이다 (대분류 = 중분류 + 소분류 합계).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductFacetResponse {
+
+    private final long totalCount;
+    private final List<CategoryFacet> categories;
+    private final List<PriceFacet> prices;
+    private final long inStockCount;
+    private final long outOfStockCount;
+
+    /**
+     * GROUP BY 결과를 패싯별로 합산한다.
+     */
+    public static ProductFacetResponse of(List<ProductFacetRow> rows, CategoryTree categoryTree) {
+        Map<Long, Long> categoryCounts = new TreeMap<>();
+        long[] priceCounts = new long[PriceBucket.values().length];
+        long total = 0;
+        long inStock = 0;
+
+        for (ProductFacetRow row : rows) {
+            total += row.count();
+            priceCounts[row.priceBucket()] += row.count();
+            if (row.inStock()) {
+                inStock += row.count();
+            }
+            for (Long categoryId : categoryTree.pathOf(row.categoryId())) {
+                categoryCounts.merge(categoryId, row.count(), Long::sum);
+            }
+        }
+
+        List<CategoryFacet> categories = categoryCounts.entrySet().stream()
+                .map(entry -> new CategoryFacet(entry.getKey(), entry.getValue()))
+                .toList();
+        List<PriceFacet> prices = Arrays.stream(PriceBucket.values())
+                .map(bucket -> new PriceFacet(bucket.getMin(), bucket.getMax(), priceCounts[bucket.ordinal()]))
+                .toList();
+
+        return new ProductFacetResponse(total, categories, prices, inStock, total - inStock);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CategoryFacet {
+        private final Long categoryId;
+        private final long count;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PriceFacet {
+        private final int minPrice;
+        private final Integer maxPrice;  // 마지막 구간은 null
+        private final long count;
+    }
+}
@@ -2,15 +2,18 @@ package com.jihee.shopper.domain.product.dto;
 
 import com.jihee.shopper.domain.product.entity.Product;
 import com.jihee.shopper.domain.product.entity.ProductStatus;
-import lombok.AccessLevel;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
 
 /**
  * 상품 목록 응답 DTO (간략 정보).
+ *
+ * <p>목록 조회는 {@link QueryProjection} 생성자로 상품 컬럼과 대표 이미지 URL을
+ * 단일 SQL에서 바로 읽는다 (ProductRepositoryImpl).
  */
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProductListResponse {
 
     private final Long id;
@@ -20,7 +23,24 @@ public class ProductListResponse {
     private final ProductStatus status;
     private final Integer salesCount;
     private final String mainImageUrl;  // 대표 이미지 URL
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public ProductListResponse(Long id, String name, Integer price, Integer stock, ProductStatus status,
+                               Integer salesCount, String mainImageUrl, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.stock = stock;
+        this.status = status;
+        this.salesCount = salesCount;
+        this.mainImageUrl = mainImageUrl;
+        this.createdAt = createdAt;
+    }
 
+    /**
+     * 엔티티 기반 변환 (images 컬렉션 로딩 필요).
+     */
     public static ProductListResponse from(Product product) {
         String mainImageUrl = product.getImages().stream()
                 .filter(img -> img.isMain())
@@ -35,7 +55,8 @@ public class ProductListResponse {
                 product.getStock(),
                 product.getStatus(),
                 product.getSalesCount(),
-                mainImageUrl
+                mainImageUrl,
+                product.getCreatedAt()
         );
     }
 }
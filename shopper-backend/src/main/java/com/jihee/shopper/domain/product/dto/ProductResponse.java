@@ -6,15 +6,18 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 상품 상세 응답 DTO (이미지 포함).
+ *
+ * <p>ProductCache의 Redis 저장을 위해 Serializable을 구현한다.
  */
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class ProductResponse {
+public class ProductResponse implements Serializable {
 
     private final Long id;
     private final Long categoryId;
@@ -57,7 +60,7 @@ public class ProductResponse {
 
     @Getter
     @RequiredArgsConstructor
-    public static class ImageInfo {
+    public static class ImageInfo implements Serializable {
         private final Long id;
         private final String url;
         private final boolean isMain;
@@ -0,0 +1,15 @@
+package com.jihee.shopper.domain.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품명 자동완성 응답 DTO.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSuggestionResponse {
+
+    private final Long id;
+    private final String name;
+}
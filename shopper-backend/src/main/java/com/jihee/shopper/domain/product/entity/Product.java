@@ -16,9 +16,15 @@ import java.util.List;
  * <p>ADR-03-003: 낙관적 락 (@Version) 사용
  * <p>ADR-03-004: 소프트 삭제 (status: ACTIVE/INACTIVE)
  * <p>ADR-03-009: 판매 수량 추적 (salesCount)
+ * <p>hotItem: 한정 수량 상품은 주문 시 재고를 Redis 카운터에서 차감 (HotInventoryService)
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // 커서 페이징 (status 필터 + 정렬 키 + id)
+        @Index(name = "idx_products_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_products_status_price", columnList = "status, price, id"),
+        @Index(name = "idx_products_status_sales_count", columnList = "status, sales_count, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
@@ -54,6 +60,10 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Integer salesCount = 0;
 
+    /** 한정 수량 상품 여부 (true: Redis 재고 카운터 사용, products.stock은 주기적으로 반영) */
+    @Column(nullable = false)
+    private boolean hotItem = false;
+
     /** 낙관적 락 (ADR-03-003) */
     @Version
     private Long version;
@@ -95,6 +105,14 @@ public class Product extends BaseEntity {
         this.status = ProductStatus.ACTIVE;
     }
 
+    public void enableHotInventory() {
+        this.hotItem = true;
+    }
+
+    public void disableHotInventory() {
+        this.hotItem = false;
+    }
+
     // ── 재고 관리 ───────────────────────────────────────────────────────────
 
     public void decreaseStock(int quantity) {
@@ -106,6 +124,7 @@ public class Product extends BaseEntity {
     }
 
     // ── 판매 수량 관리 (ADR-03-009) ──────────────────────────────────────────
+    // 주문 흐름의 판매 수량은 SalesCountAggregator가 @Version 증가 없이 일괄 반영한다.
 
     public void increaseSalesCount(int quantity) {
         this.salesCount += quantity;
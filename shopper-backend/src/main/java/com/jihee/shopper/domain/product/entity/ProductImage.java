@@ -12,7 +12,10 @@ import lombok.NoArgsConstructor;
  * <p>S3 URL을 저장하며, 대표 이미지(isMain)와 정렬 순서(sortOrder)를 관리한다.
  */
 @Entity
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = {
+        // 목록 조회 시 대표 이미지 LEFT JOIN (product_id + is_main)
+        @Index(name = "idx_product_images_product_main", columnList = "product_id, is_main")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductImage extends BaseEntity {
@@ -0,0 +1,49 @@
+package com.jihee.shopper.domain.product.entity;
+
+import com.jihee.shopper.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 변동 기록 (한정 수량 상품 전용 outbox).
+ *
+ * <p>Redis 재고 카운터로 관리하는 상품은 주문 트랜잭션에서 products.stock을 직접 갱신하지 않고
+ * 이 테이블에 변동분만 INSERT한다. StockDeltaReconciler가 주기적으로 상품별 합계를
+ * products.stock에 반영하고 해당 행을 삭제한다.
+ *
+ * <p>주문과 같은 트랜잭션에 기록되므로 서버가 중단되어도 커밋된 변동분은 유실되지 않는다.
+ *
+ * <p>운영 스키마(db/stock_deltas.sql)는 product_id에 외래 키를 두어, INSERT한 주문 트랜잭션이
+ * 끝날 때까지 카운터 재구성이 상품 행 잠금을 얻지 못하게 한다.
+ */
+@Entity
+@Table(name = "stock_deltas", indexes = {
+        @Index(name = "idx_stock_deltas_product_id", columnList = "product_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockDelta extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 대상 상품 ID (연관관계 없이 ID만 보관, 조회 시 Product 로딩 방지) */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /** 재고 변동량 (차감: 음수, 복구: 양수) */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // ── 정적 팩토리 메서드 ───────────────────────────────────────────────────
+
+    public static StockDelta of(Long productId, int quantity) {
+        StockDelta delta = new StockDelta();
+        delta.productId = productId;
+        delta.quantity = quantity;
+        return delta;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jihee.shopper.domain.product.event;
+
+/**
+ * 카테고리 변경 이벤트.
+ *
+ * <p>카테고리 생성·수정·삭제 시 CategoryService가 발행한다.
+ * CategoryTreeCache가 커밋 이후 트리 스냅샷을 다시 만들고 다른 서버에 전파한다.
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -0,0 +1,10 @@
+package com.jihee.shopper.domain.product.event;
+
+/**
+ * 상품 변경 이벤트.
+ *
+ * <p>상품 등록·수정·삭제, 이미지 업로드·삭제 시 ProductService가 발행한다.
+ * 리스너는 {@code @TransactionalEventListener}로 커밋 이후에만 반응한다.
+ */
+public record ProductChangedEvent(Long productId) {
+}
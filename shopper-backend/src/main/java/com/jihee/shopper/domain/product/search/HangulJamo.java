@@ -0,0 +1,93 @@
+package com.jihee.shopper.domain.product.search;
+
+/**
+ * 한글 음절 → 자모 분해 (자동완성용).
+ *
+ * <p>입력 중인 글자도 일치하도록 겹자음·겹모음은 낱자로 나눈다.
+ * <pre>
+ * "맑은"  → 자모: "ㅁㅏㄹㄱㅇㅡㄴ"   초성: "ㅁㅇ"
+ * "노트북" → 자모: "ㄴㅗㅌㅡㅂㅜㄱ"   초성: "ㄴㅌㅂ"
+ * </pre>
+ * 한글 음절이 아닌 글자는 그대로 둔다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String CHO_COMPAT = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 낱자로 나눌 호환 자모 (직접 입력된 겹자모) */
+    private static final String COMPOUND_JAMO = "ㄲㄳㄵㄶㄸㄺㄻㄼㄽㄾㄿㅀㅃㅄㅆㅉㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㄱ", "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄷㄷ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅂㅂ", "ㅂㅅ", "ㅅㅅ", "ㅈㅈ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해 ("맥북" → "ㅁㅐㄱㅂㅜㄱ").
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[index % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                builder.append(compound >= 0 ? COMPOUND_SPLIT[compound] : String.valueOf(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 추출 ("맥북 프로" → "ㅁㅂ ㅍㄹ").
+     */
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            builder.append(isSyllable(c) ? CHO_COMPAT.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성(호환 자음)만으로 이루어진 문자열인지 ("ㅁㅂ" → true).
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (char c : text.toCharArray()) {
+            if (CHO_COMPAT.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,176 @@
+package com.jihee.shopper.domain.product.search;
+
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 애플리케이션 메모리 역색인 검색 엔진 ({@code search.engine=memory}).
+ *
+ * <p>tsvector를 지원하지 않는 H2 테스트 환경용이며, PostgreSQL 엔진과 같은 규칙으로 동작한다.
+ * <ul>
+ *   <li>색인: 토큰 → (상품 ID → 가중치), name 토큰 1.0 / description 토큰 0.4</li>
+ *   <li>검색: 검색어 토큰마다 접두어가 일치하는 색인 토큰의 가중치를 합산, 모든 토큰이 일치해야 결과에 포함</li>
+ * </ul>
+ *
+ * <p>최초 검색 시 ACTIVE 상품 전체를 색인하고, 이후 ProductChangedEvent(커밋 후)마다 해당 상품만 다시 색인한다.
+ * 색인 변경은 writeLock으로 직렬화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemoryProductSearchEngine implements ProductSearchEngine {
+
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private final ProductRepository productRepository;
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedProduct> products = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    // ── 검색 ───────────────────────────────────────────────────────────────
+
+    @Override
+    public List<ProductSearchHit> search(ProductSearchCondition condition, ProductSearchCursor after, int limit) {
+        List<String> tokens = condition.tokens();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        Map<Long, Float> scores = null;
+        for (String token : tokens) {
+            Map<Long, Float> matched = prefixMatch(token);
+            if (scores == null) {
+                scores = matched;
+            } else {
+                scores.keySet().retainAll(matched.keySet());
+                scores.replaceAll((productId, score) -> score + matched.get(productId));
+            }
+        }
+
+        return scores.entrySet().stream()
+                .filter(entry -> matches(products.get(entry.getKey()), condition))
+                .map(entry -> new ProductSearchHit(entry.getKey(), entry.getValue()))
+                .filter(hit -> after == null || after.isBefore(hit))
+                .sorted(Comparator.comparing(ProductSearchHit::score)
+                        .thenComparing(ProductSearchHit::productId)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // ── 색인 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 전체 재색인 (ACTIVE 상품).
+     */
+    public void reindex() {
+        writeLock.lock();
+        try {
+            postings.clear();
+            products.clear();
+            productRepository.findAllSearchDocuments().forEach(this::index);
+            loaded = true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 커밋 후 해당 상품만 재색인 (비활성·삭제 상품은 색인에서 제거).
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            remove(event.productId());
+            productRepository.findSearchDocumentById(event.productId()).ifPresent(this::index);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            writeLock.lock();
+            try {
+                if (!loaded) {
+                    reindex();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void index(ProductSearchDocument document) {
+        Map<String, Float> weights = new HashMap<>();
+        ProductSearchTokenizer.tokenize(document.name())
+                .forEach(token -> weights.merge(token, NAME_WEIGHT, Float::sum));
+        ProductSearchTokenizer.tokenize(document.description())
+                .forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Float::sum));
+
+        products.put(document.id(), new IndexedProduct(document.categoryId(), document.price(), List.copyOf(weights.keySet())));
+        weights.forEach((token, weight) ->
+                postings.computeIfAbsent(token, key -> new ConcurrentHashMap<>()).put(document.id(), weight));
+    }
+
+    private void remove(Long productId) {
+        IndexedProduct indexed = products.remove(productId);
+        if (indexed == null) {
+            return;
+        }
+        for (String token : indexed.tokens()) {
+            Map<Long, Float> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(token, posting);
+                }
+            }
+        }
+    }
+
+    /**
+     * 토큰으로 시작하는 모든 색인 토큰의 가중치를 상품별로 합산한다.
+     */
+    private Map<Long, Float> prefixMatch(String prefix) {
+        Map<Long, Float> scores = new HashMap<>();
+        postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+                .values()
+                .forEach(posting -> posting.forEach((productId, weight) -> scores.merge(productId, weight, Float::sum)));
+        return scores;
+    }
+
+    private boolean matches(IndexedProduct product, ProductSearchCondition condition) {
+        return product != null
+                && (condition.categoryIds() == null || condition.categoryIds().contains(product.categoryId()))
+                && (condition.minPrice() == null || product.price() >= condition.minPrice())
+                && (condition.maxPrice() == null || product.price() <= condition.maxPrice());
+    }
+
+    private record IndexedProduct(Long categoryId, Integer price, List<String> tokens) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.jihee.shopper.domain.product.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL 전문 검색 엔진 (tsvector + GIN).
+ *
+ * <p>products.search_vector는 name(가중치 A)과 description(가중치 B)으로 DB가 계산하는 생성 컬럼이다.
+ * 엔티티에 매핑하지 않으므로 ddl-auto가 만들지 않는다. 운영 중 테이블 잠금을 피하도록 기동 시 DDL을 실행하지 않고,
+ * 배포 전에 {@code db/product_search_vector.sql}(인덱스는 CREATE INDEX CONCURRENTLY)을 직접 적용한다.
+ * <pre>
+ * search_vector tsvector GENERATED ALWAYS AS (
+ *     setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+ *     setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED
+ * idx_products_search_vector — GIN (search_vector)
+ * </pre>
+ *
+ * <p>검색어 토큰은 {@code 토큰:*} 접두어 조건을 AND로 묶고, ts_rank_cd 점수로 정렬한다.
+ * keyset 조건은 계산된 점수에 걸어야 하므로 서브쿼리로 감싼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresProductSearchEngine implements ProductSearchEngine {
+
+    private static final String SEARCH_SCHEMA_CHECK_SQL = """
+            SELECT COUNT(*) FROM pg_indexes
+            WHERE tablename = 'products' AND indexname = 'idx_products_search_vector'
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresProductSearchEngine(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 검색 인덱스 존재 여부 확인 (스키마는 변경하지 않고 누락 시 경고만 남김).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySchema() {
+        Long indexes = jdbcTemplate.queryForObject(SEARCH_SCHEMA_CHECK_SQL, Long.class);
+        if (indexes == null || indexes == 0) {
+            log.warn("[ProductSearch] idx_products_search_vector 없음 — db/product_search_vector.sql을 실행해야 검색이 동작한다");
+        }
+    }
+
+    @Override
+    public List<ProductSearchHit> search(ProductSearchCondition condition, ProductSearchCursor after, int limit) {
+        List<String> tokens = condition.tokens();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.id, s.score FROM (
+                    SELECT p.id AS id, ts_rank_cd(p.search_vector, q.query) AS score
+                    FROM products p, to_tsquery('simple', :query) AS q(query)
+                    WHERE p.status = 'ACTIVE' AND p.search_vector @@ q.query
+                """);
+        if (condition.categoryIds() != null) {
+            sql.append(" AND p.category_id IN (:categoryIds)");
+        }
+        if (condition.minPrice() != null) {
+            sql.append(" AND p.price >= :minPrice");
+        }
+        if (condition.maxPrice() != null) {
+            sql.append(" AND p.price <= :maxPrice");
+        }
+        sql.append(") s");
+        if (after != null) {
+            sql.append(" WHERE s.score < CAST(:score AS real)")
+                    .append(" OR (s.score = CAST(:score AS real) AND s.id < :id)");
+        }
+        sql.append(" ORDER BY s.score DESC, s.id DESC LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", toTsQuery(tokens))
+                .setParameter("limit", limit);
+        if (condition.categoryIds() != null) {
+            query.setParameter("categoryIds", condition.categoryIds());
+        }
+        if (condition.minPrice() != null) {
+            query.setParameter("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            query.setParameter("maxPrice", condition.maxPrice());
+        }
+        if (after != null) {
+            query.setParameter("score", after.score());
+            query.setParameter("id", after.id());
+        }
+
+        List<?> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new ProductSearchHit(((Number) row[0]).longValue(), ((Number) row[1]).floatValue()))
+                .toList();
+    }
+
+    /**
+     * 토큰 → {@code 노트:* & 프로:*} (토큰은 문자·숫자만 포함하므로 tsquery 문법과 충돌하지 않음).
+     */
+    private String toTsQuery(List<String> tokens) {
+        return tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,305 @@
+package com.jihee.shopper.domain.product.search;
+
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.dto.ProductSuggestionResponse;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품명 자동완성 메모리 색인.
+ *
+ * <p>ACTIVE 상품명을 단어 시작 위치마다 접두어 키로 만들어 정렬 집합에 둔다.
+ * 공백은 제거하므로 "노트북 파우치"는 "노트북파우치", "파우치" 두 위치에서 검색된다.
+ * <ul>
+ *   <li>자모 키: "ㄴㅗㅌㅡㅂㅜㄱ..." — 입력 중인 글자("노트부")도 일치</li>
+ *   <li>초성 키: "ㄴㅌㅂ..." — 검색어가 초성만으로 이루어진 경우 사용</li>
+ * </ul>
+ * 일치한 상품은 판매 수량(salesCount) 내림차순, 같으면 상품 ID 내림차순으로 반환한다.
+ *
+ * <p>짧은 접두어(자모 {@value #PRECOMPUTED_JAMO_LENGTH}자·초성 {@value #PRECOMPUTED_CHOSUNG_LENGTH}자 이하)는
+ * 일치하는 키가 많아 범위 순회 비용이 상품 수에 비례하므로, 접두어별 상위 {@value #PRECOMPUTED_SIZE}건을 미리 계산해 둔다.
+ * 그보다 긴 접두어는 일치 범위가 좁아 정렬 집합을 순회한다.
+ *
+ * <p>기동 시 전체를 색인하고, ProductChangedEvent(커밋 후)마다 해당 상품만 다시 색인한다.
+ * 주문으로 바뀌는 판매 수량은 주기적 전체 재색인으로 반영한다.
+ * 색인 변경(전체·상품 단위)은 writeLock으로 하나씩 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAutocompleteIndex {
+
+    private static final char KEY_END = Character.MAX_VALUE;
+
+    /** 상위 목록을 미리 계산하는 접두어 최대 길이 (자모 6자 ≈ 두 글자, 초성 3자) */
+    static final int PRECOMPUTED_JAMO_LENGTH = 6;
+    static final int PRECOMPUTED_CHOSUNG_LENGTH = 3;
+
+    /** 접두어별 보관 건수 (최대 요청 건수 20의 2배, 상품 단위 제거로 줄어도 여유를 둠) */
+    static final int PRECOMPUTED_SIZE = 40;
+
+    /** 판매 수량 → 상품 ID 오름차순 (힙의 맨 앞이 가장 낮은 순위) */
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparing(Entry::salesCount).thenComparing(Entry::id);
+
+    private final ProductRepository productRepository;
+
+    /** 전체 재색인 시 새 색인을 만든 뒤 참조만 교체한다 (재색인 중에도 조회 가능) */
+    private volatile Index index = new Index();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 접두어 일치 상품명 (판매 수량순 최대 limit건).
+     */
+    public List<ProductSuggestionResponse> suggest(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Index current = index;
+        boolean chosungOnly = HangulJamo.isChosungOnly(normalized);
+        NavigableSet<Key> keys = chosungOnly ? current.chosungKeys : current.jamoKeys;
+        String prefix = chosungOnly ? normalized : HangulJamo.decompose(normalized);
+
+        if (prefix.length() <= (chosungOnly ? PRECOMPUTED_CHOSUNG_LENGTH : PRECOMPUTED_JAMO_LENGTH)) {
+            TopEntries top = (chosungOnly ? current.chosungTop : current.jamoTop).get(prefix);
+            if (top == null) {
+                return List.of();
+            }
+            // 잘린 목록이 상품 단위 제거로 limit보다 짧아졌으면 다음 전체 재색인 전까지 순회로 처리
+            if (!top.truncated() || top.entries().size() >= limit) {
+                return top.entries().stream()
+                        .limit(limit)
+                        .map(entry -> new ProductSuggestionResponse(entry.id(), entry.name()))
+                        .toList();
+            }
+        }
+
+        // 상위 limit건만 최소 힙에 유지 (일치 상품 전체를 정렬하지 않음)
+        Set<Long> seen = new HashSet<>();
+        PriorityQueue<Entry> top = new PriorityQueue<>(RANKING);
+        for (Key key : keys.subSet(new Key(prefix, Long.MIN_VALUE), true,
+                new Key(prefix + KEY_END, Long.MIN_VALUE), false)) {
+            Entry entry = current.entries.get(key.productId());
+            if (entry == null || !seen.add(entry.id())) {
+                continue;
+            }
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(RANKING.reversed())
+                .map(entry -> new ProductSuggestionResponse(entry.id(), entry.name()))
+                .toList();
+    }
+
+    // ── 색인 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 전체 재색인 (기동 시 + 10분마다, 판매 수량 순위 갱신).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            List<ProductSearchDocument> documents = productRepository.findAllSearchDocuments();
+
+            index = Index.build(documents);
+            log.debug("[ProductAutocomplete] {}건 색인", documents.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 상품 등록·수정·비활성화 커밋 후 해당 상품만 재색인.
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            current.remove(event.productId());
+            productRepository.findSearchDocumentById(event.productId()).ifPresent(current::add);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /** 소문자 + 공백·기호 제거 (색인 키와 같은 규칙) */
+    private static String normalize(String keyword) {
+        return String.join("", ProductSearchTokenizer.tokenize(keyword));
+    }
+
+    /** 정렬 집합 원소 (키 → 상품 ID 순) */
+    private record Key(String value, Long productId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byValue = value.compareTo(other.value);
+            return byValue != 0 ? byValue : Long.compare(productId, other.productId);
+        }
+    }
+
+    /**
+     * 자모 키 · 초성 키 정렬 집합 + 짧은 접두어별 상위 목록 + 상품 정보.
+     *
+     * <p>상위 목록은 불변 리스트로 두고 변경 시 새 리스트로 교체하므로, 조회는 잠금 없이 읽는다.
+     */
+    private static final class Index {
+
+        private final NavigableSet<Key> jamoKeys = new ConcurrentSkipListSet<>();
+        private final NavigableSet<Key> chosungKeys = new ConcurrentSkipListSet<>();
+        private final Map<String, TopEntries> jamoTop = new ConcurrentHashMap<>();
+        private final Map<String, TopEntries> chosungTop = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        /**
+         * 전체 색인. 접두어별 상위 목록은 상품마다 병합하지 않고 접두어별 최소 힙으로 한 번에 계산한다.
+         */
+        static Index build(List<ProductSearchDocument> documents) {
+            Index built = new Index();
+            Map<String, PriorityQueue<Entry>> jamoHeaps = new HashMap<>();
+            Map<String, PriorityQueue<Entry>> chosungHeaps = new HashMap<>();
+            Map<String, Integer> jamoCounts = new HashMap<>();
+            Map<String, Integer> chosungCounts = new HashMap<>();
+
+            for (ProductSearchDocument document : documents) {
+                Entry entry = built.addEntry(document);
+                collect(entry, prefixes(entry.jamoKeys(), PRECOMPUTED_JAMO_LENGTH), jamoHeaps, jamoCounts);
+                collect(entry, prefixes(entry.chosungKeys(), PRECOMPUTED_CHOSUNG_LENGTH), chosungHeaps, chosungCounts);
+            }
+
+            freeze(jamoHeaps, jamoCounts, built.jamoTop);
+            freeze(chosungHeaps, chosungCounts, built.chosungTop);
+            return built;
+        }
+
+        /** 상품 단위 추가 (상위 목록에 병합) */
+        void add(ProductSearchDocument document) {
+            Entry entry = addEntry(document);
+            prefixes(entry.jamoKeys(), PRECOMPUTED_JAMO_LENGTH)
+                    .forEach(prefix -> jamoTop.merge(prefix, TopEntries.of(entry), TopEntries::merge));
+            prefixes(entry.chosungKeys(), PRECOMPUTED_CHOSUNG_LENGTH)
+                    .forEach(prefix -> chosungTop.merge(prefix, TopEntries.of(entry), TopEntries::merge));
+        }
+
+        void remove(Long productId) {
+            Entry entry = entries.remove(productId);
+            if (entry != null) {
+                entry.jamoKeys().forEach(key -> jamoKeys.remove(new Key(key, productId)));
+                entry.chosungKeys().forEach(key -> chosungKeys.remove(new Key(key, productId)));
+                prefixes(entry.jamoKeys(), PRECOMPUTED_JAMO_LENGTH)
+                        .forEach(prefix -> jamoTop.computeIfPresent(prefix, (p, top) -> top.without(productId)));
+                prefixes(entry.chosungKeys(), PRECOMPUTED_CHOSUNG_LENGTH)
+                        .forEach(prefix -> chosungTop.computeIfPresent(prefix, (p, top) -> top.without(productId)));
+            }
+        }
+
+        /** 상품 정보와 정렬 집합 키만 추가 */
+        private Entry addEntry(ProductSearchDocument document) {
+            List<String> jamo = new ArrayList<>();
+            List<String> chosung = new ArrayList<>();
+
+            List<String> words = ProductSearchTokenizer.tokenize(document.name());
+            for (int i = 0; i < words.size(); i++) {
+                String suffix = String.join("", words.subList(i, words.size()));
+                jamo.add(HangulJamo.decompose(suffix));
+                chosung.add(HangulJamo.chosung(suffix));
+            }
+
+            Entry entry = new Entry(document.id(), document.name(), document.salesCount(), jamo, chosung);
+            entries.put(entry.id(), entry);
+            jamo.forEach(key -> jamoKeys.add(new Key(key, entry.id())));
+            chosung.forEach(key -> chosungKeys.add(new Key(key, entry.id())));
+            return entry;
+        }
+
+        /** 키들의 길이 1 ~ maxLength 접두어 (여러 위치에서 같은 접두어가 나와도 한 번) */
+        private static Set<String> prefixes(Collection<String> keys, int maxLength) {
+            Set<String> prefixes = new HashSet<>();
+            for (String key : keys) {
+                for (int length = 1; length <= Math.min(maxLength, key.length()); length++) {
+                    prefixes.add(key.substring(0, length));
+                }
+            }
+            return prefixes;
+        }
+
+        private static void collect(Entry entry, Set<String> prefixes,
+                                    Map<String, PriorityQueue<Entry>> heaps, Map<String, Integer> counts) {
+            for (String prefix : prefixes) {
+                PriorityQueue<Entry> heap = heaps.computeIfAbsent(prefix, p -> new PriorityQueue<>(RANKING));
+                heap.offer(entry);
+                if (heap.size() > PRECOMPUTED_SIZE) {
+                    heap.poll();
+                }
+                counts.merge(prefix, 1, Integer::sum);
+            }
+        }
+
+        private static void freeze(Map<String, PriorityQueue<Entry>> heaps, Map<String, Integer> counts,
+                                   Map<String, TopEntries> target) {
+            heaps.forEach((prefix, heap) -> target.put(prefix, new TopEntries(
+                    heap.stream().sorted(RANKING.reversed()).toList(),
+                    counts.get(prefix) > PRECOMPUTED_SIZE)));
+        }
+    }
+
+    /**
+     * 접두어별 상위 상품 (판매 수량 내림차순, 불변).
+     *
+     * @param truncated 일치 상품이 보관 건수를 넘어 잘렸는지 여부
+     */
+    private record TopEntries(List<Entry> entries, boolean truncated) {
+
+        static TopEntries of(Entry entry) {
+            return new TopEntries(List.of(entry), false);
+        }
+
+        TopEntries merge(TopEntries added) {
+            List<Entry> merged = new ArrayList<>(entries);
+            merged.addAll(added.entries);
+            merged.sort(RANKING.reversed());
+            boolean cut = merged.size() > PRECOMPUTED_SIZE;
+            return new TopEntries(List.copyOf(cut ? merged.subList(0, PRECOMPUTED_SIZE) : merged), truncated || cut);
+        }
+
+        /** 상품 제거, 비고 잘린 적도 없으면 접두어 자체를 제거(null) */
+        TopEntries without(Long productId) {
+            List<Entry> remaining = entries.stream().filter(entry -> !entry.id().equals(productId)).toList();
+            return remaining.isEmpty() && !truncated ? null : new TopEntries(remaining, truncated);
+        }
+    }
+
+    private record Entry(Long id, String name, Integer salesCount, List<String> jamoKeys, List<String> chosungKeys) {
+    }
+}
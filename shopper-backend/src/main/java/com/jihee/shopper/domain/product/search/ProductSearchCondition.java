@@ -0,0 +1,20 @@
+package com.jihee.shopper.domain.product.search;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 검색 조건.
+ *
+ * @param keyword     검색어 (ProductSearchTokenizer로 토큰 분리)
+ * @param categoryIds 카테고리 ID 집합 (하위 카테고리 포함, null이면 전체)
+ * @param minPrice    최소 가격 (null이면 제한 없음)
+ * @param maxPrice    최대 가격 (null이면 제한 없음)
+ */
+public record ProductSearchCondition(String keyword, Collection<Long> categoryIds,
+                                     Integer minPrice, Integer maxPrice) {
+
+    public List<String> tokens() {
+        return ProductSearchTokenizer.tokenize(keyword);
+    }
+}
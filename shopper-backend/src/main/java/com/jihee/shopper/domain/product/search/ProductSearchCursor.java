@@ -0,0 +1,57 @@
+package com.jihee.shopper.domain.product.search;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 검색 커서 (관련도 점수 + id).
+ *
+ * <p>클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달한다.
+ * <pre>원문: "{score}|{id}"</pre>
+ */
+public record ProductSearchCursor(float score, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 페이지의 마지막 결과로 다음 커서 생성.
+     */
+    public static ProductSearchCursor of(ProductSearchHit last) {
+        return new ProductSearchCursor(last.score(), last.productId());
+    }
+
+    public static ProductSearchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            float score = Float.parseFloat(parts[0]);
+            if (!Float.isFinite(score)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ProductSearchCursor(score, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 순서(점수 DESC, id DESC)상 이 커서보다 뒤에 오는 결과인지.
+     */
+    public boolean isBefore(ProductSearchHit hit) {
+        int byScore = Float.compare(hit.score(), score);
+        return byScore < 0 || (byScore == 0 && hit.productId() < id);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jihee.shopper.domain.product.search;
+
+/**
+ * 검색 색인용 상품 프로젝션 (ACTIVE 상품만, InMemoryProductSearchEngine · ProductAutocompleteIndex).
+ */
+public record ProductSearchDocument(Long id, Long categoryId, String name, String description,
+                                    Integer price, Integer salesCount) {
+}
@@ -0,0 +1,22 @@
+package com.jihee.shopper.domain.product.search;
+
+import java.util.List;
+
+/**
+ * 상품 전문 검색 엔진.
+ *
+ * <p>검색어의 모든 토큰을 포함하는(접두어 일치) ACTIVE 상품을
+ * 관련도 내림차순, 같은 점수는 상품 ID 내림차순으로 반환한다.
+ * <ul>
+ *   <li>{@link PostgresProductSearchEngine} — tsvector 생성 컬럼 + GIN 인덱스 (기본값)</li>
+ *   <li>{@link InMemoryProductSearchEngine} — 애플리케이션 메모리 역색인 (H2 테스트, {@code search.engine=memory})</li>
+ * </ul>
+ */
+public interface ProductSearchEngine {
+
+    /**
+     * @param after 이전 페이지 마지막 결과 (null이면 첫 페이지)
+     * @param limit 조회 건수 (다음 페이지 여부 판단용으로 size + 1을 전달)
+     */
+    List<ProductSearchHit> search(ProductSearchCondition condition, ProductSearchCursor after, int limit);
+}
@@ -0,0 +1,7 @@
+package com.jihee.shopper.domain.product.search;
+
+/**
+ * 검색 결과 한 건 (상품 ID + 관련도 점수).
+ */
+public record ProductSearchHit(Long productId, float score) {
+}
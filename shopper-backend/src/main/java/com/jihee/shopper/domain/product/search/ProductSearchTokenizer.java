@@ -0,0 +1,31 @@
+package com.jihee.shopper.domain.product.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어·상품 텍스트 토큰 분리.
+ *
+ * <p>문자·숫자가 아닌 글자를 기준으로 나누고 소문자로 통일한다.
+ * PostgreSQL {@code 'simple'} 텍스트 검색 설정과 거의 같은 규칙이라 두 검색 엔진의 결과가 대체로 일치한다.
+ * 한국어는 형태소 분석 없이 접두어 일치로 검색한다 (예: "노트" → "노트북").
+ */
+public final class ProductSearchTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ProductSearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
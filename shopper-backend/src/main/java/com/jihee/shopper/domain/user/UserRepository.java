@@ -2,10 +2,24 @@ package com.jihee.shopper.domain.user;
 
 import com.jihee.shopper.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * 비밀번호 해시 교체 (읽은 뒤 다른 요청이 비밀번호를 바꿨으면 갱신하지 않음).
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :encodedPassword "
+            + "WHERE u.id = :id AND u.password = :previousPassword")
+    int updatePasswordIfUnchanged(Long id, String previousPassword, String encodedPassword);
 }
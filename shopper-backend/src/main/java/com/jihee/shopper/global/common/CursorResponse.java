@@ -0,0 +1,36 @@
+package com.jihee.shopper.global.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이징 응답 공통 래퍼 클래스.
+ *
+ * <p>{@link PageResponse}와 달리 전체 건수(COUNT 쿼리)를 계산하지 않는다.
+ * 다음 페이지 요청 시 {@code nextCursor}를 그대로 전달한다.
+ *
+ * <pre>
+ * {
+ *   "content": [...],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "Q1JFQVRFRF9BVHxERVNDfDIwMjYtMDItMTlUMTA6MDB8NDI"
+ * }
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;            // 요청 페이지 크기
+    private final boolean hasNext;     // 다음 페이지 존재 여부
+    private final String nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null)
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, boolean hasNext, String nextCursor) {
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+}
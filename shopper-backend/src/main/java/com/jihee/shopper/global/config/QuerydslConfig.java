@@ -0,0 +1,25 @@
+package com.jihee.shopper.global.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * QueryDSL 설정 (ADR-01-003).
+ *
+ * <p>{@code XxxRepositoryImpl}에서 주입받아 사용하는 JPAQueryFactory를 Bean으로 등록한다.
+ * EntityManager는 트랜잭션 범위 프록시이므로 싱글톤 팩토리에서 공유해도 안전하다.
+ */
+@Configuration
+public class QuerydslConfig {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Bean
+    public JPAQueryFactory jpaQueryFactory() {
+        return new JPAQueryFactory(entityManager);
+    }
+}
@@ -3,11 +3,16 @@ package com.jihee.shopper.global.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Redis 설정.
- * Refresh Token 저장에 사용하는 StringRedisTemplate을 Bean으로 등록한다.
+ * Refresh Token 저장에 사용하는 StringRedisTemplate과
+ * 조회 캐시에 사용하는 객체 직렬화 RedisTemplate,
+ * 서버 간 캐시 무효화 알림(pub/sub)을 받는 RedisMessageListenerContainer를 Bean으로 등록한다.
  * Spring Boot 자동 구성이 RedisConnectionFactory를 제공하므로 별도 연결 설정은 불필요하다.
  * (application-local.yaml의 spring.data.redis.* 설정 참조)
  */
@@ -23,4 +28,29 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    /**
+     * 객체 캐시 전용 RedisTemplate.
+     * key:   "PD:{productId}" 등 → String
+     * value: Serializable 캐시 객체 → JDK 직렬화
+     */
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.java());
+        return template;
+    }
+
+    /**
+     * pub/sub 구독 컨테이너.
+     * 채널별 리스너는 각 캐시 컴포넌트가 직접 등록한다 (예: "category:changed").
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,15 @@
+package com.jihee.shopper.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정.
+ *
+ * <p>재고 변동 반영 등 주기 작업(@Scheduled)을 활성화한다.
+ * JpaConfig와 같은 이유로 메인 애플리케이션 클래스가 아닌 별도 Config에 선언한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,14 @@
 package com.jihee.shopper.global.config;
 
+import com.jihee.shopper.global.security.AccessTokenDenylist;
+import com.jihee.shopper.global.security.JwtAuthenticationCache;
 import com.jihee.shopper.global.security.JwtFilter;
 import com.jihee.shopper.global.security.JwtProvider;
 import com.jihee.shopper.global.security.oauth2.CustomOAuth2UserService;
 import com.jihee.shopper.global.security.oauth2.OAuth2SuccessHandler;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,6 +38,7 @@ import java.util.List;
  * <p>URL 권한 정책:
  * - /api/auth/**: 인증 불필요 (회원가입, 로그인, 토큰 재발급)
  * - GET /api/products/**: 인증 불필요 (상품 조회는 공개)
+ * - GET /.well-known/jwks.json: 인증 불필요 (JWT 검증용 공개 키)
  * - /api/admin/**: ROLE_ADMIN 전용
  * - 그 외: 인증 필요
  */
@@ -45,6 +49,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final AccessTokenDenylist accessTokenDenylist;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oauth2SuccessHandler;
 
@@ -65,7 +71,9 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
                 .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
@@ -96,15 +104,18 @@ public class SecurityConfig {
             )
 
             // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 삽입
-            .addFilterBefore(new JwtFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtFilter(jwtProvider, jwtAuthenticationCache, accessTokenDenylist), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
-    /** BCrypt 비밀번호 인코더 (ADR-02-004: strength 10) */
+    /**
+     * BCrypt 비밀번호 인코더 (ADR-02-004: 기본 strength 10).
+     * 요청 스레드에서 직접 호출하지 않고 PasswordHasher의 전용 스레드에서 사용한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /** CORS 설정 (ADR-02-001: Authorization 헤더 허용) */
@@ -20,6 +20,7 @@ public enum ErrorCode {
     INVALID_INPUT(400, "잘못된 입력값입니다"),
     UNAUTHORIZED(401, "인증이 필요합니다"),
     FORBIDDEN(403, "접근 권한이 없습니다"),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다"),
     INTERNAL_SERVER_ERROR(500, "서버 오류가 발생했습니다"),
 
     // ── 인증 / 회원 ──────────────────────────────────────────────────────
@@ -29,6 +30,8 @@ public enum ErrorCode {
     INVALID_TOKEN(401, "유효하지 않은 토큰입니다"),
     EXPIRED_TOKEN(401, "만료된 토큰입니다"),
     TOKEN_NOT_FOUND(401, "토큰을 찾을 수 없습니다"),
+    AUTH_BUSY(503, "로그인 요청이 많아 잠시 후 다시 시도해주세요"),
+    TOO_MANY_LOGIN_ATTEMPTS(429, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"),
     ADDRESS_NOT_FOUND(404, "배송지를 찾을 수 없습니다"),
     ADDRESS_IN_USE(400, "주문에서 사용 중인 배송지는 삭제할 수 없습니다"),
 
@@ -38,6 +41,7 @@ public enum ErrorCode {
     CATEGORY_DEPTH_EXCEEDED(400, "카테고리는 최대 3단계까지만 생성할 수 있습니다"),
     CATEGORY_HAS_PRODUCTS(400, "하위 상품이 존재하여 삭제할 수 없습니다"),
     OUT_OF_STOCK(409, "재고가 부족합니다"),
+    STOCK_BUSY(503, "주문이 많아 재고 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요"),
 
     // ── 장바구니 ──────────────────────────────────────────────────────────
     CART_ITEM_NOT_FOUND(404, "장바구니 상품을 찾을 수 없습니다"),
@@ -47,6 +51,12 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(404, "주문을 찾을 수 없습니다"),
     ORDER_CANCEL_NOT_ALLOWED(400, "취소할 수 없는 주문 상태입니다"),
     ORDER_ALREADY_PAID(400, "이미 결제 완료된 주문입니다"),
+    ORDER_IN_PROGRESS(409, "같은 주문 요청을 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_REUSED(422, "이미 다른 주문 요청에 사용된 Idempotency-Key입니다"),
+    IDEMPOTENCY_UNAVAILABLE(503, "주문 중복 여부를 확인할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    CHECKOUT_QUEUE_FULL(503, "주문 접수가 많아 잠시 후 다시 시도해주세요"),
+    CHECKOUT_NOT_FOUND(404, "주문 접수 내역을 찾을 수 없습니다"),
+    CHECKOUT_DISABLED(404, "비동기 주문 접수를 사용하지 않습니다"),
 
     // ── 결제 ─────────────────────────────────────────────────────────────
     PAYMENT_AMOUNT_MISMATCH(400, "결제 금액이 일치하지 않습니다"),
@@ -0,0 +1,117 @@
+package com.jihee.shopper.global.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 Access Token 목록 (jti 기준) + 서버별 Bloom filter.
+ *
+ * <p>로그아웃한 Access Token도 만료 전까지는 서명이 유효하므로, jti를 Redis에 폐기 목록으로 기록한다.
+ * <pre>
+ * Redis Key:   "AT:REVOKED"  (Sorted Set)
+ * Member:      jti
+ * Score:       토큰 만료 시각 (epoch ms, 지난 항목은 동기화 시 정리)
+ * </pre>
+ *
+ * <p>JwtFilter는 요청마다 {@link #isRevoked}를 호출한다. 대부분의 토큰은 폐기되지 않았으므로,
+ * 각 서버가 폐기 목록 전체를 Bloom filter로 메모리에 두고 filter에 없으면 Redis 조회 없이 통과시킨다.
+ * filter가 "있을 수 있음"이라고 답한 경우(폐기 또는 1% 이하 오탐)에만 Redis에서 확인한다.
+ *
+ * <p>filter는 {@value #SYNC_INTERVAL_MILLIS}ms마다 Redis 기준으로 다시 만든다.
+ * 자신이 폐기한 jti는 바로 반영되고, 다른 서버에서 폐기한 jti는 다음 동기화부터 거부된다.
+ *
+ * <p>Redis 장애 시: 기록 실패는 로그만 남기고(토큰은 만료까지 유효), filter 적중 후 확인 실패는 폐기된 것으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenDenylist {
+
+    static final String KEY = "AT:REVOKED";
+    static final long SYNC_INTERVAL_MILLIS = 5_000;
+
+    private static final int MIN_CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /** 이 서버에서 폐기한 jti → 폐기 시각 (동기화 중 폐기된 jti가 새 filter에서 빠지지 않도록 유지) */
+    private final Map<String, Long> recentlyRevoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 폐기 여부 (filter에 없으면 Redis 조회 없이 false).
+     */
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(KEY, jti);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            log.warn("[AccessTokenDenylist] 폐기 확인 실패, 거부 처리 jti={}, message={}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    // ── 폐기 ───────────────────────────────────────────────────────────────
+
+    /**
+     * Access Token 폐기 (만료 시각 이후에는 목록에서 정리된다).
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        try {
+            redisTemplate.opsForZSet().add(KEY, jti, expiresAtMillis);
+        } catch (DataAccessException e) {
+            log.warn("[AccessTokenDenylist] 폐기 기록 실패 jti={}, message={}", jti, e.getMessage());
+            return;
+        }
+        recentlyRevoked.put(jti, System.currentTimeMillis());
+        filter.add(jti);
+    }
+
+    // ── 동기화 ─────────────────────────────────────────────────────────────
+
+    /**
+     * 만료된 항목을 정리하고 남은 폐기 목록으로 filter를 다시 만든다.
+     */
+    @Scheduled(fixedDelay = SYNC_INTERVAL_MILLIS)
+    public void sync() {
+        long now = System.currentTimeMillis();
+        Set<String> revoked;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now);
+            revoked = redisTemplate.opsForZSet().rangeByScore(KEY, now, Double.POSITIVE_INFINITY);
+        } catch (DataAccessException e) {
+            log.warn("[AccessTokenDenylist] 동기화 실패, 이전 filter 유지 message={}", e.getMessage());
+            return;
+        }
+        if (revoked == null) {
+            return;
+        }
+
+        // 조회 이후 이 서버에서 폐기된 jti까지 넣은 뒤 교체 (교체 시점에 빠진 jti가 없도록)
+        BloomFilter rebuilt = BloomFilter.create(Math.max(MIN_CAPACITY, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.forEach(rebuilt::add);
+        recentlyRevoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+
+        // 위 반영과 교체 사이에 폐기되어 이전 filter에만 들어간 jti 반영 + 오래된 항목 정리
+        recentlyRevoked.keySet().forEach(rebuilt::add);
+        recentlyRevoked.values().removeIf(revokedAt -> revokedAt < now - SYNC_INTERVAL_MILLIS);
+
+        log.debug("[AccessTokenDenylist] 동기화 revoked={}", revoked.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.jihee.shopper.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (폐기된 Access Token jti 사전 확인용).
+ *
+ * <p>mightContain이 false면 확실히 없는 값이고, true면 오탐률(fpp) 이하 확률로 없는 값일 수 있다.
+ * 비트 배열은 AtomicLongArray라 조회 중 add가 동시에 일어나도 안전하다.
+ * 해시는 64비트 해시 하나에서 두 값을 얻어 k개 위치를 만든다 (Kirsch–Mitzenmacher).
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 크기를 정한다.
+     */
+    static BloomFilter create(int expectedInsertions, double fpp) {
+        int n = Math.max(expectedInsertions, 1);
+        long bitCount = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new BloomFilter((int) Math.min(bitCount, Integer.MAX_VALUE - 63), hashCount);
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = position(h1 + i * h2);
+            bits.getAndUpdate(index >>> 6, word -> word | (1L << index));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = position(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int position(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /** FNV-1a 64비트 + murmur3 fmix64 */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 /**
  * JWT 클레임으로부터 생성되는 인증 객체 (ADR-02-005).
  * DB 조회 없이 토큰 파싱만으로 생성된다.
+ * tokenId는 Access Token의 jti (jti 도입 전 발급된 토큰은 null).
  */
 @Getter
 @RequiredArgsConstructor
@@ -21,6 +22,7 @@ public class CustomUserDetails implements UserDetails {
     private final Long userId;
     private final String email;
     private final UserRole role;
+    private final String tokenId;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,122 @@
+package com.jihee.shopper.global.security;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 Access Token → 인증 객체 메모리 캐시 (JwtFilter 전용).
+ *
+ * <p>같은 토큰으로 반복되는 요청마다 서명 검증·Base64 디코딩·JSON 파싱을 다시 하지 않도록,
+ * 검증을 통과한 토큰의 {@link CustomUserDetails}를 보관한다.
+ * <ul>
+ *   <li>Key: 토큰 SHA-256 해시 (토큰 원문은 메모리에 남기지 않음)</li>
+ *   <li>만료: min(적재 후 {@value #MAX_TTL_MINUTES}분, 토큰 exp) — 만료된 토큰은 캐시에서도 인정하지 않는다</li>
+ *   <li>크기: 최대 {@value #MAX_SIZE}건, 초과 시 만료 항목 우선으로 하나 제거</li>
+ * </ul>
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    static final int MAX_SIZE = 10_000;
+    static final long MAX_TTL_MINUTES = 5;
+
+    private static final long MAX_TTL_MILLIS = Duration.ofMinutes(MAX_TTL_MINUTES).toMillis();
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시된 인증 객체 (없거나 만료되었으면 null).
+     */
+    public CustomUserDetails get(String token) {
+        String key = hash(token);
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.userDetails();
+    }
+
+    // ── 적재 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 검증된 토큰의 인증 객체를 적재한다.
+     *
+     * @param expiration 토큰 exp 클레임 (null이면 최대 TTL만 적용)
+     */
+    public void put(String token, CustomUserDetails userDetails, Date expiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + MAX_TTL_MILLIS;
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        String key = hash(token);
+        if (cache.size() >= MAX_SIZE && !cache.containsKey(key)) {
+            evictOne();
+        }
+        cache.put(key, new Entry(userDetails, expiresAt));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /** 최대 크기 초과 시 임의의 항목 하나를 제거 (만료 항목 우선) */
+    private void evictOne() {
+        Iterator<Map.Entry<String, Entry>> iterator = cache.entrySet().iterator();
+        Map.Entry<String, Entry> victim = null;
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> next = iterator.next();
+            if (next.getValue().isExpired()) {
+                victim = next;
+                break;
+            }
+            if (victim == null) {
+                victim = next;
+            }
+        }
+        if (victim != null) {
+            cache.remove(victim.getKey(), victim.getValue());
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    private record Entry(CustomUserDetails userDetails, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -20,6 +20,9 @@ import java.io.IOException;
  * <p>Authorization: Bearer {token} 헤더에서 토큰을 추출하고,
  * 유효한 경우 SecurityContext에 인증 정보를 설정한다.
  * DB 조회 없이 토큰 클레임만으로 CustomUserDetails를 생성한다.
+ *
+ * <p>토큰은 요청당 한 번만 검증·파싱하며, 검증된 토큰은 {@link JwtAuthenticationCache}에서 재사용한다.
+ * 로그아웃으로 폐기된 토큰은 {@link AccessTokenDenylist}로 걸러낸다 (캐시 적중 시에도 확인).
  */
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
@@ -28,6 +31,8 @@ public class JwtFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtProvider jwtProvider;
+    private final JwtAuthenticationCache authenticationCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,15 +40,9 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String token = extractToken(request);
+        CustomUserDetails userDetails = token != null ? authenticate(token) : null;
 
-        if (token != null && jwtProvider.validateToken(token)) {
-            Claims claims = jwtProvider.getClaims(token);
-
-            Long userId = Long.parseLong(claims.getSubject());
-            String email = claims.get("email", String.class);
-            UserRole role = UserRole.valueOf(claims.get("role", String.class));
-
-            CustomUserDetails userDetails = new CustomUserDetails(userId, email, role);
+        if (userDetails != null && !isRevoked(userDetails)) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
@@ -54,6 +53,33 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 캐시 → 토큰 검증 순으로 인증 객체를 얻는다 (유효하지 않으면 null).
+     */
+    private CustomUserDetails authenticate(String token) {
+        CustomUserDetails cached = authenticationCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtProvider.parseClaims(token).orElse(null);
+        if (claims == null) {
+            return null;
+        }
+
+        Long userId = Long.parseLong(claims.getSubject());
+        String email = claims.get("email", String.class);
+        UserRole role = UserRole.valueOf(claims.get("role", String.class));
+
+        CustomUserDetails userDetails = new CustomUserDetails(userId, email, role, claims.getId());
+        authenticationCache.put(token, userDetails, claims.getExpiration());
+        return userDetails;
+    }
+
+    private boolean isRevoked(CustomUserDetails userDetails) {
+        return userDetails.getTokenId() != null && accessTokenDenylist.isRevoked(userDetails.getTokenId());
+    }
+
     private String extractToken(HttpServletRequest request) {
         String header = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
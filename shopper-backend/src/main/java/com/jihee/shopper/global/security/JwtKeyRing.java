@@ -0,0 +1,288 @@
+package com.jihee.shopper.global.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * JWT 서명 키 링 (서버별 비대칭 키 + Redis 공개 키 목록).
+ *
+ * <p>각 서버가 자신의 키 쌍을 메모리에서 만들고 공개 키만 Redis에 게시한다.
+ * 개인 키는 서버 밖으로 나가지 않으며, 검증하는 쪽은 공개 키 목록(JWKS)만 있으면 된다.
+ * <pre>
+ * Redis Key:   "JWT:KEYS"  (Hash)
+ * Field:       kid
+ * Value:       "{algorithm}|{X.509 공개 키 Base64}|{폐기 시각 epoch ms}"
+ * </pre>
+ *
+ * <p>교체: 서명 키는 {@code jwt.signing.rotation-hours}마다 바꾼다. 다음 키의 공개 키를 먼저 게시하고
+ * {@code jwt.signing.publish-lead-seconds}(기본 6분 = JWKS 캐시 {@link #JWKS_MAX_AGE} + 목록 재조회 주기 1분)가
+ * 지난 뒤에 서명을 시작하므로, JWKS를 캐시한 외부 서비스도 새 kid를 처음 보기 전에 공개 키를 받아 둔다.
+ * 이전 공개 키는 그 키로 서명한 토큰이 모두 만료될 때까지(Refresh Token 만료 시간 + 교체 주기) 목록에 남으므로
+ * 교체해도 로그아웃되지 않는다. 기동 직후에는 서명할 키가 없으므로 첫 키만 게시와 동시에 사용한다.
+ *
+ * <p>검증 키는 kid → 공개 키 불변 Map으로 두고 참조만 교체한다 (검증 시 Redis 접근·할당 없음).
+ * 1분마다 Redis 목록을 다시 읽으며, 모르는 kid가 오면(다른 서버가 방금 교체) 최대 1초에 한 번 즉시 다시 읽는다.
+ *
+ * <p>Redis 장애 시에는 이전 목록을 유지하고, 게시하지 못한 자기 키는 다음 주기에 다시 게시한다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    static final String KEY = "JWT:KEYS";
+
+    /** JWKS 응답 캐시 시간 (JwksController Cache-Control max-age) */
+    public static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    private static final long RELOAD_INTERVAL_MILLIS = 60_000;
+    private static final long RELOAD_ON_MISS_INTERVAL_MILLIS = 1_000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtSigningAlgorithm algorithm;
+    private final Duration rotationInterval;
+    private final Duration retention;
+    private final long publishLeadMillis;
+
+    private volatile SigningKey signingKey;
+    /** 게시했지만 아직 서명에 쓰지 않는 다음 키 (없으면 null) */
+    private volatile NextKey nextKey;
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+    private volatile String jwksJson = "{\"keys\":[]}";
+    private volatile boolean published;
+    private volatile long lastReloadAt;
+
+    public JwtKeyRing(StringRedisTemplate redisTemplate,
+                      @Value("${jwt.signing.algorithm:EdDSA}") JwtSigningAlgorithm algorithm,
+                      @Value("${jwt.signing.rotation-hours:24}") long rotationHours,
+                      @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry,
+                      @Value("${jwt.signing.publish-lead-seconds:360}") long publishLeadSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.algorithm = algorithm;
+        this.rotationInterval = Duration.ofHours(rotationHours);
+        this.retention = Duration.ofMillis(refreshTokenExpiry).plus(rotationInterval);
+        this.publishLeadMillis = Duration.ofSeconds(publishLeadSeconds).toMillis();
+    }
+
+    /** 서명 키 (createdAt: 서명 시작 시각) */
+    public record SigningKey(String kid, PrivateKey privateKey, JwtSigningAlgorithm algorithm, long createdAt) {
+    }
+
+    /** 다음 서명 키 (publishedAt: 공개 키 게시 시각, 게시 전이면 0) */
+    private record NextKey(SigningKey key, PublicKey publicKey, long publishedAt) {
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    /** 현재 서명 키 */
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * kid에 해당하는 검증용 공개 키 (없으면 Redis를 다시 읽어 한 번 더 확인, 그래도 없으면 null).
+     */
+    public PublicKey verificationKey(String kid) {
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastReloadAt > RELOAD_ON_MISS_INTERVAL_MILLIS) {
+            reload();
+            key = verificationKeys.get(kid);
+        }
+        return key;
+    }
+
+    /** 공개 키 목록 (JWKS JSON, 갱신 시에만 다시 만듦) */
+    public String jwks() {
+        return jwksJson;
+    }
+
+    // ── 교체 / 갱신 ─────────────────────────────────────────────────────────
+
+    /**
+     * 첫 서명 키 (기동 직후에는 서명할 키가 없으므로 게시와 동시에 사용, 다른 서버는 모르는 kid 재조회로 확인).
+     */
+    @PostConstruct
+    void initialize() {
+        KeyPair keyPair = algorithm.generateKeyPair();
+        SigningKey initial = new SigningKey(newKid(), keyPair.getPrivate(), algorithm, System.currentTimeMillis());
+
+        addVerificationKey(initial.kid(), keyPair.getPublic());
+        published = publish(initial, keyPair.getPublic());
+        signingKey = initial;
+        reload();
+        log.info("[JwtKeyRing] 서명 키 생성 kid={}, algorithm={}", initial.kid(), algorithm);
+    }
+
+    /**
+     * 공개 키 목록을 다시 읽고, 교체 단계를 진행한다 (1분 주기).
+     * <ol>
+     *   <li>서명 키 사용 시간이 (교체 주기 - 게시 선행 시간)을 넘으면 다음 키를 게시</li>
+     *   <li>다음 키 게시 후 게시 선행 시간이 지나면 서명 키로 교체</li>
+     * </ol>
+     */
+    @Scheduled(fixedDelay = RELOAD_INTERVAL_MILLIS, initialDelay = RELOAD_INTERVAL_MILLIS)
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        NextKey next = nextKey;
+        if (next == null) {
+            if (now - signingKey.createdAt() >= rotationInterval.toMillis() - publishLeadMillis) {
+                rotate();
+                return;
+            }
+        } else if (next.publishedAt() == 0) {
+            if (publish(next.key(), next.publicKey())) {
+                nextKey = new NextKey(next.key(), next.publicKey(), now);
+            }
+        } else if (now - next.publishedAt() >= publishLeadMillis) {
+            promote(next);
+        }
+
+        if (!published) {
+            published = publish(signingKey, verificationKeys.get(signingKey.kid()));
+        }
+        reload();
+    }
+
+    /**
+     * 다음 서명 키를 만들어 공개 키만 먼저 게시한다 (서명에는 게시 선행 시간 뒤 refresh가 교체해 사용).
+     */
+    public void rotate() {
+        KeyPair keyPair = algorithm.generateKeyPair();
+        long now = System.currentTimeMillis();
+        SigningKey next = new SigningKey(newKid(), keyPair.getPrivate(), algorithm, now + publishLeadMillis);
+
+        addVerificationKey(next.kid(), keyPair.getPublic());
+        boolean nextPublished = publish(next, keyPair.getPublic());
+        nextKey = new NextKey(next, keyPair.getPublic(), nextPublished ? now : 0);
+        reload();
+        log.info("[JwtKeyRing] 다음 서명 키 게시 kid={}, algorithm={}", next.kid(), algorithm);
+    }
+
+    /**
+     * Redis 공개 키 목록을 읽어 검증 키·JWKS를 교체한다 (폐기 시각이 지난 키는 삭제).
+     */
+    void reload() {
+        lastReloadAt = System.currentTimeMillis();
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(KEY);
+        } catch (DataAccessException e) {
+            log.warn("[JwtKeyRing] 공개 키 목록 조회 실패, 이전 목록 유지 message={}", e.getMessage());
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, PublicKey> keys = new HashMap<>();
+        Map<String, JwtSigningAlgorithm> algorithms = new HashMap<>();
+        List<Object> expired = new ArrayList<>();
+        // 형식이 잘못된 항목은 건너뛴다 (한 항목 때문에 나머지 키까지 갱신되지 않는 일 방지)
+        entries.forEach((field, value) -> {
+            String[] parts = ((String) value).split("\\|");
+            if (parts.length != 3) {
+                log.warn("[JwtKeyRing] 공개 키 형식 오류 kid={}, parts={}", field, parts.length);
+                return;
+            }
+            try {
+                if (Long.parseLong(parts[2]) < now) {
+                    expired.add(field);
+                    return;
+                }
+                JwtSigningAlgorithm keyAlgorithm = JwtSigningAlgorithm.valueOf(parts[0]);
+                keys.put((String) field, keyAlgorithm.decodePublicKey(parts[1]));
+                algorithms.put((String) field, keyAlgorithm);
+            } catch (IllegalArgumentException e) {
+                log.warn("[JwtKeyRing] 공개 키 형식 오류 kid={}, message={}", field, e.getMessage());
+            }
+        });
+
+        // 자기 키(현재·다음)는 게시 실패 시에도 검증할 수 있도록 유지
+        SigningKey current = signingKey;
+        NextKey next = nextKey;
+        for (SigningKey own : new SigningKey[]{current, next == null ? null : next.key()}) {
+            if (own != null && !keys.containsKey(own.kid())) {
+                PublicKey publicKey = verificationKeys.get(own.kid());
+                if (publicKey != null) {
+                    keys.put(own.kid(), publicKey);
+                    algorithms.put(own.kid(), own.algorithm());
+                }
+            }
+        }
+
+        verificationKeys = Map.copyOf(keys);
+        jwksJson = toJwks(keys, algorithms);
+
+        if (!expired.isEmpty()) {
+            try {
+                redisTemplate.opsForHash().delete(KEY, expired.toArray());
+            } catch (DataAccessException e) {
+                log.warn("[JwtKeyRing] 만료 공개 키 삭제 실패 message={}", e.getMessage());
+            }
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 다음 키를 서명 키로 바꾼다 (폐기 시각을 실제 서명 시작 시각 기준으로 다시 게시).
+     */
+    private void promote(NextKey next) {
+        SigningKey active = new SigningKey(next.key().kid(), next.key().privateKey(), next.key().algorithm(),
+                System.currentTimeMillis());
+        published = publish(active, next.publicKey());
+        signingKey = active;
+        nextKey = null;
+        log.info("[JwtKeyRing] 서명 키 교체 kid={}, algorithm={}", active.kid(), active.algorithm());
+    }
+
+    private void addVerificationKey(String kid, PublicKey publicKey) {
+        Map<String, PublicKey> keys = new HashMap<>(verificationKeys);
+        keys.put(kid, publicKey);
+        verificationKeys = Map.copyOf(keys);
+    }
+
+    /** @return 게시 성공 여부 (실패 시 다음 refresh에서 다시 게시) */
+    private boolean publish(SigningKey key, PublicKey publicKey) {
+        long retireAt = key.createdAt() + retention.toMillis();
+        String value = key.algorithm().name() + "|" + JwtSigningAlgorithm.encodePublicKey(publicKey) + "|" + retireAt;
+        try {
+            redisTemplate.opsForHash().put(KEY, key.kid(), value);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("[JwtKeyRing] 공개 키 게시 실패 kid={}, message={}", key.kid(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String toJwks(Map<String, PublicKey> keys, Map<String, JwtSigningAlgorithm> algorithms) {
+        StringJoiner joiner = new StringJoiner(",", "{\"keys\":[", "]}");
+        keys.forEach((kid, publicKey) -> {
+            JwtSigningAlgorithm keyAlgorithm = algorithms.get(kid);
+            joiner.add("{" + keyAlgorithm.jwkFields(publicKey)
+                    + ",\"kid\":\"" + kid + "\",\"alg\":\"" + keyAlgorithm.name() + "\",\"use\":\"sig\"}");
+        });
+        return joiner.toString();
+    }
+
+    private static String newKid() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
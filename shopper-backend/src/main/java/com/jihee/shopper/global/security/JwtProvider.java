@@ -2,40 +2,65 @@ package com.jihee.shopper.global.security;
 
 import com.jihee.shopper.domain.user.entity.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성·검증·파싱 컴포넌트 (ADR-02-001, ADR-02-005).
  *
  * <p>Access Token Payload:
- * <pre>{ "sub": "{userId}", "email": "...", "role": "ROLE_USER", "iat": ..., "exp": ... }</pre>
+ * <pre>{ "sub": "{userId}", "email": "...", "role": "ROLE_USER", "jti": "...", "iat": ..., "exp": ... }</pre>
+ * jti는 로그아웃 시 토큰 폐기 목록(AccessTokenDenylist)의 키로 쓰인다.
  *
  * <p>Refresh Token Payload:
- * <pre>{ "sub": "{userId}", "iat": ..., "exp": ... }</pre>
+ * <pre>{ "sub": "{userId}", "did": "{deviceId}", "jti": "...", "iat": ..., "exp": ... }</pre>
+ * jti로 같은 시각에 발급된 토큰도 서로 다르게 만든다 (RTR 재사용 감지).
+ *
+ * <p>서명: {@link JwtKeyRing}의 현재 비대칭 키(EdDSA 기본, RS256 선택)로 서명하고 헤더에 kid를 넣는다.
+ * 검증: 헤더 kid로 키 링의 공개 키를 찾는다. JwtParser는 불변·스레드 안전하므로 생성 시 한 번만 만들어 재사용하며,
+ * 키 교체는 키 링의 Map 교체로 반영되어 재시작이 필요 없다.
+ *
+ * <p>kid가 없는 토큰은 비대칭 서명 도입 전 HS256 토큰으로 보고, {@code jwt.secret}이 설정된 경우에만
+ * 그 비밀 키로 검증한다 (기존 토큰이 만료될 때까지의 이행용, 새 토큰은 HS256으로 발급하지 않음).
  */
 @Component
 public class JwtProvider {
 
     private static final String CLAIM_EMAIL = "email";
     private static final String CLAIM_ROLE  = "role";
+    private static final String CLAIM_DEVICE_ID = "did";
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    private final SecretKey legacySecretKey;
+    private final JwtParser parser;
     private final long accessTokenExpiry;
     private final long refreshTokenExpiry;
 
     public JwtProvider(
-            @Value("${jwt.secret}") String secret,
+            JwtKeyRing keyRing,
+            @Value("${jwt.secret:}") String legacySecret,
             @Value("${jwt.access-token-expiry}") long accessTokenExpiry,
             @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.legacySecretKey = StringUtils.hasText(legacySecret)
+                ? Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8))
+                : null;
+        this.parser = Jwts.parser().keyLocator(this::locateKey).build();
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
     }
@@ -43,51 +68,90 @@ public class JwtProvider {
     // ── 토큰 생성 ────────────────────────────────────────────────────────────
 
     public String generateAccessToken(Long userId, String email, UserRole role) {
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
         return Jwts.builder()
+                .header().keyId(key.kid()).and()
                 .subject(String.valueOf(userId))
                 .claim(CLAIM_EMAIL, email)
                 .claim(CLAIM_ROLE, role.name())
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiry))
-                .signWith(secretKey, Jwts.SIG.HS256)
+                .signWith(key.privateKey(), key.algorithm().signatureAlgorithm())
                 .compact();
     }
 
-    public String generateRefreshToken(Long userId) {
+    public String generateRefreshToken(Long userId, String deviceId) {
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
         return Jwts.builder()
+                .header().keyId(key.kid()).and()
                 .subject(String.valueOf(userId))
+                .claim(CLAIM_DEVICE_ID, deviceId)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiry))
-                .signWith(secretKey, Jwts.SIG.HS256)
+                .signWith(key.privateKey(), key.algorithm().signatureAlgorithm())
                 .compact();
     }
 
     // ── 토큰 검증 ────────────────────────────────────────────────────────────
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 검증과 파싱을 한 번에 수행한다 (서명·만료 검증 실패 시 빈 값).
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            getClaims(token);
-            return true;
+            return Optional.of(getClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
     // ── 토큰 파싱 ────────────────────────────────────────────────────────────
 
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Long getUserId(String token) {
         return Long.parseLong(getClaims(token).getSubject());
     }
 
+    /** Refresh Token의 기기 ID (이전 형식 토큰은 null) */
+    public String getDeviceId(Claims claims) {
+        return claims.get(CLAIM_DEVICE_ID, String.class);
+    }
+
+    public long getAccessTokenExpiry() {
+        return accessTokenExpiry;
+    }
+
     public long getRefreshTokenExpiry() {
         return refreshTokenExpiry;
     }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /**
+     * 헤더 kid → 검증 키 (kid 없으면 이행용 HS256 비밀 키).
+     */
+    private Key locateKey(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            if (legacySecretKey == null) {
+                throw new JwtException("kid가 없는 토큰");
+            }
+            return legacySecretKey;
+        }
+
+        PublicKey key = keyRing.verificationKey(kid);
+        if (key == null) {
+            throw new JwtException("알 수 없는 kid: " + kid);
+        }
+        return key;
+    }
 }
@@ -0,0 +1,105 @@
+package com.jihee.shopper.global.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * JWT 서명 알고리즘 (비대칭 키).
+ *
+ * <p>키 생성, 공개 키 직렬화(X.509), JWKS 항목(JWK JSON) 변환을 알고리즘별로 제공한다.
+ */
+public enum JwtSigningAlgorithm {
+
+    /** Ed25519 — 키·서명이 작고 서명·검증이 빠름 (기본값) */
+    EdDSA("Ed25519", Jwts.SIG.EdDSA) {
+        @Override
+        KeyPairGenerator generator() throws NoSuchAlgorithmException {
+            return KeyPairGenerator.getInstance("Ed25519");
+        }
+
+        @Override
+        String jwkFields(PublicKey publicKey) {
+            // X.509 인코딩 = 12바이트 헤더 + 32바이트 공개 키
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+            return "\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"x\":\"" + base64Url(raw) + "\"";
+        }
+    },
+
+    /** RSA 2048 + SHA-256 — JWKS를 EdDSA 미지원 검증기와 공유해야 할 때 */
+    RS256("RSA", Jwts.SIG.RS256) {
+        @Override
+        KeyPairGenerator generator() throws NoSuchAlgorithmException {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator;
+        }
+
+        @Override
+        String jwkFields(PublicKey publicKey) {
+            RSAPublicKey rsa = (RSAPublicKey) publicKey;
+            return "\"kty\":\"RSA\",\"n\":\"" + base64Url(unsigned(rsa.getModulus()))
+                    + "\",\"e\":\"" + base64Url(unsigned(rsa.getPublicExponent())) + "\"";
+        }
+    };
+
+    private final String keyFactoryAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    JwtSigningAlgorithm(String keyFactoryAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    abstract KeyPairGenerator generator() throws NoSuchAlgorithmException;
+
+    /** JWK 중 알고리즘별 공개 키 필드 (kty, crv/x 또는 n/e) */
+    abstract String jwkFields(PublicKey publicKey);
+
+    SignatureAlgorithm signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    KeyPair generateKeyPair() {
+        try {
+            return generator().generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(name() + " 키 생성 미지원", e);
+        }
+    }
+
+    PublicKey decodePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException(name() + " 공개 키 형식 오류", e);
+        }
+    }
+
+    static String encodePublicKey(PublicKey publicKey) {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /** BigInteger 부호 바이트 제거 (JWK는 부호 없는 big-endian) */
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
@@ -0,0 +1,136 @@
+package com.jihee.shopper.global.security;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기 (BCrypt encode/matches를 고정 크기 스레드 풀에서 실행).
+ *
+ * <p>BCrypt는 의도적으로 느린 CPU 연산이라(strength 10 기준 수십 ms), 로그인이 몰리면 요청 스레드마다
+ * 해시를 계산하면서 CPU를 모두 차지하고 같은 Tomcat 풀의 상품 조회까지 느려진다.
+ * 해시는 {@code password.hashing.threads}개 스레드에서만 계산하므로 로그인·회원가입이 쓰는 CPU 코어 수가 제한된다.
+ *
+ * <p>대기열은 {@code password.hashing.queue-capacity}개로 제한한다. 가득 차면 바로 AUTH_BUSY(503)로 거절하고,
+ * 대기열에 들어갔더라도 {@code password.hashing.timeout-millis} 안에 끝나지 않으면 작업을 취소하고 거절한다.
+ * 따라서 해시를 기다리며 묶여 있는 요청 스레드 수도 스레드 수 + 대기열 크기를 넘지 않는다.
+ *
+ * <p>{@link #needsRehash}는 저장된 해시의 cost가 설정값과 다른지 확인한다 (strength 변경 후 로그인 시 재해시).
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${password.hashing.strength:10}") int strength,
+                          @Value("${password.hashing.threads:0}") int threads,
+                          @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hashing.timeout-millis:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+
+        // 0 이하: 코어의 절반 (나머지는 일반 요청 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "password-hasher-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // ── 해시 / 비교 ─────────────────────────────────────────────────────────
+
+    /**
+     * @throws CustomException AUTH_BUSY — 대기열이 가득 찼거나 제한 시간 초과
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * @throws CustomException AUTH_BUSY — 대기열이 가득 찼거나 제한 시간 초과
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 BCrypt 해시("$2a$10$...")의 cost가 설정된 strength와 다르면 true.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** 대기 중인 해시 작업 수 (테스트용) */
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[PasswordHasher] 대기열 초과로 거절 queued={}", executor.getQueue().size());
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 실행되지 않고 버려진다
+            future.cancel(true);
+            log.warn("[PasswordHasher] 제한 시간 초과로 거절 timeout={}ms", timeout.toMillis());
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
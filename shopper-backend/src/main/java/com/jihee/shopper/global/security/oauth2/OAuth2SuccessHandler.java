@@ -1,19 +1,18 @@
 package com.jihee.shopper.global.security.oauth2;
 
+import com.jihee.shopper.domain.auth.RefreshTokenStore;
 import com.jihee.shopper.domain.user.entity.User;
 import com.jihee.shopper.global.security.JwtProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.time.Duration;
 
 /**
  * OAuth2 로그인 성공 후 JWT를 발급하고 프론트엔드로 Redirect한다 (ADR-02-007).
@@ -27,10 +26,8 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
-
     private final JwtProvider jwtProvider;
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${app.frontend-url}")
     private String frontendUrl;
@@ -43,14 +40,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         User user = oauth2User.getUser();
 
         String accessToken  = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
-        String refreshToken = jwtProvider.generateRefreshToken(user.getId());
+        String refreshToken = jwtProvider.generateRefreshToken(user.getId(), RefreshTokenStore.DEFAULT_DEVICE_ID);
 
-        // Redis에 Refresh Token 저장 (ADR-02-002: RT:{userId})
-        redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + user.getId(),
-                refreshToken,
-                Duration.ofMillis(jwtProvider.getRefreshTokenExpiry())
-        );
+        // Redis에 Refresh Token 저장 (ADR-02-002: RT:{userId} 기본 기기)
+        refreshTokenStore.save(user.getId(), RefreshTokenStore.DEFAULT_DEVICE_ID, refreshToken);
 
         // Query Parameter로 프론트엔드에 토큰 전달 (ADR-02-007)
         String redirectUrl = UriComponentsBuilder
@@ -0,0 +1,22 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- 주문 멱등성 키 기록 (OrderIdempotencyKey, OrderIdempotencyService)
+--
+-- 운영은 ddl-auto: validate이므로 이 변경을 포함한 배포 전에 한 번 직접 실행한다.
+--   psql "$DB_URL" -f order_idempotency_keys.sql
+--
+-- (user_id, idempotency_key) 유니크 제약이 같은 키의 두 번째 주문을 막는 최종 방어선이다.
+-- created_at 인덱스는 만료 기록 정리(purgeExpired, 1시간마다)의 범위 삭제용이다.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE IF NOT EXISTS order_idempotency_keys (
+    id               bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id          bigint       NOT NULL,
+    idempotency_key  varchar(100) NOT NULL,
+    fingerprint      varchar(36)  NOT NULL,
+    order_id         bigint       NOT NULL,
+    created_at       timestamp    NOT NULL,
+    updated_at       timestamp    NOT NULL,
+    CONSTRAINT uk_order_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_keys_created_at ON order_idempotency_keys (created_at);
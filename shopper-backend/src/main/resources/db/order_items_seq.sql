@@ -0,0 +1,18 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- 주문 상품 ID 시퀀스 (OrderItem: SEQUENCE, allocationSize 50)
+--
+-- 운영은 ddl-auto: validate이므로 이 변경을 포함한 배포 전에 한 번 직접 실행한다.
+--   psql "$DB_URL" -f order_items_seq.sql
+--
+-- 1) INCREMENT BY는 엔티티의 allocationSize(50)와 같아야 한다 (다르면 validate 실패).
+-- 2) pooled optimizer는 nextval 값 v를 받아 (v - 49) ~ v 범위를 쓴다. 기존 IDENTITY로 발급된 ID와
+--    겹치지 않도록 현재 최대 ID + 50에서 시작시킨다 (첫 nextval = 최대 ID + 100).
+-- 3) 기존 IDENTITY 기본값은 더 이상 쓰지 않으므로 제거한다. 배포 중 이전 버전 서버가 INSERT하지 않도록
+--    구 버전을 모두 내린 뒤 실행한다.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE SEQUENCE IF NOT EXISTS order_items_seq INCREMENT BY 50;
+
+SELECT setval('order_items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM order_items));
+
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,19 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- 상품 전문 검색 컬럼·인덱스 (PostgresProductSearchEngine)
+--
+-- 운영은 ddl-auto: validate이고 search_vector는 엔티티에 매핑하지 않으므로 배포 전에 한 번 직접 실행한다.
+--   psql "$DB_URL" -f product_search_vector.sql
+--
+-- 1) 생성 컬럼 추가는 테이블을 다시 쓰며 ACCESS EXCLUSIVE 잠금을 잡는다 → 트래픽이 적은 시간에 실행.
+-- 2) 인덱스는 CONCURRENTLY로 만들어 쓰기를 막지 않는다. 트랜잭션 안에서 실행할 수 없으므로
+--    psql 기본(autocommit) 모드로 실행하고, 실패해 INVALID 인덱스가 남으면 DROP 후 다시 실행한다.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_vector
+    ON products USING GIN (search_vector);
@@ -0,0 +1,24 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- 한정 수량 상품 재고 (HotInventoryService, StockDeltaReconciler)
+--
+-- 운영은 ddl-auto: validate이므로 이 변경을 포함한 배포 전에 한 번 직접 실행한다.
+--   psql "$DB_URL" -f stock_deltas.sql
+--
+-- 1) products.hot_item은 기본값이 있는 NOT NULL 컬럼이라 PostgreSQL 11+에서는 테이블을 다시 쓰지 않는다.
+-- 2) stock_deltas.product_id 외래 키는 조회용이 아니라 잠금용이다. 변동분 INSERT가 상품 행에
+--    FOR KEY SHARE를 잡으므로, 카운터 재구성(FOR UPDATE)이 진행 중인 주문 트랜잭션을 기다린다.
+--    Reconciler의 재고 UPDATE(FOR NO KEY UPDATE)와는 충돌하지 않는다.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS hot_item boolean NOT NULL DEFAULT false;
+
+CREATE TABLE IF NOT EXISTS stock_deltas (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id  bigint    NOT NULL,
+    quantity    integer   NOT NULL,
+    created_at  timestamp NOT NULL,
+    updated_at  timestamp NOT NULL,
+    CONSTRAINT fk_stock_deltas_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_deltas_product_id ON stock_deltas (product_id);
@@ -0,0 +1,203 @@
+package com.jihee.shopper;
+
+import com.jihee.shopper.domain.cart.CartRepository;
+import com.jihee.shopper.domain.cart.CartService;
+import com.jihee.shopper.domain.cart.dto.CartItemRequest;
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.User;
+import com.jihee.shopper.domain.user.entity.UserRole;
+import com.jihee.shopper.global.security.JwtProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 스레드 모드 부하 테스트 (플랫폼 스레드 Tomcat 풀 vs 가상 스레드).
+ *
+ * <p>동시 연결 {@value #CONNECTIONS}개가 상품 목록·장바구니 조회를 반복하고 엔드포인트별 p50/p99 지연을 출력한다.
+ * 두 모드는 애플리케이션 컨텍스트가 달라야 하므로 하위 클래스로 나누어 같은 시나리오를 실행한다.
+ * 서버 스레드가 각자 커밋해야 하므로 클래스 단위 @Transactional을 쓰지 않고 {@link #tearDown()}에서 삭제한다.
+ * 부하 테스트이므로 기본 test에서 제외되며 {@code ./gradlew loadTest}로 실행한다.
+ */
+@Tag("load")
+abstract class RequestThreadModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestThreadModeLoadTest.class);
+
+    private static final int CONNECTIONS = 2000;
+    private static final int REQUESTS_PER_CONNECTION = 5;
+    private static final int PRODUCT_COUNT = 40;
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=false")
+    @ActiveProfiles("test")
+    static class PlatformThreads extends RequestThreadModeLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=true")
+    @ActiveProfiles("test")
+    static class VirtualThreads extends RequestThreadModeLoadTest {
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private Category category;
+    private User user;
+    private String accessToken;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.createRoot("부하-" + System.nanoTime()));
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(productRepository.save(Product.create(category, "상품" + i, "설명" + i, 10000 + i, 100)));
+        }
+
+        user = userRepository.save(User.createSocialUser("load-" + System.nanoTime() + "@example.com", "부하"));
+        for (int i = 0; i < 5; i++) {
+            cartService.addToCart(user.getId(), new CartItemRequest(products.get(i).getId(), 1));
+        }
+        accessToken = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), UserRole.ROLE_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartRepository.findByUserId(user.getId()).ifPresent(cartRepository::delete);
+        userRepository.deleteById(user.getId());
+        productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+        categoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @DisplayName("동시 연결 2000개 - 상품 목록·장바구니 조회 p99 지연 출력")
+    void concurrentRequests_ReportP99() throws InterruptedException {
+        // when
+        Result productList = measure(request("/api/products?page=0&size=20").build());
+        Result cart = measure(request("/api/cart").header("Authorization", "Bearer " + accessToken).build());
+
+        // then
+        String mode = virtualThreads ? "virtual " : "platform";
+        log.info("[ThreadMode] {} GET /api/products : p50={}ms, p99={}ms, errors={}",
+                mode, productList.p50Millis(), productList.p99Millis(), productList.errors());
+        log.info("[ThreadMode] {} GET /api/cart     : p50={}ms, p99={}ms, errors={}",
+                mode, cart.p50Millis(), cart.p99Millis(), cart.errors());
+
+        assertThat(productList.errors()).isZero();
+        assertThat(cart.errors()).isZero();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET();
+    }
+
+    /**
+     * 연결마다 가상 스레드 하나가 요청을 순서대로 보내고, 전체 요청의 지연 분포를 계산한다.
+     */
+    private Result measure(HttpRequest request) throws InterruptedException {
+        long[] latencies = new long[CONNECTIONS * REQUESTS_PER_CONNECTION];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONNECTIONS);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .build()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                clients.submit(() -> {
+                    try {
+                        ready.await();
+                        for (int j = 0; j < REQUESTS_PER_CONNECTION; j++) {
+                            long start = System.nanoTime();
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[index.getAndIncrement()] = System.nanoTime() - start;
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+            done.await();
+        }
+
+        long[] measured = Arrays.copyOf(latencies, index.get());
+        Arrays.sort(measured);
+        return new Result(percentile(measured, 0.50), percentile(measured, 0.99), errors.get());
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int position = (int) Math.ceil(ratio * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(position, 0)]).toMillis();
+    }
+
+    private record Result(long p50Millis, long p99Millis, int errors) {
+    }
+}
@@ -0,0 +1,227 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LoginRateLimiter 테스트 (내장 Redis, 서버 2대를 인스턴스 2개로 흉내 냄).
+ *
+ * <p>마지막 테스트는 한 IP에서 여러 계정으로 동시에 시도하는 크리덴셜 스터핑을 흉내 내고,
+ * 허용·거절 수와 Redis 왕복 없이 거절된 비율을 출력한다.
+ */
+class LoginRateLimiterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginRateLimiterTest.class);
+
+    private static final int IP_CAPACITY = 20;
+    private static final int EMAIL_IP_CAPACITY = 3;
+    private static final int EMAIL_CAPACITY = 6;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private LoginRateLimiter nodeA;
+    private LoginRateLimiter nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(redisTemplate.keys("RL:LOGIN:*"));
+        nodeA = new LoginRateLimiter(redisTemplate, true, IP_CAPACITY, 1, EMAIL_IP_CAPACITY, 1, EMAIL_CAPACITY, 1);
+        nodeB = new LoginRateLimiter(redisTemplate, true, IP_CAPACITY, 1, EMAIL_IP_CAPACITY, 1, EMAIL_CAPACITY, 1);
+    }
+
+    @Test
+    @DisplayName("이메일+IP 버킷 - 한 IP에서 용량만큼 실패하면 거절, 다른 IP와 대소문자만 다른 이메일은 같은 계정으로 계산")
+    void recordFailure_EmailIpBucketExhausted() {
+        // given
+        for (int i = 0; i < EMAIL_IP_CAPACITY; i++) {
+            String email = i % 2 == 0 ? "victim@example.com" : "Victim@Example.com";
+            nodeA.acquire("10.0.0.1", email);
+            nodeA.recordFailure("10.0.0.1", email);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> nodeA.acquire("10.0.0.1", "victim@example.com"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThatCode(() -> nodeA.acquire("10.0.0.2", "victim@example.com")).doesNotThrowAnyException();
+        assertThatCode(() -> nodeA.acquire("10.0.0.1", "other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("시도만 반복 - 실패로 기록되지 않으면 이메일 버킷을 쓰지 않아 계정이 잠기지 않음")
+    void acquire_WithoutFailure_DoesNotLockAccount() {
+        // given: 여러 IP에서 이메일 상한보다 많이 시도 (모두 성공했다고 가정)
+        for (int i = 0; i < EMAIL_CAPACITY * 3; i++) {
+            nodeA.acquire("10.0.3." + i, "busy@example.com");
+        }
+
+        // when & then
+        assertThatCode(() -> nodeA.acquire("10.0.3.99", "busy@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("이메일 상한 - 여러 IP에 나눈 실패 합계가 용량을 넘으면 모든 IP에서 거절")
+    void recordFailure_EmailCeilingAcrossIps() {
+        // given
+        for (int i = 0; i < EMAIL_CAPACITY; i++) {
+            nodeA.acquire("10.0.4." + i, "target@example.com");
+            nodeA.recordFailure("10.0.4." + i, "target@example.com");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> nodeA.acquire("10.0.4.99", "target@example.com"))
+                .isInstanceOf(CustomException.class);
+        assertThatCode(() -> nodeA.acquire("10.0.4.99", "other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("이메일 버킷에서 거절 - 같은 IP의 토큰은 차감하지 않음")
+    void acquire_RejectedByEmail_KeepsIpTokens() {
+        // given: 실패로 이메일+IP 버킷을 비움 (IP 토큰 EMAIL_IP_CAPACITY개 사용)
+        for (int i = 0; i < EMAIL_IP_CAPACITY; i++) {
+            nodeA.acquire("10.0.5.1", "locked@example.com");
+            nodeA.recordFailure("10.0.5.1", "locked@example.com");
+        }
+
+        // when: 잠긴 이메일로 IP 용량보다 많이 재시도 (두 서버 모두)
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            LoginRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            assertThatThrownBy(() -> node.acquire("10.0.5.1", "locked@example.com"))
+                    .isInstanceOf(CustomException.class);
+        }
+
+        // then: 같은 IP의 다른 계정은 남은 IP 토큰만큼 그대로 허용 (Redis에서 거절된 서버 B의 사전 버킷 포함)
+        for (int i = 0; i < IP_CAPACITY - EMAIL_IP_CAPACITY; i++) {
+            nodeB.acquire("10.0.5.1", "user" + i + "@example.com");
+        }
+        assertThatThrownBy(() -> nodeB.acquire("10.0.5.1", "one-more@example.com"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("공용 버킷 - 두 서버에서 번갈아 실패해도 합계가 이메일+IP 용량을 넘지 않음")
+    void recordFailure_SharedAcrossNodes() {
+        // given
+        int allowed = 0;
+
+        // when
+        for (int i = 0; i < EMAIL_IP_CAPACITY * 4; i++) {
+            LoginRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            try {
+                node.acquire("10.0.1.1", "shared@example.com");
+                node.recordFailure("10.0.1.1", "shared@example.com");
+                allowed++;
+            } catch (CustomException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+            }
+        }
+
+        // then
+        assertThat(allowed).isEqualTo(EMAIL_IP_CAPACITY);
+        assertThat(nodeA.remotelyRejected() + nodeB.remotelyRejected()).isPositive();
+    }
+
+    @Test
+    @DisplayName("충전 - 시간이 지나면 분당 충전량만큼 다시 허용")
+    void acquire_RefillsOverTime() throws InterruptedException {
+        // given: 분당 600회 = 100ms마다 1회
+        LoginRateLimiter fast = new LoginRateLimiter(redisTemplate, true, 100, 600, 1, 600, 1, 600);
+        fast.acquire("10.0.2.1", "refill@example.com");
+        fast.recordFailure("10.0.2.1", "refill@example.com");
+        assertThatThrownBy(() -> fast.acquire("10.0.2.1", "refill@example.com"))
+                .isInstanceOf(CustomException.class);
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        assertThatCode(() -> fast.acquire("10.0.2.1", "refill@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("크리덴셜 스터핑 - 한 IP의 동시 시도 중 IP 용량만큼만 허용, 나머지 대부분은 Redis 없이 거절")
+    void credentialStuffing_ThrottledCheaply() throws InterruptedException {
+        // given
+        int attempts = 20_000;
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(attempts);
+
+        // when
+        long start = System.nanoTime();
+        try (ExecutorService attackers = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < attempts; i++) {
+                String email = "user" + i + "@example.com";
+                LoginRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+                attackers.submit(() -> {
+                    try {
+                        node.acquire("203.0.113.7", email);
+                        allowed.incrementAndGet();
+                    } catch (CustomException e) {
+                        rejected.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000d;
+
+        // then
+        long local = nodeA.locallyRejected() + nodeB.locallyRejected();
+        long remote = nodeA.remotelyRejected() + nodeB.remotelyRejected();
+        log.info("[LoginRateLimiter] attempts={} allowed={} rejected={} (local={}, redis={}) in {}ms",
+                attempts, allowed.get(), rejected.get(), local, remote, String.format("%.0f", elapsedMillis));
+
+        assertThat(allowed.get()).isLessThanOrEqualTo(IP_CAPACITY + 1);
+        assertThat(allowed.get() + rejected.get()).isEqualTo(attempts);
+        assertThat(local).isGreaterThan(remote);
+    }
+}
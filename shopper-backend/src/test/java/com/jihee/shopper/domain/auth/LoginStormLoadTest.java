@@ -0,0 +1,230 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로그인 폭주 중 상품 조회 지연 부하 테스트 (비밀번호 해시 CPU 격리 확인).
+ *
+ * <p>상품 목록 조회만 보낼 때와, 동시에 로그인 연결 {@value #LOGIN_CONNECTIONS}개가 쉬지 않고 로그인할 때의
+ * 상품 조회 p50/p99를 비교해 출력한다. 로그인은 해시 스레드·대기열 한도를 넘으면 503으로 거절되어야 하며,
+ * 상품 조회는 실패 없이 처리되어야 한다. 해시 부하만 보기 위해 로그인 시도 제한은 끈다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "login.rate-limit.enabled=false")
+@ActiveProfiles("test")
+@Tag("load")
+class LoginStormLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginStormLoadTest.class);
+
+    private static final int READ_CONNECTIONS = 200;
+    private static final int READS_PER_CONNECTION = 20;
+    private static final int LOGIN_CONNECTIONS = 200;
+    private static final int PRODUCT_COUNT = 20;
+    private static final String PASSWORD = "password1234";
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Category category;
+    private User user;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.createRoot("로그인부하-" + System.nanoTime()));
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(productRepository.save(Product.create(category, "상품" + i, "설명" + i, 10000 + i, 100)));
+        }
+        user = userRepository.save(User.createNormalUser(
+                "storm-" + System.nanoTime() + "@example.com", passwordEncoder.encode(PASSWORD), "부하"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenStore.revokeAll(user.getId());
+        userRepository.deleteById(user.getId());
+        productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+        categoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @DisplayName("로그인 폭주 중 상품 조회 - 조회는 모두 성공하고 로그인은 200 또는 503, p99 지연 출력")
+    void loginStorm_ProductReadsIsolated() throws InterruptedException {
+        HttpRequest productList = HttpRequest.newBuilder(uri("/api/products?page=0&size=20"))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        HttpRequest login = HttpRequest.newBuilder(uri("/api/auth/login"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+
+        // given: 로그인 없이 조회만
+        Result baseline = measureReads(productList);
+
+        // when: 로그인 폭주와 동시에 조회
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger loginOk = new AtomicInteger();
+        AtomicInteger loginRejected = new AtomicInteger();
+        AtomicInteger loginErrors = new AtomicInteger();
+        Result underStorm;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = newClient(clients)) {
+            for (int i = 0; i < LOGIN_CONNECTIONS; i++) {
+                clients.submit(() -> {
+                    while (storming.get()) {
+                        try {
+                            int status = client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            switch (status) {
+                                case 200 -> loginOk.incrementAndGet();
+                                case 503 -> loginRejected.incrementAndGet();
+                                default -> loginErrors.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return null;
+                        } catch (Exception e) {
+                            loginErrors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(500); // 해시 대기열이 찰 때까지
+            underStorm = measureReads(productList);
+            storming.set(false);
+        }
+
+        // then
+        log.info("[LoginStorm] GET /api/products alone       : p50={}ms, p99={}ms, errors={}",
+                baseline.p50Millis(), baseline.p99Millis(), baseline.errors());
+        log.info("[LoginStorm] GET /api/products under storm : p50={}ms, p99={}ms, errors={}",
+                underStorm.p50Millis(), underStorm.p99Millis(), underStorm.errors());
+        log.info("[LoginStorm] POST /api/auth/login          : ok={}, rejected(503)={}, errors={}",
+                loginOk.get(), loginRejected.get(), loginErrors.get());
+
+        assertThat(baseline.errors()).isZero();
+        assertThat(underStorm.errors()).isZero();
+        assertThat(loginOk.get()).isPositive();
+        assertThat(loginErrors.get()).isZero();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static HttpClient newClient(ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 연결마다 가상 스레드 하나가 조회를 순서대로 보내고, 전체 요청의 지연 분포를 계산한다.
+     */
+    private Result measureReads(HttpRequest request) throws InterruptedException {
+        long[] latencies = new long[READ_CONNECTIONS * READS_PER_CONNECTION];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(READ_CONNECTIONS);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = newClient(clients)) {
+            for (int i = 0; i < READ_CONNECTIONS; i++) {
+                clients.submit(() -> {
+                    try {
+                        ready.await();
+                        for (int j = 0; j < READS_PER_CONNECTION; j++) {
+                            long start = System.nanoTime();
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[index.getAndIncrement()] = System.nanoTime() - start;
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+            done.await();
+        }
+
+        long[] measured = Arrays.copyOf(latencies, index.get());
+        Arrays.sort(measured);
+        return new Result(percentile(measured, 0.50), percentile(measured, 0.99), errors.get());
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int position = (int) Math.ceil(ratio * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(position, 0)]).toMillis();
+    }
+
+    private record Result(long p50Millis, long p99Millis, int errors) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.jihee.shopper.domain.auth;
+
+import com.jihee.shopper.domain.auth.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Refresh Token 저장소 테스트 + 재발급 처리량 비교 (GET·비교·SET vs Lua CAS).
+ *
+ * <p>embedded-redis를 임의 포트로 띄워 애플리케이션 컨텍스트 없이 저장소만 직접 생성한다.
+ */
+class RefreshTokenStoreBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStoreBenchmarkTest.class);
+
+    private static final long TTL_MILLIS = Duration.ofDays(7).toMillis();
+    private static final int ITERATIONS = 5_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+        store = new RefreshTokenStore(redisTemplate, TTL_MILLIS);
+    }
+
+    // ── 재발급 (RTR) ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("재발급 - 저장된 토큰과 일치하면 교체, 이전 토큰 재사용 시 모든 기기 세션 삭제")
+    void rotate_ReuseRevokesAllDevices() {
+        // given
+        store.save(1L, "phone", "rt-phone-1");
+        store.save(1L, "laptop", "rt-laptop-1");
+
+        // when
+        RotationResult rotated = store.rotate(1L, "phone", "rt-phone-1", "rt-phone-2");
+        RotationResult reused = store.rotate(1L, "phone", "rt-phone-1", "rt-phone-3");
+
+        // then
+        assertThat(rotated).isEqualTo(RotationResult.ROTATED);
+        assertThat(reused).isEqualTo(RotationResult.REUSED);
+        assertThat(redisTemplate.hasKey("RT:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재발급 - 기기별 세션은 서로 영향 없음, 로그아웃한 기기는 NOT_FOUND")
+    void rotate_DevicesAreIndependent() {
+        // given
+        store.save(1L, "phone", "rt-phone-1");
+        store.save(1L, "laptop", "rt-laptop-1");
+
+        // when
+        store.revoke(1L, "phone");
+
+        // then
+        assertThat(store.rotate(1L, "phone", "rt-phone-1", "rt-phone-2")).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(store.rotate(1L, "laptop", "rt-laptop-1", "rt-laptop-2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(redisTemplate.getExpire("RT:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("재발급 - 이전 형식(String) 키는 기본 기기 Hash로 옮김")
+    void rotate_LegacyStringKey_Migrated() {
+        // given
+        redisTemplate.opsForValue().set("RT:1", "rt-legacy", Duration.ofMillis(TTL_MILLIS));
+
+        // when
+        RotationResult result = store.rotate(1L, RefreshTokenStore.DEFAULT_DEVICE_ID, "rt-legacy", "rt-new");
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.ROTATED);
+        assertThat(redisTemplate.opsForHash().get("RT:1", RefreshTokenStore.DEFAULT_DEVICE_ID)).isEqualTo("rt-new");
+    }
+
+    // ── 폐기 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("세션 일괄 삭제 - 지정 사용자 / 전체 사용자 (파이프라인)")
+    void revoke_Bulk() {
+        // given: 사용자 1,200명
+        LongStream.rangeClosed(1, 1_200).forEach(userId -> store.save(userId, "phone", "rt-" + userId));
+
+        // when
+        long revoked = store.revokeAll(List.of(1L, 2L, 3L, 99_999L));
+        long revokedEveryone = store.revokeEveryone();
+
+        // then
+        assertThat(revoked).isEqualTo(3);
+        assertThat(revokedEveryone).isEqualTo(1_197);
+        assertThat(redisTemplate.keys("RT:*")).isEmpty();
+    }
+
+    // ── 처리량 비교 ─────────────────────────────────────────────────────────
+
+    @Test
+    @Tag("load")
+    @DisplayName("재발급 처리량 - GET·비교·SET(왕복 2회) vs Lua CAS(왕복 1회)")
+    void rotate_ThroughputLegacyVsLua() {
+        // 기존 경로: GET → 애플리케이션에서 비교 → SET
+        String legacyKey = "RT:legacy";
+        String current = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(legacyKey, current);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            String stored = redisTemplate.opsForValue().get(legacyKey);
+            assertThat(stored).isEqualTo(current);
+            String next = UUID.randomUUID().toString();
+            redisTemplate.opsForValue().set(legacyKey, next, Duration.ofMillis(TTL_MILLIS));
+            current = next;
+        }
+        double legacyPerSecond = ITERATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        // 신규 경로: Lua 스크립트 한 번으로 비교·교체
+        current = UUID.randomUUID().toString();
+        store.save(1L, "phone", current);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            String next = UUID.randomUUID().toString();
+            assertThat(store.rotate(1L, "phone", current, next)).isEqualTo(RotationResult.ROTATED);
+            current = next;
+        }
+        double luaPerSecond = ITERATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        log.info("[RefreshTokenStore] GET+SET : {} refreshes/sec", String.format("%,.0f", legacyPerSecond));
+        log.info("[RefreshTokenStore] Lua CAS : {} refreshes/sec", String.format("%,.0f", luaPerSecond));
+
+        assertThat(redisTemplate.opsForHash().get("RT:1", "phone")).isEqualTo(current);
+    }
+}
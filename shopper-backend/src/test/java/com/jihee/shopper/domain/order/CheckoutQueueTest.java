@@ -0,0 +1,266 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.cart.CartItemRepository;
+import com.jihee.shopper.domain.cart.CartRepository;
+import com.jihee.shopper.domain.cart.entity.Cart;
+import com.jihee.shopper.domain.cart.entity.CartItem;
+import com.jihee.shopper.domain.order.dto.CheckoutResponse;
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.AddressRepository;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.Address;
+import com.jihee.shopper.domain.user.entity.User;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.jihee.shopper.support.EmbeddedRedisTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 비동기 주문 접수 큐 테스트.
+ *
+ * <p>작업자 스레드가 별도 트랜잭션으로 주문을 만들므로 클래스 단위 @Transactional을 쓰지 않고,
+ * 생성한 데이터와 접수 상태 키는 {@link #tearDown()}에서 직접 삭제한다.
+ */
+class CheckoutQueueTest extends EmbeddedRedisTest {
+
+    private static final long WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private CheckoutQueue checkoutQueue;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Category category;
+    private User user;
+    private Address address;
+    private Cart cart;
+    private final List<Product> products = new ArrayList<>();
+    private final List<String> ticketIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        category = categoryRepository.save(Category.createRoot("비동기접수-" + System.nanoTime()));
+        user = userRepository.save(User.createSocialUser("checkout-" + System.nanoTime() + "@example.com", "구매자"));
+        address = addressRepository.save(Address.of(
+                user, "집", "구매자", "010-0000-0000", "12345", "서울", "101호", true));
+        cart = cartRepository.save(Cart.createForUser(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketIds.forEach(ticketId -> redisTemplate.delete("CHK:" + ticketId));
+
+        tx.executeWithoutResult(status -> {
+            orderRepository.deleteAll(orderRepository.findByUserId(user.getId(), Pageable.unpaged()));
+            cartRepository.findByUserId(user.getId()).ifPresent(cartRepository::delete);
+            userRepository.deleteById(user.getId());
+            productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+            categoryRepository.deleteById(category.getId());
+        });
+    }
+
+    // ── 처리 결과 ───────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("접수 후 처리 완료 - COMPLETED 상태와 생성된 주문 ID")
+    void enqueue_Completed() throws InterruptedException {
+        // given
+        OrderRequest request = orderRequest(saveProduct(10), 2);
+
+        // when
+        CheckoutResponse queued = enqueue(request);
+        CheckoutResponse result = awaitResult(queued.getTicketId());
+
+        // then
+        assertThat(queued.getStatus()).isEqualTo(CheckoutStatus.QUEUED);
+        assertThat(result.getStatus()).isEqualTo(CheckoutStatus.COMPLETED);
+        assertThat(orderService.getOrder(user.getId(), result.getOrderId()).getOrderId())
+                .isEqualTo(result.getOrderId());
+    }
+
+    @Test
+    @DisplayName("재고 부족 - FAILED 상태와 OUT_OF_STOCK 에러 코드")
+    void enqueue_Failed_OutOfStock() throws InterruptedException {
+        // given
+        OrderRequest request = orderRequest(saveProduct(1), 2);
+
+        // when
+        CheckoutResponse result = awaitResult(enqueue(request).getTicketId());
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(CheckoutStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK.name());
+        assertThat(result.getOrderId()).isNull();
+        assertThat(orderRepository.findByUserId(user.getId(), Pageable.unpaged())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("묶음 처리 중 한 건 실패 - 실패한 주문만 FAILED, 나머지는 COMPLETED")
+    void process_BatchWithFailure_IsolatesFailedOrder() throws InterruptedException {
+        // given: 작업자를 띄우기 전에 3건을 쌓아 한 묶음으로 처리되게 함 (가운데 주문은 재고 부족)
+        CheckoutQueue batchQueue = new CheckoutQueue(orderService, redisTemplate, transactionManager, 1, 10);
+        List<String> batch = new ArrayList<>();
+        for (Product product : List.of(saveProduct(10), saveProduct(1), saveProduct(10))) {
+            String ticketId = batchQueue.enqueue(user.getId(), orderRequest(product, 2)).getTicketId();
+            ticketIds.add(ticketId);
+            batch.add(ticketId);
+        }
+
+        // when
+        batchQueue.start();
+        List<CheckoutResponse> results = new ArrayList<>();
+        try {
+            for (String ticketId : batch) {
+                results.add(awaitResult(ticketId));
+            }
+        } finally {
+            batchQueue.stop();
+        }
+
+        // then
+        assertThat(results).extracting(CheckoutResponse::getStatus)
+                .containsExactly(CheckoutStatus.COMPLETED, CheckoutStatus.FAILED, CheckoutStatus.COMPLETED);
+        assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK.name());
+        assertThat(orderRepository.findByUserId(user.getId(), Pageable.unpaged()).getTotalElements()).isEqualTo(2);
+        assertThat(productRepository.findStockById(products.get(1).getId())).contains(1);
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 한 트랜잭션으로 모든 주문 생성 후 각 접수에 주문 ID 기록")
+    void process_Batch_CompletesAll() throws InterruptedException {
+        // given
+        CheckoutQueue batchQueue = new CheckoutQueue(orderService, redisTemplate, transactionManager, 1, 10);
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String ticketId = batchQueue.enqueue(user.getId(), orderRequest(saveProduct(10), 1)).getTicketId();
+            ticketIds.add(ticketId);
+            batch.add(ticketId);
+        }
+
+        // when
+        batchQueue.start();
+        List<CheckoutResponse> results = new ArrayList<>();
+        try {
+            for (String ticketId : batch) {
+                results.add(awaitResult(ticketId));
+            }
+        } finally {
+            batchQueue.stop();
+        }
+
+        // then
+        assertThat(results).extracting(CheckoutResponse::getStatus).containsOnly(CheckoutStatus.COMPLETED);
+        assertThat(results).extracting(CheckoutResponse::getOrderId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    // ── 접수 / 조회 ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("큐가 가득 참 - CHECKOUT_QUEUE_FULL(503), 거절된 요청의 상태는 남기지 않음")
+    void enqueue_Fail_QueueFull() {
+        // given: 작업자를 띄우지 않은 용량 1의 큐
+        CheckoutQueue smallQueue = new CheckoutQueue(orderService, redisTemplate, transactionManager, 1, 1);
+        OrderRequest request = orderRequest(saveProduct(10), 1);
+        ticketIds.add(smallQueue.enqueue(user.getId(), request).getTicketId());
+
+        // when & then
+        assertThatThrownBy(() -> smallQueue.enqueue(user.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CHECKOUT_QUEUE_FULL);
+        assertThat(ErrorCode.CHECKOUT_QUEUE_FULL.getHttpStatus()).isEqualTo(503);
+        assertThat(redisTemplate.keys("CHK:*"))
+                .containsExactly("CHK:" + ticketIds.get(0));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 접수 조회 - CHECKOUT_NOT_FOUND")
+    void getStatus_Fail_OtherUser() {
+        // given
+        String ticketId = enqueue(orderRequest(saveProduct(10), 1)).getTicketId();
+
+        // when & then
+        assertThatThrownBy(() -> checkoutQueue.getStatus(user.getId() + 1, ticketId))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CHECKOUT_NOT_FOUND);
+        assertThat(checkoutQueue.getStatus(user.getId(), ticketId).getTicketId()).isEqualTo(ticketId);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private Product saveProduct(int stock) {
+        Product product = productRepository.save(Product.create(category, "접수 상품", "비동기 접수 테스트", 10000, stock));
+        products.add(product);
+        return product;
+    }
+
+    private OrderRequest orderRequest(Product product, int quantity) {
+        CartItem cartItem = cartItemRepository.save(CartItem.of(cart, product, quantity));
+        return new OrderRequest(address.getId(), List.of(cartItem.getId()));
+    }
+
+    private CheckoutResponse enqueue(OrderRequest request) {
+        CheckoutResponse response = checkoutQueue.enqueue(user.getId(), request);
+        ticketIds.add(response.getTicketId());
+        return response;
+    }
+
+    /** QUEUED가 아닌 상태가 될 때까지 조회 */
+    private CheckoutResponse awaitResult(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            CheckoutResponse response = checkoutQueue.getStatus(user.getId(), ticketId);
+            if (response.getStatus() != CheckoutStatus.QUEUED) {
+                return response;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("처리 대기 시간 초과 ticketId=" + ticketId);
+    }
+}
@@ -0,0 +1,251 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.cart.CartItemRepository;
+import com.jihee.shopper.domain.cart.CartRepository;
+import com.jihee.shopper.domain.cart.entity.Cart;
+import com.jihee.shopper.domain.cart.entity.CartItem;
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.StockService;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.AddressRepository;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.Address;
+import com.jihee.shopper.domain.user.entity.User;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 재고 동시성 테스트.
+ *
+ * <p>여러 스레드가 각자 커밋하는 트랜잭션을 실행해야 하므로 클래스 단위 @Transactional을 쓰지 않고,
+ * 생성한 데이터는 {@link #tearDown()}에서 직접 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderConcurrencyTest.class);
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Category category;
+    private final List<Product> products = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        category = categoryRepository.save(Category.createRoot("동시성-" + System.nanoTime()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            for (User user : users) {
+                orderRepository.deleteAll(orderRepository.findByUserId(user.getId(), Pageable.unpaged()));
+                cartRepository.findByUserId(user.getId()).ifPresent(cartRepository::delete);
+            }
+            userRepository.deleteAllById(users.stream().map(User::getId).toList());
+            productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+            categoryRepository.deleteById(category.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 재고 초과 판매 없음 (조건부 UPDATE)")
+    void createOrder_Concurrent_NoOversell() throws InterruptedException {
+        // given: 재고 20개, 구매자 40명 (각 1개)
+        int stock = 20;
+        int buyers = 40;
+        Product product = saveProduct(stock);
+
+        List<Long> userIds = new ArrayList<>();
+        List<OrderRequest> requests = new ArrayList<>();
+        for (int i = 0; i < buyers; i++) {
+            User user = userRepository.save(User.createSocialUser(
+                    "buyer" + i + "-" + System.nanoTime() + "@example.com", "구매자" + i));
+            users.add(user);
+            Address address = addressRepository.save(Address.of(
+                    user, "집", "구매자" + i, "010-0000-0000", "12345", "서울", "101호", true));
+            Cart cart = cartRepository.save(Cart.createForUser(user));
+            CartItem cartItem = cartItemRepository.save(CartItem.of(cart, product, 1));
+
+            userIds.add(user.getId());
+            requests.add(new OrderRequest(address.getId(), List.of(cartItem.getId())));
+        }
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+
+        // when
+        runConcurrently(buyers, i -> {
+            try {
+                orderService.createOrder(userIds.get(i), requests.get(i));
+                success.incrementAndGet();
+            } catch (CustomException e) {
+                if (e.getErrorCode() == ErrorCode.OUT_OF_STOCK) {
+                    outOfStock.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        assertThat(success.get()).isEqualTo(stock);
+        assertThat(outOfStock.get()).isEqualTo(buyers - stock);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("재고 차감 처리량 - 조건부 UPDATE vs 엔티티 + 낙관적 락")
+    void decreaseStock_AtomicVsOptimistic() throws InterruptedException {
+        int stock = 100;
+        int attempts = 200;
+
+        // 기존 경로: 엔티티 조회 → Java 검증 → decreaseStock → @Version 충돌 시 실패
+        Product entityTarget = saveProduct(stock);
+        Result entityPath = measure(attempts, () -> tx.executeWithoutResult(status -> {
+            Product product = productRepository.findById(entityTarget.getId()).orElseThrow();
+            if (product.getStock() < 1) {
+                throw new CustomException(ErrorCode.OUT_OF_STOCK);
+            }
+            product.decreaseStock(1);
+        }));
+
+        // 신규 경로: UPDATE ... WHERE stock >= ?
+        Product atomicTarget = saveProduct(stock);
+        Result atomicPath = measure(attempts, () -> tx.executeWithoutResult(status ->
+                stockService.decrease(Map.of(atomicTarget.getId(), 1))));
+
+        log.info("[Stock] optimistic : {}/{} success, {} orders/sec",
+                entityPath.success(), attempts, String.format("%.1f", entityPath.ordersPerSecond()));
+        log.info("[Stock] atomic     : {}/{} success, {} orders/sec",
+                atomicPath.success(), attempts, String.format("%.1f", atomicPath.ordersPerSecond()));
+
+        int entityStock = productRepository.findById(entityTarget.getId()).orElseThrow().getStock();
+        int atomicStock = productRepository.findById(atomicTarget.getId()).orElseThrow().getStock();
+
+        // 두 경로 모두 초과 판매 없음
+        assertThat(entityStock).isEqualTo(stock - entityPath.success()).isNotNegative();
+        assertThat(atomicStock).isZero();
+
+        // 조건부 UPDATE는 충돌로 인한 실패 없이 재고만큼 모두 성공
+        assertThat(atomicPath.success()).isEqualTo(stock);
+        assertThat(atomicPath.success()).isGreaterThanOrEqualTo(entityPath.success());
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private Product saveProduct(int stock) {
+        Product product = productRepository.save(Product.create(category, "한정판", "동시성 테스트", 10000, stock));
+        products.add(product);
+        return product;
+    }
+
+    private Result measure(int attempts, Runnable task) throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+        long start = System.nanoTime();
+
+        runConcurrently(attempts, i -> {
+            try {
+                task.run();
+                success.incrementAndGet();
+            } catch (RuntimeException e) {
+                // 재고 부족 또는 낙관적 락 충돌 → 실패로 집계
+            }
+        });
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(success.get(), success.get() / seconds);
+    }
+
+    private void runConcurrently(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws InterruptedException;
+    }
+
+    private record Result(int success, double ordersPerSecond) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.cart.CartItemRepository;
+import com.jihee.shopper.domain.cart.CartRepository;
+import com.jihee.shopper.domain.cart.entity.Cart;
+import com.jihee.shopper.domain.cart.entity.CartItem;
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.order.dto.OrderResponse;
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.AddressRepository;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.Address;
+import com.jihee.shopper.domain.user.entity.User;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.jihee.shopper.support.EmbeddedRedisTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 멱등성 키 주문 생성 테스트.
+ *
+ * <p>주문·키 기록이 커밋된 뒤의 동작을 확인하므로 클래스 단위 @Transactional을 쓰지 않고,
+ * 생성한 데이터와 Redis 키는 {@link #tearDown()}에서 직접 삭제한다.
+ */
+class OrderIdempotencyServiceTest extends EmbeddedRedisTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Category category;
+    private Product product;
+    private User user;
+    private Address address;
+    private OrderRequest request;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        category = categoryRepository.save(Category.createRoot("멱등성-" + System.nanoTime()));
+        product = productRepository.save(Product.create(category, "한정판", "멱등성 테스트", 10000, STOCK));
+
+        user = userRepository.save(User.createSocialUser("idem-" + System.nanoTime() + "@example.com", "구매자"));
+        address = addressRepository.save(Address.of(
+                user, "집", "구매자", "010-0000-0000", "12345", "서울", "101호", true));
+        Cart cart = cartRepository.save(Cart.createForUser(user));
+        CartItem cartItem = cartItemRepository.save(CartItem.of(cart, product, 2));
+        request = new OrderRequest(address.getId(), List.of(cartItem.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Set<String> keys = redisTemplate.keys("IDEM:ORDER:" + user.getId() + ":*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+
+        tx.executeWithoutResult(status -> {
+            orderIdempotencyKeyRepository.deleteAll(orderIdempotencyKeyRepository.findAll().stream()
+                    .filter(record -> record.getUserId().equals(user.getId()))
+                    .toList());
+            orderRepository.deleteAll(orderRepository.findByUserId(user.getId(), Pageable.unpaged()));
+            cartRepository.findByUserId(user.getId()).ifPresent(cartRepository::delete);
+            userRepository.deleteById(user.getId());
+            productRepository.deleteById(product.getId());
+            categoryRepository.deleteById(category.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청 - 같은 주문 반환, 재고는 한 번만 차감")
+    void createOrder_Replay_ReturnsSameOrder() {
+        // when
+        OrderResponse first = orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+        OrderResponse replay = orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+
+        // then
+        assertThat(replay.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stock()).isEqualTo(STOCK - 2);
+    }
+
+    @Test
+    @DisplayName("Redis 완료 기록 유실 후 재요청 - DB 키 기록으로 같은 주문 반환")
+    void createOrder_ReplayWithoutRedisRecord_ReturnsRecordedOrder() {
+        // given
+        OrderResponse first = orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+        redisTemplate.delete("IDEM:ORDER:" + user.getId() + ":key-1");
+
+        // when
+        OrderResponse replay = orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+
+        // then
+        assertThat(replay.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stock()).isEqualTo(STOCK - 2);
+    }
+
+    @Test
+    @DisplayName("동시 중복 요청 - 주문은 하나만 생성, 모든 요청이 같은 주문 ID를 받음")
+    void createOrder_ConcurrentDuplicates_SingleOrder() throws InterruptedException {
+        // given
+        int duplicates = 8;
+        Set<Long> orderIds = ConcurrentHashMap.newKeySet();
+        Set<Throwable> failures = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(duplicates);
+
+        // when
+        for (int i = 0; i < duplicates; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    orderIds.add(orderIdempotencyService.createOrder(user.getId(), "key-1", request).getOrderId());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stock()).isEqualTo(STOCK - 2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문 - IDEMPOTENCY_KEY_REUSED(422)")
+    void createOrder_Fail_DifferentBody() {
+        // given
+        orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+        OrderRequest other = new OrderRequest(address.getId(), List.of(-1L));
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(user.getId(), "key-1", other))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(ErrorCode.IDEMPOTENCY_KEY_REUSED.getHttpStatus()).isEqualTo(422);
+        assertThat(orderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청 실패 - 키를 해제하므로 같은 키로 다시 시도하면 주문 생성")
+    void createOrder_RetryAfterFailure_ReleasesKey() {
+        // given: 재고 부족으로 첫 요청 실패
+        tx.executeWithoutResult(status ->
+                productRepository.findById(product.getId()).orElseThrow().decreaseStock(STOCK));
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(user.getId(), "key-1", request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.OUT_OF_STOCK);
+        assertThat(redisTemplate.hasKey("IDEM:ORDER:" + user.getId() + ":key-1")).isFalse();
+        assertThat(orderIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(user.getId(), "key-1")).isEmpty();
+
+        // when: 재고 입고 후 같은 키로 재시도
+        tx.executeWithoutResult(status ->
+                productRepository.findById(product.getId()).orElseThrow().increaseStock(STOCK));
+        OrderResponse retried = orderIdempotencyService.createOrder(user.getId(), "key-1", request);
+
+        // then
+        assertThat(retried.getOrderId()).isNotNull();
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stock()).isEqualTo(STOCK - 2);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private long orderCount() {
+        return orderRepository.findByUserId(user.getId(), Pageable.unpaged()).getTotalElements();
+    }
+
+    private int stock() {
+        return productRepository.findStockById(product.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,207 @@
+package com.jihee.shopper.domain.order;
+
+import com.jihee.shopper.domain.cart.CartItemRepository;
+import com.jihee.shopper.domain.cart.CartRepository;
+import com.jihee.shopper.domain.cart.entity.Cart;
+import com.jihee.shopper.domain.cart.entity.CartItem;
+import com.jihee.shopper.domain.order.dto.OrderRequest;
+import com.jihee.shopper.domain.order.dto.OrderResponse;
+import com.jihee.shopper.domain.order.entity.Order;
+import com.jihee.shopper.domain.order.entity.OrderItem;
+import com.jihee.shopper.domain.product.CategoryRepository;
+import com.jihee.shopper.domain.product.ProductRepository;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.user.AddressRepository;
+import com.jihee.shopper.domain.user.UserRepository;
+import com.jihee.shopper.domain.user.entity.Address;
+import com.jihee.shopper.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 50줄 기준 OrderItem 저장 + 장바구니 비우기 비교 (행 단위 vs 배치 INSERT + 일괄 DELETE).
+ *
+ * <p>기존 경로는 JDBC 배치를 끄고(IDENTITY와 동일하게 행마다 INSERT) deleteAll로 행마다 DELETE한다.
+ * 주문 한 건당 SQL 실행 수와 평균 지연을 측정해 출력한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class OrderItemBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderItemBatchBenchmarkTest.class);
+
+    private static final int LINES = 50;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Address address;
+    private Cart cart;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.createSocialUser("batch@example.com", "Batch User"));
+        address = addressRepository.save(Address.of(
+                user, "집", "홍길동", "010-1234-5678", "12345", "서울특별시 강남구", "101동 101호", true));
+        cart = cartRepository.save(Cart.createForUser(user));
+
+        Category category = categoryRepository.save(Category.createRoot("전자제품"));
+        for (int i = 0; i < LINES; i++) {
+            products.add(productRepository.save(Product.create(category, "상품" + i, "설명" + i, 1000 + i, 1_000)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 50줄 주문의 OrderItem과 장바구니가 모두 처리된다")
+    void createOrder_FiftyLines() {
+        // given
+        List<Long> cartItemIds = fillCart().stream().map(CartItem::getId).toList();
+
+        // when
+        OrderResponse response = orderService.createOrder(user.getId(), new OrderRequest(address.getId(), cartItemIds));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.getOrderItems()).hasSize(LINES);
+        assertThat(orderItemRepository.findByOrderId(response.getOrderId())).hasSize(LINES);
+        assertThat(cartItemRepository.findByCartId(cart.getId())).isEmpty();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("OrderItem 저장 + 장바구니 비우기 - 배치 경로가 SQL 실행 수가 더 적다")
+    void orderItemsAndCartCleanup_RowByRowVsBatch() {
+        // 기존 경로: 행마다 INSERT + 행마다 DELETE
+        Result rowByRow = measure(cartItems -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            saveOrderItems(cartItems);
+            cartItemRepository.deleteAll(cartItems);
+        });
+
+        // 신규 경로: 배치 INSERT + DELETE ... WHERE id IN
+        Result batch = measure(cartItems -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(null);
+            saveOrderItems(cartItems);
+            cartItemRepository.deleteAllByIdInBatch(cartItems.stream().map(CartItem::getId).toList());
+        });
+
+        log.info("[OrderItems] row-by-row : {} statements/order, {} ms/order",
+                rowByRow.statementsPerOrder(), String.format("%.3f", rowByRow.millisPerOrder()));
+        log.info("[OrderItems] batch      : {} statements/order, {} ms/order",
+                batch.statementsPerOrder(), String.format("%.3f", batch.millisPerOrder()));
+
+        assertThat(rowByRow.statementsPerOrder()).isGreaterThanOrEqualTo(LINES * 2L);
+        assertThat(batch.statementsPerOrder()).isLessThan(rowByRow.statementsPerOrder() / 10);
+    }
+
+    // ── 측정 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 장바구니를 채운 뒤 주문 저장 단계(Order·OrderItem INSERT + 장바구니 DELETE)의 SQL 실행 수를 측정한다.
+     */
+    private Result measure(Consumer<List<CartItem>> tail) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = 0;
+        long nanos = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<CartItem> cartItems = fillCart();
+
+            statistics.clear();
+            long start = System.nanoTime();
+            tail.accept(cartItems);
+            entityManager.flush();
+            nanos += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+
+            entityManager.clear();
+        }
+
+        return new Result(statements / ITERATIONS, nanos / 1_000_000.0 / ITERATIONS);
+    }
+
+    private List<CartItem> fillCart() {
+        Cart managedCart = cartRepository.getReferenceById(cart.getId());
+        List<CartItem> cartItems = new ArrayList<>();
+        for (Product product : products) {
+            cartItems.add(CartItem.of(managedCart, productRepository.getReferenceById(product.getId()), 1));
+        }
+        cartItemRepository.saveAll(cartItems);
+        entityManager.flush();
+        return cartItems;
+    }
+
+    private void saveOrderItems(List<CartItem> cartItems) {
+        Order order = orderRepository.save(Order.create(
+                userRepository.getReferenceById(user.getId()),
+                addressRepository.getReferenceById(address.getId()),
+                LINES * 1000));
+        entityManager.flush();
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (CartItem cartItem : cartItems) {
+            orderItems.add(OrderItem.of(order, cartItem.getProduct(), cartItem.getQuantity()));
+        }
+        orderItemRepository.saveAll(orderItems);
+    }
+
+    private record Result(long statementsPerOrder, double millisPerOrder) {
+    }
+}
@@ -8,6 +8,9 @@ import com.jihee.shopper.domain.order.dto.OrderRequest;
 import com.jihee.shopper.domain.order.dto.OrderResponse;
 import com.jihee.shopper.domain.order.entity.Order;
 import com.jihee.shopper.domain.order.entity.OrderStatus;
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
 import com.jihee.shopper.domain.product.CategoryRepository;
 import com.jihee.shopper.domain.product.ProductRepository;
 import com.jihee.shopper.domain.product.entity.Category;
@@ -28,6 +31,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -37,6 +42,7 @@ import static org.assertj.core.api.Assertions.*;
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 class OrderServiceTest {
 
     @Autowired
@@ -63,6 +69,9 @@ class OrderServiceTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ApplicationEvents events;
+
     private User testUser;
     private Address testAddress;
     private Product testProduct1;
@@ -179,6 +188,37 @@ class OrderServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 다른 사용자의 장바구니 상품 포함")
+    void createOrder_Fail_ForeignCartItem() {
+        // given
+        Cart cart = Cart.createForUser(testUser);
+        cartRepository.save(cart);
+        CartItem myItem = CartItem.of(cart, testProduct1, 1);
+        cartItemRepository.save(myItem);
+
+        User otherUser = User.createSocialUser("other@example.com", "Other User");
+        userRepository.save(otherUser);
+        Cart otherCart = Cart.createForUser(otherUser);
+        cartRepository.save(otherCart);
+        CartItem otherItem = CartItem.of(otherCart, testProduct2, 1);
+        cartItemRepository.save(otherItem);
+
+        OrderRequest request = new OrderRequest(
+                testAddress.getId(),
+                List.of(myItem.getId(), otherItem.getId())
+        );
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(testUser.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CART_ITEM_NOT_FOUND);
+
+        // 재고는 차감되지 않아야 함 (검증 단계에서 실패)
+        Product product = productRepository.findById(testProduct1.getId()).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(10);
+    }
+
     // ── 주문 조회 ───────────────────────────────────────────────────────
 
     @Test
@@ -301,6 +341,45 @@ class OrderServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_CANCEL_NOT_ALLOWED);
     }
 
+    // ── 주문 이벤트 ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("주문 생성·취소 - 상품별 주문 수량 이벤트 발행 (판매 랭킹 반영용)")
+    void orderEvents_PublishOrderedProducts() {
+        // given
+        Cart cart = Cart.createForUser(testUser);
+        cartRepository.save(cart);
+
+        CartItem cartItem1 = CartItem.of(cart, testProduct1, 2);
+        CartItem cartItem2 = CartItem.of(cart, testProduct2, 1);
+        cartItemRepository.save(cartItem1);
+        cartItemRepository.save(cartItem2);
+
+        OrderRequest request = new OrderRequest(
+                testAddress.getId(),
+                List.of(cartItem2.getId(), cartItem1.getId())
+        );
+
+        // when
+        OrderResponse created = orderService.createOrder(testUser.getId(), request);
+        orderService.cancelOrder(testUser.getId(), created.getOrderId());
+
+        // then
+        List<OrderedProduct> expected = List.of(
+                new OrderedProduct(testProduct1.getId(), testCategory.getId(), 2),
+                new OrderedProduct(testProduct2.getId(), testCategory.getId(), 1)
+        );
+        assertThat(events.stream(OrderPlacedEvent.class))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.orderId()).isEqualTo(created.getOrderId());
+                    assertThat(event.products()).containsExactlyElementsOf(expected);
+                });
+        assertThat(events.stream(OrderCancelledEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.products()).containsExactlyElementsOf(expected));
+    }
+
     // ── OrderItem 스냅샷 검증 ───────────────────────────────────────────
 
     @Test
@@ -0,0 +1,202 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import com.jihee.shopper.domain.product.dto.BestSellerResponse;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.support.EmbeddedRedisTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 판매 랭킹(Redis ZSET) 테스트.
+ *
+ * <p>카테고리 경로 집계는 CategoryTree 스냅샷을 쓰므로 카테고리를 커밋한 뒤 스냅샷을 다시 만든다.
+ * 클래스 단위 @Transactional을 쓰지 않으며, 생성한 데이터와 랭킹 키는 {@link #tearDown()}에서 정리한다.
+ */
+class BestSellerRankingTest extends EmbeddedRedisTest {
+
+    private static final String GLOBAL_KEY = "BS:ALL";
+    private static final String CATEGORY_KEY_PREFIX = "BS:CAT:";
+
+    @Autowired
+    private BestSellerRanking bestSellerRanking;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private RankingProductWarmer rankingProductWarmer;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Category root;
+    private Category child;
+    private Category leaf;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        root = categoryRepository.save(Category.createRoot("랭킹-" + System.nanoTime()));
+        child = categoryRepository.save(Category.createChild(root, "중분류"));
+        leaf = categoryRepository.save(Category.createChild(child, "소분류"));
+        categoryTreeCache.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+        categoryRepository.deleteAllById(List.of(leaf.getId(), child.getId(), root.getId()));
+        categoryTreeCache.rebuild();
+
+        bestSellerRanking.rebuild();
+    }
+
+    // ── 갱신 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("주문 생성 - 전체 랭킹과 카테고리 경로(자신 → 최상위) 랭킹에 주문 수량 가산")
+    void onOrderPlaced_IncrementsGlobalAndAncestors() {
+        // given
+        Long productId = saveProduct(0).getId();
+
+        // when
+        bestSellerRanking.onOrderPlaced(placed(productId, 3));
+        bestSellerRanking.onOrderPlaced(placed(productId, 2));
+
+        // then
+        String member = productId.toString();
+        assertThat(score(GLOBAL_KEY, member)).isEqualTo(5.0);
+        assertThat(score(CATEGORY_KEY_PREFIX + leaf.getId(), member)).isEqualTo(5.0);
+        assertThat(score(CATEGORY_KEY_PREFIX + child.getId(), member)).isEqualTo(5.0);
+        assertThat(score(CATEGORY_KEY_PREFIX + root.getId(), member)).isEqualTo(5.0);
+        assertThat(bestSellerRanking.top(root.getId(), 10))
+                .containsExactly(new RankedProduct(productId, 5));
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 수량 차감, 0 이하가 된 항목은 모든 경로 랭킹에서 제거")
+    void onOrderCancelled_RemovesNonPositive() {
+        // given
+        Long productId = saveProduct(0).getId();
+        bestSellerRanking.onOrderPlaced(placed(productId, 3));
+
+        // when: 일부 취소 → 남은 수량 유지
+        bestSellerRanking.onOrderCancelled(cancelled(productId, 1));
+
+        // then
+        String member = productId.toString();
+        assertThat(score(GLOBAL_KEY, member)).isEqualTo(2.0);
+
+        // when: 나머지 취소 → 0
+        bestSellerRanking.onOrderCancelled(cancelled(productId, 2));
+
+        // then
+        assertThat(score(GLOBAL_KEY, member)).isNull();
+        assertThat(score(CATEGORY_KEY_PREFIX + leaf.getId(), member)).isNull();
+        assertThat(score(CATEGORY_KEY_PREFIX + root.getId(), member)).isNull();
+    }
+
+    // ── 재구성 ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("재구성 - products.salesCount 기준으로 다시 만들고 DB에 없는 항목은 제거")
+    void rebuild_FromSalesCount() {
+        // given: 판매 이력 상품 2개 + DB에 없는 랭킹 항목
+        Long best = saveProduct(30).getId();
+        Long second = saveProduct(10).getId();
+        redisTemplate.opsForZSet().add(CATEGORY_KEY_PREFIX + root.getId(), "-1", 100);
+
+        // when
+        bestSellerRanking.rebuild();
+
+        // then
+        assertThat(bestSellerRanking.top(root.getId(), 10))
+                .containsExactly(new RankedProduct(best, 30), new RankedProduct(second, 10));
+        assertThat(bestSellerRanking.top(leaf.getId(), 10)).hasSize(2);
+        assertThat(score(GLOBAL_KEY, best.toString())).isEqualTo(30.0);
+    }
+
+    // ── 조회 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("판매량 상위 조회 - 상세 캐시가 비어 있어도 DB에서 적재해 순위대로 반환")
+    void getBestSellers_EmptyCache_LoadsMissingProducts() {
+        // given: 상세 캐시에 없는 상품 2개
+        Product best = saveProduct(0);
+        Product second = saveProduct(0);
+        bestSellerRanking.onOrderPlaced(placed(best.getId(), 4));
+        bestSellerRanking.onOrderPlaced(placed(second.getId(), 2));
+
+        // when
+        List<BestSellerResponse> first = productService.getBestSellers(root.getId(), 10);
+        List<BestSellerResponse> cached = productService.getBestSellers(root.getId(), 10);
+
+        // then
+        assertThat(first).extracting(BestSellerResponse::getId, BestSellerResponse::getRank,
+                        BestSellerResponse::getSoldCount)
+                .containsExactly(tuple(best.getId(), 1, 4L), tuple(second.getId(), 2, 2L));
+        assertThat(cached).extracting(BestSellerResponse::getId)
+                .containsExactly(best.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("판매량 상위 조회 - 일부만 캐시에 있어도 빠진 상품 없이 순위 유지")
+    void getBestSellers_PartialCache_KeepsRanking() {
+        // given: 2위 상품만 상세 캐시에 있음
+        Product best = saveProduct(0);
+        Product second = saveProduct(0);
+        bestSellerRanking.onOrderPlaced(placed(best.getId(), 4));
+        bestSellerRanking.onOrderPlaced(placed(second.getId(), 2));
+        rankingProductWarmer.load(List.of(second.getId()));
+
+        // when
+        List<BestSellerResponse> responses = productService.getBestSellers(root.getId(), 10);
+
+        // then
+        assertThat(responses).extracting(BestSellerResponse::getId, BestSellerResponse::getRank)
+                .containsExactly(tuple(best.getId(), 1), tuple(second.getId(), 2));
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private Product saveProduct(int salesCount) {
+        Product product = Product.create(leaf, "랭킹 상품", "판매 랭킹 테스트", 10000, 100);
+        product.increaseSalesCount(salesCount);
+        products.add(productRepository.save(product));
+        return product;
+    }
+
+    private OrderPlacedEvent placed(Long productId, int quantity) {
+        return new OrderPlacedEvent(1L, List.of(new OrderedProduct(productId, leaf.getId(), quantity)));
+    }
+
+    private OrderCancelledEvent cancelled(Long productId, int quantity) {
+        return new OrderCancelledEvent(1L, List.of(new OrderedProduct(productId, leaf.getId(), quantity)));
+    }
+
+    private Double score(String key, String member) {
+        return redisTemplate.opsForZSet().score(key, member);
+    }
+}
@@ -0,0 +1,137 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.CategoryRequest;
+import com.jihee.shopper.domain.product.dto.CategoryTreeResponse;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Category electronics;
+    private Category phone;
+    private Category galaxy;
+
+    @BeforeEach
+    void setUp() {
+        electronics = categoryRepository.save(Category.createRoot("전자제품"));
+        phone = categoryRepository.save(Category.createChild(electronics, "스마트폰"));
+        galaxy = categoryRepository.save(Category.createChild(phone, "갤럭시 시리즈"));
+
+        // 테스트 트랜잭션은 커밋되지 않아 변경 이벤트가 오지 않으므로 직접 재생성
+        categoryTreeCache.rebuild();
+    }
+
+    /**
+     * 롤백된 카테고리가 공유 스냅샷에 남지 않도록 롤백 이후 다시 만든다.
+     */
+    @AfterTransaction
+    void restoreCategoryTree() {
+        categoryTreeCache.rebuild();
+    }
+
+    // ── 트리 조회 ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("카테고리 트리 조회 - 3단계 계층과 하위 카테고리 ID 집합")
+    void getCategoryTree_Success() {
+        // when
+        List<CategoryTreeResponse> roots = categoryService.getCategoryTree();
+
+        // then
+        CategoryTreeResponse root = roots.stream()
+                .filter(node -> node.getId().equals(electronics.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(root.getChildren()).extracting(CategoryTreeResponse::getName).containsExactly("스마트폰");
+        assertThat(root.getChildren().get(0).getChildren())
+                .extracting(CategoryTreeResponse::getName)
+                .containsExactly("갤럭시 시리즈");
+
+        assertThat(categoryTreeCache.get().descendantIdsOf(electronics.getId()))
+                .containsExactlyInAnyOrder(electronics.getId(), phone.getId(), galaxy.getId());
+        assertThat(categoryTreeCache.get().descendantIdsOf(galaxy.getId()))
+                .containsExactly(galaxy.getId());
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 조회 - 스냅샷을 재사용한다")
+    void getCategoryTree_SameSnapshot() {
+        // when
+        List<CategoryTreeResponse> first = categoryService.getCategoryTree();
+        List<CategoryTreeResponse> second = categoryService.getCategoryTree();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    // ── 관리자 ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("카테고리 생성 실패 - 최대 깊이 초과")
+    void createCategory_Fail_DepthExceeded() {
+        // given
+        CategoryRequest request = new CategoryRequest();
+        request.setParentId(galaxy.getId());
+        request.setName("4단계");
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.createCategory(request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_DEPTH_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 실패 - 하위 카테고리에 상품 존재")
+    void deleteCategory_Fail_SubtreeHasProducts() {
+        // given
+        productRepository.save(Product.create(galaxy, "갤럭시 S25", "스마트폰", 1200000, 10));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.deleteCategory(electronics.getId()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_HAS_PRODUCTS);
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 실패 - 스냅샷에 없는 하위 카테고리의 상품도 DB 기준으로 검사")
+    void deleteCategory_Fail_SubtreeNotInSnapshot() {
+        // given: 스냅샷 재생성 전에 추가된 하위 카테고리와 상품 (다른 서버에서 생성된 경우)
+        Category iphone = categoryRepository.save(Category.createChild(phone, "아이폰 시리즈"));
+        productRepository.save(Product.create(iphone, "아이폰 17", "스마트폰", 1500000, 10));
+        assertThat(categoryTreeCache.get().contains(iphone.getId())).isFalse();
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.deleteCategory(electronics.getId()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_HAS_PRODUCTS);
+    }
+}
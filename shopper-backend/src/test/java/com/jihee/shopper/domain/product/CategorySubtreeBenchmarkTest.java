@@ -0,0 +1,144 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.Category;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 하위 카테고리 ID 조회 비교 (CategoryTree 스냅샷 vs 재귀 CTE).
+ *
+ * <p>약 1만 개 카테고리(대분류 10 × 중분류 100 × 소분류 9)에서
+ * 대분류·중분류 기준 하위 ID 집합 조회의 평균 지연을 측정해 출력한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Tag("load")
+class CategorySubtreeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySubtreeBenchmarkTest.class);
+
+    private static final int ROOTS = 10;
+    private static final int CHILDREN_PER_ROOT = 100;
+    private static final int LEAVES_PER_CHILD = 9;
+    private static final int ITERATIONS = 50;
+
+    private static final String SUBTREE_CTE = """
+            WITH RECURSIVE subtree(id) AS (
+                SELECT id FROM categories WHERE id = :categoryId
+                UNION ALL
+                SELECT c.id FROM categories c JOIN subtree s ON c.parent_id = s.id
+            )
+            SELECT id FROM subtree
+            """;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> lookupIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int r = 0; r < ROOTS; r++) {
+            Category root = categoryRepository.save(Category.createRoot("대분류" + r));
+            lookupIds.add(root.getId());
+
+            for (int c = 0; c < CHILDREN_PER_ROOT; c++) {
+                Category child = categoryRepository.save(Category.createChild(root, "중분류" + r + "-" + c));
+                if (c % 10 == 0) {
+                    lookupIds.add(child.getId());
+                }
+
+                for (int l = 0; l < LEAVES_PER_CHILD; l++) {
+                    categoryRepository.save(Category.createChild(child, "소분류" + r + "-" + c + "-" + l));
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 측정용 카테고리 1만 개는 롤백되므로, 이를 담은 공유 스냅샷을 롤백 이후 다시 만든다.
+     */
+    @AfterTransaction
+    void restoreCategoryTree() {
+        categoryTreeCache.rebuild();
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 조회 - 스냅샷이 재귀 CTE와 같은 결과를 더 빠르게 반환")
+    void subtree_SnapshotVsRecursiveCte() {
+        // 스냅샷 생성 비용 (변경 시 1회)
+        long buildStart = System.nanoTime();
+        CategoryTree tree = categoryTreeCache.rebuild();
+        double buildMillis = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+        double snapshotMillis = measure(tree::descendantIdsOf);
+        double cteMillis = measure(this::subtreeByCte);
+
+        log.info("[CategorySubtree] snapshot build : {} ms ({} categories)",
+                String.format("%.3f", buildMillis), ROOTS * CHILDREN_PER_ROOT * (LEAVES_PER_CHILD + 1) + ROOTS);
+        log.info("[CategorySubtree] snapshot       : {} ms/lookup", String.format("%.4f", snapshotMillis));
+        log.info("[CategorySubtree] recursive CTE  : {} ms/lookup", String.format("%.4f", cteMillis));
+
+        // 결과 동일성
+        for (Long categoryId : lookupIds) {
+            assertThat(tree.descendantIdsOf(categoryId)).isEqualTo(subtreeByCte(categoryId));
+        }
+        assertThat(tree.descendantIdsOf(lookupIds.get(0)))
+                .hasSize(1 + CHILDREN_PER_ROOT * (LEAVES_PER_CHILD + 1));
+
+        assertThat(snapshotMillis).isLessThan(cteMillis);
+    }
+
+    // ── 측정 ───────────────────────────────────────────────────────────────
+
+    private double measure(Function<Long, Set<Long>> lookup) {
+        lookupIds.forEach(lookup::apply);  // 워밍업
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (Long categoryId : lookupIds) {
+                lookup.apply(categoryId);
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / (ITERATIONS * lookupIds.size());
+    }
+
+    private Set<Long> subtreeByCte(Long categoryId) {
+        List<?> rows = entityManager.createNativeQuery(SUBTREE_CTE)
+                .setParameter("categoryId", categoryId)
+                .getResultList();
+
+        Set<Long> ids = new HashSet<>();
+        for (Object row : rows) {
+            ids.add(((Number) row).longValue());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,337 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.jihee.shopper.support.EmbeddedRedisTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한정 수량 상품 재고(Redis 카운터) 테스트.
+ *
+ * <p>커밋·롤백 이후 동작을 확인해야 하므로 클래스 단위 @Transactional을 쓰지 않고,
+ * 생성한 상품·변동분·카운터는 {@link #tearDown()}에서 직접 삭제한다.
+ * StockDeltaReconciler는 테스트 중에도 주기적으로 실행되므로, 재고는 products.stock + 미반영 변동분 합계로 검증한다.
+ */
+class HotInventoryServiceTest extends EmbeddedRedisTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private HotInventoryService hotInventoryService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockDeltaReconciler stockDeltaReconciler;
+
+    @Autowired
+    private StockDeltaRepository stockDeltaRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Category category;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        category = categoryRepository.save(Category.createRoot("한정수량-" + System.nanoTime()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            for (Product product : products) {
+                stockDeltaRepository.deleteAll(stockDeltaRepository.findByProductId(product.getId()));
+                redisTemplate.delete("INV:" + product.getId());
+            }
+            productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+            categoryRepository.deleteById(category.getId());
+        });
+        hotInventoryService.refreshHotItems();
+    }
+
+    // ── 차감 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("차감 성공 - Redis 카운터와 변동분만 줄고 products.stock은 그대로")
+    void decrease_HotItem_Success() {
+        // given
+        Product product = saveHotProduct(10);
+
+        // when
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 3)));
+
+        // then
+        assertThat(counter(product)).isEqualTo(7);
+        assertThat(availableStock(product)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("차감 실패 - 재고 부족 시 OUT_OF_STOCK, 카운터 변화 없음")
+    void decrease_HotItem_Fail_OutOfStock() {
+        // given
+        Product product = saveHotProduct(2);
+
+        // when & then
+        assertThatThrownBy(() -> tx.executeWithoutResult(status ->
+                stockService.decrease(Map.of(product.getId(), 3))))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OUT_OF_STOCK);
+
+        assertThat(counter(product)).isEqualTo(2);
+        assertThat(availableStock(product)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("차감 후 롤백 - Redis 차감분 복구, 변동분 미기록")
+    void decrease_HotItem_Rollback() {
+        // given
+        Product product = saveHotProduct(10);
+
+        // when: 차감 직후 카운터를 확인하고 롤백
+        Long reservedCounter = tx.execute(status -> {
+            stockService.decrease(Map.of(product.getId(), 4));
+            status.setRollbackOnly();
+            return counter(product);
+        });
+
+        // then
+        assertThat(reservedCounter).isEqualTo(6);
+        assertThat(counter(product)).isEqualTo(10);
+        assertThat(availableStock(product)).isEqualTo(10);
+    }
+
+    // ── 복구 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("복구 - 커밋된 뒤에만 Redis 카운터 증가")
+    void increase_HotItem_AfterCommit() {
+        // given
+        Product product = saveHotProduct(10);
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 3)));
+
+        // when
+        Long counterBeforeCommit = tx.execute(status -> {
+            stockService.increase(Map.of(product.getId(), 3));
+            return counter(product);
+        });
+
+        // then
+        assertThat(counterBeforeCommit).isEqualTo(7);
+        assertThat(counter(product)).isEqualTo(10);
+        assertThat(availableStock(product)).isEqualTo(10);
+    }
+
+    // ── 반영 ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("변동분 반영 - flush 후 products.stock에 차감·복구 합계 반영")
+    void reconcilerFlush_UpdatesProductStock() {
+        // given
+        Product product = saveHotProduct(10);
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 5)));
+        tx.executeWithoutResult(status -> stockService.increase(Map.of(product.getId(), 2)));
+
+        // when
+        stockDeltaReconciler.flush(product.getId());
+
+        // then
+        assertThat(stockDeltaRepository.sumQuantityByProductId(product.getId())).isZero();
+        assertThat(productRepository.findStockById(product.getId())).contains(7);
+        assertThat(counter(product)).isEqualTo(7);
+    }
+
+    // ── 모드 전환 ───────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("모드 해제 후 차감 - 카운터 삭제, DB 조건부 UPDATE로 처리")
+    void decrease_AfterDisable_FallsBackToDatabase() {
+        // given
+        Product product = saveHotProduct(10);
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 2)));
+
+        // when
+        hotInventoryService.disable(product.getId());
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 3)));
+
+        // then
+        assertThat(hotInventoryService.isHot(product.getId())).isFalse();
+        assertThat(redisTemplate.hasKey("INV:" + product.getId())).isFalse();
+        assertThat(productRepository.findStockById(product.getId())).contains(5);
+    }
+
+    @Test
+    @DisplayName("모드 해제를 모르는 상태로 예약 - 카운터 없으면 DB 경로로 넘김")
+    void reserve_DisabledProduct_ReturnsFallback() {
+        // given: 다른 서버가 모드를 해제해 카운터가 사라진 상태
+        Product product = saveHotProduct(10);
+        hotInventoryService.disable(product.getId());
+
+        // when
+        Map<Long, Integer> fallback = tx.execute(status ->
+                hotInventoryService.reserve(Map.of(product.getId(), 2)));
+
+        // then
+        assertThat(fallback).containsExactly(Map.entry(product.getId(), 2));
+        assertThat(redisTemplate.hasKey("INV:" + product.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("모드 설정을 모르는 상태로 차감 - DB UPDATE가 거부하고 Redis 카운터로 처리")
+    void decrease_StaleHotItems_ReroutedToCounter() {
+        // given: 다른 서버가 모드를 설정했지만 이 서버의 목록은 아직 갱신 전
+        Product product = saveProduct(10);
+        tx.executeWithoutResult(status ->
+                productRepository.findById(product.getId()).orElseThrow().enableHotInventory());
+        assertThat(hotInventoryService.isHot(product.getId())).isFalse();
+
+        // when
+        tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 4)));
+
+        // then: products.stock이 아닌 카운터·변동분으로 차감
+        assertThat(hotInventoryService.isHot(product.getId())).isTrue();
+        assertThat(counter(product)).isEqualTo(6);
+        assertThat(availableStock(product)).isEqualTo(6);
+    }
+
+    // ── 동시성 ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("동시 차감 - 재고만큼만 판매 (초과 판매 없음)")
+    void decrease_HotItem_Concurrent_NoOversell() throws InterruptedException {
+        // given: 재고 20개, 구매 40건 (각 1개)
+        int stock = 20;
+        int buyers = 40;
+        Product product = saveHotProduct(stock);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+
+        // when
+        runConcurrently(buyers, () -> {
+            try {
+                tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 1)));
+                success.incrementAndGet();
+            } catch (CustomException e) {
+                if (e.getErrorCode() == ErrorCode.OUT_OF_STOCK) {
+                    outOfStock.incrementAndGet();
+                }
+            }
+        });
+        stockDeltaReconciler.flush(product.getId());
+
+        // then
+        assertThat(success.get()).isEqualTo(stock);
+        assertThat(outOfStock.get()).isEqualTo(buyers - stock);
+        assertThat(counter(product)).isZero();
+        assertThat(productRepository.findStockById(product.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("재구성과 반영 동시 실행 - 반영이 끼어들어도 카운터는 주문 가능 재고와 일치")
+    void rebuild_ConcurrentWithReconcile_MatchesAvailableStock() throws InterruptedException {
+        // given
+        int stock = 50;
+        int rounds = 20;
+        Product product = saveHotProduct(stock);
+
+        for (int round = 0; round < rounds; round++) {
+            // 매 회차 미반영 변동분 1건을 만든 뒤 재구성과 반영을 동시에 실행
+            tx.executeWithoutResult(status -> stockService.decrease(Map.of(product.getId(), 1)));
+            AtomicInteger turn = new AtomicInteger();
+
+            // when
+            runConcurrently(2, () -> {
+                if (turn.getAndIncrement() == 0) {
+                    hotInventoryService.rebuild(product.getId());
+                } else {
+                    stockDeltaReconciler.flush(product.getId());
+                }
+            });
+
+            // then: 반영 전 재고 + 변동분, 반영 후 재고 중 어느 쪽을 읽어도 같은 값
+            assertThat(counter(product)).isEqualTo(stock - round - 1);
+        }
+        assertThat(availableStock(product)).isEqualTo(stock - rounds);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private Product saveProduct(int stock) {
+        Product product = productRepository.save(Product.create(category, "한정판", "한정 수량 테스트", 10000, stock));
+        products.add(product);
+        return product;
+    }
+
+    private Product saveHotProduct(int stock) {
+        Product product = saveProduct(stock);
+        hotInventoryService.enable(product.getId());
+        return product;
+    }
+
+    private long counter(Product product) {
+        return Long.parseLong(redisTemplate.opsForValue().get("INV:" + product.getId()));
+    }
+
+    private long availableStock(Product product) {
+        int stock = productRepository.findStockById(product.getId()).orElseThrow();
+        return stock + stockDeltaRepository.sumQuantityByProductId(product.getId());
+    }
+
+    private void runConcurrently(int count, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+}
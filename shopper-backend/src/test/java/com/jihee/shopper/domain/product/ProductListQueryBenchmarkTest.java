@@ -0,0 +1,133 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.dto.ProductListResponse;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.product.entity.ProductImage;
+import com.jihee.shopper.domain.product.entity.ProductStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상품 목록 조회 경로 비교 (엔티티 + images 컬렉션 vs 대표 이미지 프로젝션).
+ *
+ * <p>페이지당 SQL 실행 수와 평균 지연을 측정해 출력한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@Tag("load")
+class ProductListQueryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductListQueryBenchmarkTest.class);
+
+    private static final int PRODUCT_COUNT = 60;
+    private static final int IMAGES_PER_PRODUCT = 3;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Pageable pageable = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+    @BeforeEach
+    void setUp() {
+        Category category = Category.createRoot("전자제품");
+        categoryRepository.save(category);
+
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = Product.create(category, "상품" + i, "설명" + i, 10000 + i, 10);
+            productRepository.save(product);
+
+            for (int j = 0; j < IMAGES_PER_PRODUCT; j++) {
+                productImageRepository.save(ProductImage.of(product, "https://img/" + i + "/" + j, j == 0, j));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 프로젝션 경로가 페이지당 SQL 수가 더 적다")
+    void listQuery_ProjectionVsEntity() {
+        // 기존 경로: findByStatus + ProductListResponse.from (images 컬렉션 지연 로딩)
+        Result entityPath = measure(() -> productRepository
+                .findByStatus(ProductStatus.ACTIVE, pageable)
+                .map(ProductListResponse::from));
+
+        // 신규 경로: 상품 컬럼 + 대표 이미지 URL 프로젝션
+        Result projectionPath = measure(() -> productRepository.findActivePage(null, pageable));
+
+        log.info("[ProductList] entity     : {} queries/page, {} ms/page",
+                entityPath.queriesPerPage(), String.format("%.3f", entityPath.millisPerPage()));
+        log.info("[ProductList] projection : {} queries/page, {} ms/page",
+                projectionPath.queriesPerPage(), String.format("%.3f", projectionPath.millisPerPage()));
+
+        // 결과 동일성 (대표 이미지 URL 포함)
+        assertThat(projectionPath.page().getContent())
+                .extracting(ProductListResponse::getId, ProductListResponse::getMainImageUrl)
+                .containsExactlyElementsOf(entityPath.page().getContent().stream()
+                        .map(r -> tuple(r.getId(), r.getMainImageUrl()))
+                        .toList());
+
+        // 프로젝션: content + count 2회
+        assertThat(projectionPath.queriesPerPage()).isLessThanOrEqualTo(2);
+        assertThat(projectionPath.queriesPerPage()).isLessThan(entityPath.queriesPerPage());
+    }
+
+    // ── 측정 ───────────────────────────────────────────────────────────────
+
+    private Result measure(Supplier<Page<ProductListResponse>> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업 + SQL 수 측정
+        statistics.clear();
+        Page<ProductListResponse> page = query.get();
+        long queries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        double millisPerPage = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        return new Result(page, queries, millisPerPage);
+    }
+
+    private record Result(Page<ProductListResponse> page, long queriesPerPage, double millisPerPage) {
+    }
+}
@@ -1,10 +1,18 @@
 package com.jihee.shopper.domain.product;
 
+import com.jihee.shopper.domain.product.dto.ProductFacetResponse;
+import com.jihee.shopper.domain.product.dto.ProductListResponse;
 import com.jihee.shopper.domain.product.dto.ProductRequest;
 import com.jihee.shopper.domain.product.dto.ProductResponse;
+import com.jihee.shopper.domain.product.dto.ProductSuggestionResponse;
 import com.jihee.shopper.domain.product.entity.Category;
 import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.domain.product.entity.ProductImage;
 import com.jihee.shopper.domain.product.entity.ProductStatus;
+import com.jihee.shopper.domain.product.event.ProductChangedEvent;
+import com.jihee.shopper.domain.product.search.InMemoryProductSearchEngine;
+import com.jihee.shopper.domain.product.search.ProductAutocompleteIndex;
+import com.jihee.shopper.global.common.CursorResponse;
 import com.jihee.shopper.global.exception.CustomException;
 import com.jihee.shopper.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,9 +23,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -34,6 +46,18 @@ class ProductServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private InMemoryProductSearchEngine productSearchEngine;
+
+    @Autowired
+    private ProductAutocompleteIndex productAutocompleteIndex;
+
     private Category rootCategory;
     private Category subCategory;
 
@@ -46,6 +70,16 @@ class ProductServiceTest {
         categoryRepository.save(subCategory);
     }
 
+    /**
+     * 테스트 중 다시 만든 스냅샷·색인에는 롤백된 카테고리·상품이 남으므로, 롤백 이후 DB 기준으로 다시 만든다.
+     */
+    @AfterTransaction
+    void restoreSnapshots() {
+        categoryTreeCache.rebuild();
+        productSearchEngine.reindex();
+        productAutocompleteIndex.rebuild();
+    }
+
     // ── 상품 조회 (공개 API) ────────────────────────────────────────────
 
     @Test
@@ -85,6 +119,242 @@ class ProductServiceTest {
         assertThat(responses.getContent()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("상품 목록 조회 실패 - 허용되지 않은 정렬 속성은 INVALID_INPUT")
+    void getProducts_Fail_UnknownSortProperty() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("foo"));
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProducts(null, pageable))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 대표 이미지가 여러 장이어도 상품은 한 번만 조회")
+    void getProducts_MultipleMainImages_NoDuplicateRows() {
+        // given
+        Product product = productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        ProductImage first = productImageRepository.save(ProductImage.of(product, "https://img/1.png", true, 0));
+        productImageRepository.save(ProductImage.of(product, "https://img/2.png", true, 1));
+
+        // when
+        Page<ProductListResponse> responses =
+                productRepository.findActivePage(List.of(subCategory.getId()), PageRequest.of(0, 10));
+
+        // then
+        assertThat(responses.getContent()).hasSize(1);
+        assertThat(responses.getContent().get(0).getMainImageUrl()).isEqualTo(first.getUrl());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 상위 카테고리 필터는 하위 카테고리 상품을 포함")
+    void getProducts_IncludeSubtree() {
+        // given
+        Category otherRoot = categoryRepository.save(Category.createRoot("도서"));
+        productRepository.save(Product.create(rootCategory, "모니터", "27인치", 300000, 10));
+        productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        productRepository.save(Product.create(otherRoot, "자바의 정석", "프로그래밍", 30000, 10));
+        categoryTreeCache.rebuild();
+
+        // when
+        Page<ProductListResponse> responses = productService.getProducts(rootCategory.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(responses.getContent())
+                .extracting(ProductListResponse::getName)
+                .containsExactlyInAnyOrder("모니터", "맥북 프로");
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 가격 오름차순, 다음 페이지 이어서 조회")
+    void getProductsByCursor_PriceAsc() {
+        // given
+        productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        productRepository.save(Product.create(subCategory, "LG 그램", "초경량 노트북", 1800000, 5));
+        productRepository.save(Product.create(subCategory, "갤럭시 북", "가성비 노트북", 1800000, 7));
+
+        // when
+        CursorResponse<ProductListResponse> first = productService.getProductsByCursor(
+                subCategory.getId(), ProductSortType.PRICE, Sort.Direction.ASC, null, 2);
+        CursorResponse<ProductListResponse> second = productService.getProductsByCursor(
+                subCategory.getId(), ProductSortType.PRICE, Sort.Direction.ASC, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(ProductListResponse::getPrice)
+                .containsExactly(1800000, 1800000);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ProductListResponse::getName)
+                .containsExactly("맥북 프로");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 실패 - 정렬 기준이 다른 커서")
+    void getProductsByCursor_Fail_SortMismatch() {
+        // given
+        productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        productRepository.save(Product.create(subCategory, "LG 그램", "초경량 노트북", 1800000, 5));
+        String priceCursor = productService.getProductsByCursor(
+                null, ProductSortType.PRICE, Sort.Direction.ASC, null, 1).getNextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProductsByCursor(
+                null, ProductSortType.SALES_COUNT, Sort.Direction.DESC, priceCursor, 1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 상품명 일치가 설명 일치보다 앞에 오고, 커서로 이어서 조회")
+    void searchProducts_RankAndCursor() {
+        // given
+        productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        productRepository.save(Product.create(subCategory, "LG 그램 노트북", "초경량", 1800000, 5));
+        productRepository.save(Product.create(subCategory, "마우스", "노트북용 무선 마우스", 30000, 50));
+        productRepository.save(Product.create(subCategory, "키보드", "기계식", 100000, 20));
+        productSearchEngine.reindex();
+
+        // when
+        CursorResponse<ProductListResponse> first = productService.searchProducts("노트북", null, null, null, null, 1);
+        CursorResponse<ProductListResponse> rest = productService.searchProducts(
+                "노트북", null, null, null, first.getNextCursor(), 10);
+
+        // then
+        assertThat(first.getContent()).extracting(ProductListResponse::getName).containsExactly("LG 그램 노트북");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(rest.getContent()).extracting(ProductListResponse::getName)
+                .containsExactlyInAnyOrder("맥북 프로", "마우스");
+        assertThat(rest.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 접두어 일치, 가격 필터")
+    void searchProducts_PrefixAndPriceFilter() {
+        // given
+        productRepository.save(Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10));
+        productRepository.save(Product.create(subCategory, "마우스", "노트북용 무선 마우스", 30000, 50));
+        productSearchEngine.reindex();
+
+        // when
+        CursorResponse<ProductListResponse> responses = productService.searchProducts(
+                "노트", null, null, 100000, null, 10);
+
+        // then
+        assertThat(responses.getContent()).extracting(ProductListResponse::getName).containsExactly("마우스");
+    }
+
+    @Test
+    @DisplayName("상품 패싯 조회 - 카테고리(하위 합산) · 가격대 · 재고 여부별 상품 수")
+    void getFacets_Success() {
+        // given
+        productRepository.save(Product.create(rootCategory, "모니터", "27인치", 2500000, 10));
+        productRepository.save(Product.create(subCategory, "마우스패드", "패드", 5000, 0));
+        productRepository.save(Product.create(subCategory, "마우스", "무선", 30000, 5));
+        categoryTreeCache.rebuild();
+
+        // when
+        ProductFacetResponse facets = productService.getFacets(rootCategory.getId(), null, null);
+
+        // then
+        assertThat(facets.getTotalCount()).isEqualTo(3);
+        assertThat(facets.getCategories())
+                .extracting(ProductFacetResponse.CategoryFacet::getCategoryId, ProductFacetResponse.CategoryFacet::getCount)
+                .containsExactlyInAnyOrder(
+                        tuple(rootCategory.getId(), 3L),
+                        tuple(subCategory.getId(), 2L));
+        assertThat(facets.getPrices())
+                .extracting(ProductFacetResponse.PriceFacet::getCount)
+                .containsExactly(1L, 1L, 0L, 0L, 0L, 1L);
+        assertThat(facets.getInStockCount()).isEqualTo(2);
+        assertThat(facets.getOutOfStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품명 자동완성 - 입력 중인 글자·초성·단어 중간 일치, 판매량순")
+    void getSuggestions_JamoAndChosung() {
+        // given
+        Product macbook = Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10);
+        Product macbookAir = Product.create(subCategory, "맥북 에어", "가벼운 노트북", 1500000, 10);
+        macbookAir.increaseSalesCount(100);
+        Product gram = Product.create(subCategory, "LG 그램 노트북", "초경량", 1800000, 5);
+        productRepository.save(macbook);
+        productRepository.save(macbookAir);
+        productRepository.save(gram);
+        productAutocompleteIndex.rebuild();
+
+        // when & then
+        assertThat(productService.getSuggestions("맥ㅂ", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 에어", "맥북 프로");
+        assertThat(productService.getSuggestions("ㅁㅂㅍ", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 프로");
+        assertThat(productService.getSuggestions("노트부", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("LG 그램 노트북");
+    }
+
+    @Test
+    @DisplayName("상품명 자동완성 - limit보다 많이 일치하면 판매량 상위만, 여러 위치에서 일치해도 한 번만")
+    void getSuggestions_TopKWithoutDuplicates() {
+        // given: 판매량 10~50인 케이스 5개 + "맥북"이 두 번 들어간 파우치(판매량 45)
+        for (int i = 1; i <= 5; i++) {
+            Product product = Product.create(subCategory, "맥북 케이스 " + i, "액세서리", 30000, 10);
+            product.increaseSalesCount(i * 10);
+            productRepository.save(product);
+        }
+        Product pouch = Product.create(subCategory, "맥북 맥북 파우치", "액세서리", 20000, 10);
+        pouch.increaseSalesCount(45);
+        productRepository.save(pouch);
+        productAutocompleteIndex.rebuild();
+
+        // when & then
+        assertThat(productService.getSuggestions("맥북", 3))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 케이스 5", "맥북 맥북 파우치", "맥북 케이스 4");
+    }
+
+    @Test
+    @DisplayName("상품명 자동완성 - 상품 단위 재색인이 짧은 접두어 상위 목록과 긴 접두어 조회에 모두 반영")
+    void getSuggestions_AfterProductChanged_UpdatesPrecomputedTop() {
+        // given
+        Product case1 = Product.create(subCategory, "맥북 케이스", "액세서리", 30000, 10);
+        case1.increaseSalesCount(10);
+        productRepository.save(case1);
+        productAutocompleteIndex.rebuild();
+
+        Product sleeve = Product.create(subCategory, "맥북 케이스 슬리브", "액세서리", 40000, 10);
+        sleeve.increaseSalesCount(20);
+        productRepository.saveAndFlush(sleeve);
+
+        // when
+        productAutocompleteIndex.onProductChanged(new ProductChangedEvent(sleeve.getId()));
+
+        // then: "맥북"은 미리 계산한 목록, "맥북케이스"는 정렬 집합 순회
+        assertThat(productService.getSuggestions("맥북", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 케이스 슬리브", "맥북 케이스");
+        assertThat(productService.getSuggestions("맥북 케이스", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 케이스 슬리브", "맥북 케이스");
+
+        // when: 비활성화 후 재색인 → 두 경로 모두에서 제거
+        sleeve.deactivate();
+        productRepository.saveAndFlush(sleeve);
+        productAutocompleteIndex.onProductChanged(new ProductChangedEvent(sleeve.getId()));
+
+        // then
+        assertThat(productService.getSuggestions("ㅁㅂ", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 케이스");
+        assertThat(productService.getSuggestions("맥북 케이스", 10))
+                .extracting(ProductSuggestionResponse::getName)
+                .containsExactly("맥북 케이스");
+    }
+
     @Test
     @DisplayName("상품 상세 조회 성공")
     void getProduct_Success() {
@@ -101,6 +371,21 @@ class ProductServiceTest {
         assertThat(response.getStock()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("상품 상세 조회 - 두 번째 조회는 캐시 적중")
+    void getProduct_CacheHit() {
+        // given
+        Product product = Product.create(subCategory, "맥북 프로", "고성능 노트북", 2500000, 10);
+        productRepository.save(product);
+        ProductResponse first = productService.getProduct(product.getId());
+
+        // when
+        ProductResponse second = productService.getProduct(product.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
     @Test
     @DisplayName("상품 상세 조회 실패 - INACTIVE 상품")
     void getProduct_Fail_InactiveProduct() {
@@ -0,0 +1,95 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderCancelledEvent;
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 판매 수량 비동기 집계 테스트.
+ *
+ * <p>테스트 트랜잭션은 커밋되지 않아 주문 이벤트가 오지 않으므로 리스너를 직접 호출한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SalesCountAggregatorTest {
+
+    @Autowired
+    private SalesCountAggregator salesCountAggregator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Category category;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.createRoot("전자제품"));
+        product1 = productRepository.save(Product.create(category, "맥북 프로", "고성능 노트북", 2500000, 10));
+        product2 = productRepository.save(Product.create(category, "LG 그램", "초경량 노트북", 1800000, 5));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("판매 수량 반영 - 주문·취소 수량을 합산해 한 번에 반영, version 유지")
+    void flush_CoalescesWithoutVersionBump() {
+        // given
+        Long version1 = product1.getVersion();
+        salesCountAggregator.onOrderPlaced(new OrderPlacedEvent(1L, List.of(
+                new OrderedProduct(product1.getId(), category.getId(), 2),
+                new OrderedProduct(product2.getId(), category.getId(), 1))));
+        salesCountAggregator.onOrderPlaced(new OrderPlacedEvent(2L, List.of(
+                new OrderedProduct(product1.getId(), category.getId(), 3))));
+        salesCountAggregator.onOrderCancelled(new OrderCancelledEvent(1L, List.of(
+                new OrderedProduct(product1.getId(), category.getId(), 2),
+                new OrderedProduct(product2.getId(), category.getId(), 1))));
+
+        // when
+        salesCountAggregator.flush();
+        entityManager.clear();
+
+        // then
+        Product updated1 = productRepository.findById(product1.getId()).orElseThrow();
+        Product updated2 = productRepository.findById(product2.getId()).orElseThrow();
+        assertThat(updated1.getSalesCount()).isEqualTo(3);
+        assertThat(updated1.getVersion()).isEqualTo(version1);
+        assertThat(updated2.getSalesCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("판매 수량 반영 - 취소가 누적 판매량보다 많아도 0 미만으로 내려가지 않음")
+    void flush_NeverBelowZero() {
+        // given
+        salesCountAggregator.onOrderCancelled(new OrderCancelledEvent(1L, List.of(
+                new OrderedProduct(product1.getId(), category.getId(), 5))));
+
+        // when
+        salesCountAggregator.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(productRepository.findById(product1.getId()).orElseThrow().getSalesCount()).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.product.entity.Category;
+import com.jihee.shopper.domain.product.entity.Product;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 상품 동시 주문 재고 차감 부하 테스트 (주문별 조건부 UPDATE vs 묶음 처리).
+ *
+ * <p>여러 스레드가 한 상품에 동시에 1개씩 주문하고, 두 경로의 초당 처리 주문 수를 측정해 출력한다.
+ * 묶음 처리는 별도 커넥션 풀에서 커밋하므로 클래스 단위 @Transactional을 쓰지 않는다.
+ */
+@SpringBootTest(properties = "stock.group-commit.enabled=true")
+@ActiveProfiles("test")
+class StockGroupCommitLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockGroupCommitLoadTest.class);
+
+    private static final int THREADS = 32;
+    private static final int STOCK = 300;
+    private static final int ATTEMPTS = 400;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Category category;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        category = categoryRepository.save(Category.createRoot("묶음처리-" + System.nanoTime()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+        categoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("같은 상품 동시 주문 - 묶음 처리도 재고만큼만 승인하고 처리량을 출력")
+    void decreaseStock_PerOrderVsGroupCommit() throws InterruptedException {
+        // 기존 경로: 주문마다 UPDATE ... WHERE stock >= ? + 커밋
+        Product perOrderTarget = saveProduct();
+        Result perOrder = measure(() -> tx.executeWithoutResult(status -> {
+            if (productRepository.decreaseStock(perOrderTarget.getId(), 1) == 0) {
+                throw new CustomException(ErrorCode.OUT_OF_STOCK);
+            }
+        }));
+
+        // 신규 경로: StockCombiner가 같은 상품 요청을 모아 한 번에 차감
+        Product combinedTarget = saveProduct();
+        Result combined = measure(() -> tx.executeWithoutResult(status ->
+                stockService.decrease(Map.of(combinedTarget.getId(), 1))));
+
+        log.info("[GroupCommit] per-order : {}/{} success, {} orders/sec",
+                perOrder.success(), ATTEMPTS, String.format("%.1f", perOrder.ordersPerSecond()));
+        log.info("[GroupCommit] combined  : {}/{} success, {} orders/sec",
+                combined.success(), ATTEMPTS, String.format("%.1f", combined.ordersPerSecond()));
+
+        // 두 경로 모두 재고만큼만 성공, 초과 판매 없음
+        assertThat(perOrder.success()).isEqualTo(STOCK);
+        assertThat(combined.success()).isEqualTo(STOCK);
+        assertThat(productRepository.findById(perOrderTarget.getId()).orElseThrow().getStock()).isZero();
+        assertThat(productRepository.findById(combinedTarget.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 주문 트랜잭션 롤백 시 차감분 복구")
+    void decreaseStock_GroupCommit_RollbackRestoresStock() {
+        // given
+        Product product = saveProduct();
+
+        // when
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            stockService.decrease(Map.of(product.getId(), 5));
+            throw new IllegalStateException("주문 처리 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(STOCK);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private Product saveProduct() {
+        Product product = productRepository.save(Product.create(category, "한정판", "묶음 처리 테스트", 10000, STOCK));
+        products.add(product);
+        return product;
+    }
+
+    private Result measure(Runnable order) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ATTEMPTS);
+        AtomicInteger success = new AtomicInteger();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    order.run();
+                    success.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    // 재고 부족 → 실패로 집계
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdownNow();
+
+        return new Result(success.get(), success.get() / seconds);
+    }
+
+    private record Result(int success, double ordersPerSecond) {
+    }
+}
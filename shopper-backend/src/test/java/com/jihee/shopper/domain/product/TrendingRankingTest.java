@@ -0,0 +1,167 @@
+package com.jihee.shopper.domain.product;
+
+import com.jihee.shopper.domain.order.event.OrderPlacedEvent;
+import com.jihee.shopper.domain.order.event.OrderedProduct;
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import com.jihee.shopper.support.EmbeddedRedisTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인기 급상승 랭킹(Redis 버킷 ZSET + 메모리 스냅샷) 테스트.
+ *
+ * <p>버킷 키는 현재 시각 기준이므로, 분 경계를 넘어 실행되어도 결과가 같도록 구간 경계에서 충분히 떨어진 버킷을 쓴다.
+ */
+class TrendingRankingTest extends EmbeddedRedisTest {
+
+    private static final long MINUTE = 60;
+    private static final long HOUR = 3600;
+
+    @Autowired
+    private TrendingRanking trendingRanking;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("TR:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    // ── 구간 · 버킷 ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("집계 구간 - 요청 파라미터로 조회, 지원하지 않는 값은 INVALID_INPUT(400)")
+    void trendingWindow_From() {
+        assertThat(TrendingWindow.from("1h")).isEqualTo(TrendingWindow.ONE_HOUR);
+        assertThat(TrendingWindow.from("7d")).isEqualTo(TrendingWindow.SEVEN_DAYS);
+
+        assertThatThrownBy(() -> TrendingWindow.from("2h"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT)
+                .extracting(e -> ((CustomException) e).getErrorCode().getHttpStatus())
+                .isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("버킷 보관 기간 - 버킷 크기별 가장 긴 구간 + 버킷 하나")
+    void retention_ByBucketSize() {
+        assertThat(TrendingRanking.RETENTION).containsOnlyKeys(MINUTE, HOUR);
+        assertThat(TrendingRanking.RETENTION.get(MINUTE)).isEqualTo(Duration.ofMinutes(61));
+        assertThat(TrendingRanking.RETENTION.get(HOUR)).isEqualTo(Duration.ofHours(169));
+    }
+
+    @Test
+    @DisplayName("주문 반영 - 버킷 크기별 현재 버킷에 수량 누적, 보관 기간만큼 만료 설정")
+    void onOrderPlaced_IncrementsCurrentBuckets() {
+        // given
+        long before = Instant.now().getEpochSecond();
+
+        // when
+        trendingRanking.onOrderPlaced(placed(List.of(new OrderedProduct(7L, 1L, 2), new OrderedProduct(8L, 1L, 1))));
+        trendingRanking.onOrderPlaced(placed(List.of(new OrderedProduct(7L, 1L, 3))));
+
+        // then: 분 경계를 넘었을 수 있으므로 버킷 번호는 호출 전 시각 이후의 것
+        Set<String> minuteKeys = redisTemplate.keys("TR:" + MINUTE + ":*");
+        Set<String> hourKeys = redisTemplate.keys("TR:" + HOUR + ":*");
+        assertThat(minuteKeys).isNotEmpty().allSatisfy(key ->
+                assertThat(bucketOf(key)).isGreaterThanOrEqualTo(before / MINUTE));
+        assertThat(hourKeys).isNotEmpty();
+
+        assertThat(sumScore(minuteKeys, "7")).isEqualTo(5.0);
+        assertThat(sumScore(hourKeys, "7")).isEqualTo(5.0);
+        assertThat(sumScore(hourKeys, "8")).isEqualTo(1.0);
+
+        String hourKey = hourKeys.iterator().next();
+        assertThat(redisTemplate.getExpire(hourKey)).isBetween(
+                Duration.ofHours(168).toSeconds(), Duration.ofHours(169).toSeconds());
+    }
+
+    // ── 합산 · 스냅샷 ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("구간 합산 - 구간 안의 버킷만 ZUNIONSTORE로 합산해 주문 수량순 스냅샷 생성")
+    void refresh_UnionsBucketsInWindow() {
+        // given: 1분 버킷 — 1분 전(구간 안), 30분 전(구간 안), 70분 전(구간 밖)
+        long minute = Instant.now().getEpochSecond() / MINUTE;
+        addScore(TrendingRanking.bucketKey(MINUTE, minute - 1), 101L, 2);
+        addScore(TrendingRanking.bucketKey(MINUTE, minute - 30), 101L, 3);
+        addScore(TrendingRanking.bucketKey(MINUTE, minute - 30), 102L, 4);
+        addScore(TrendingRanking.bucketKey(MINUTE, minute - 70), 103L, 100);
+
+        // 1시간 버킷 — 2시간 전(24h 안), 30시간 전(24h 밖, 7d 안)
+        long hour = Instant.now().getEpochSecond() / HOUR;
+        addScore(TrendingRanking.bucketKey(HOUR, hour - 2), 101L, 1);
+        addScore(TrendingRanking.bucketKey(HOUR, hour - 30), 103L, 10);
+
+        // when
+        trendingRanking.refresh();
+
+        // then
+        assertThat(trendingRanking.top(TrendingWindow.ONE_HOUR, 10))
+                .containsExactly(new RankedProduct(101L, 5), new RankedProduct(102L, 4));
+        assertThat(trendingRanking.top(TrendingWindow.ONE_DAY, 10))
+                .containsExactly(new RankedProduct(101L, 1));
+        assertThat(trendingRanking.top(TrendingWindow.SEVEN_DAYS, 10))
+                .containsExactly(new RankedProduct(103L, 10), new RankedProduct(101L, 1));
+    }
+
+    @Test
+    @DisplayName("스냅샷 - 구간별 최대 SNAPSHOT_SIZE건만 보관, 조회는 요청 건수로 자름")
+    void refresh_TruncatesSnapshot() {
+        // given: 현재 버킷에 SNAPSHOT_SIZE + 20개 상품
+        String key = TrendingRanking.bucketKey(MINUTE, Instant.now().getEpochSecond() / MINUTE);
+        int products = TrendingRanking.SNAPSHOT_SIZE + 20;
+        for (long productId = 1; productId <= products; productId++) {
+            addScore(key, productId, productId);
+        }
+
+        // when
+        trendingRanking.refresh();
+
+        // then
+        List<RankedProduct> all = trendingRanking.top(TrendingWindow.ONE_HOUR, products);
+        assertThat(all).hasSize(TrendingRanking.SNAPSHOT_SIZE);
+        assertThat(all.get(0)).isEqualTo(new RankedProduct((long) products, products));
+        assertThat(all).extracting(RankedProduct::soldCount).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+
+        assertThat(trendingRanking.top(TrendingWindow.ONE_HOUR, 5)).hasSize(5);
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private OrderPlacedEvent placed(List<OrderedProduct> products) {
+        return new OrderPlacedEvent(1L, products);
+    }
+
+    private void addScore(String key, Long productId, double quantity) {
+        redisTemplate.opsForZSet().incrementScore(key, productId.toString(), quantity);
+    }
+
+    private double sumScore(Set<String> keys, String member) {
+        double sum = 0;
+        for (String key : keys) {
+            Double score = redisTemplate.opsForZSet().score(key, member);
+            sum += score != null ? score : 0;
+        }
+        return sum;
+    }
+
+    private static long bucketOf(String key) {
+        return Long.parseLong(key.substring(key.lastIndexOf(':') + 1));
+    }
+}
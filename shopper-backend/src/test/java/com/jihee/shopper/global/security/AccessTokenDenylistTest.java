@@ -0,0 +1,131 @@
+package com.jihee.shopper.global.security;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Access Token 폐기 목록 테스트 (Redis Sorted Set + 서버별 Bloom filter).
+ *
+ * <p>embedded-redis를 임의 포트로 띄우고, 같은 Redis를 쓰는 두 서버를 인스턴스 두 개로 흉내 낸다.
+ */
+class AccessTokenDenylistTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenDenylistTest.class);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private AccessTokenDenylist nodeA;
+    private AccessTokenDenylist nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(AccessTokenDenylist.KEY);
+        nodeA = new AccessTokenDenylist(redisTemplate);
+        nodeB = new AccessTokenDenylist(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("폐기 - 폐기한 서버는 즉시 거부, 다른 서버는 동기화 후 거부")
+    void revoke_PropagatesOnSync() {
+        // given
+        String jti = UUID.randomUUID().toString();
+
+        // when
+        nodeA.revoke(jti, System.currentTimeMillis() + 60_000);
+
+        // then
+        assertThat(nodeA.isRevoked(jti)).isTrue();
+        assertThat(nodeB.isRevoked(jti)).isFalse();
+
+        nodeB.sync();
+        assertThat(nodeB.isRevoked(jti)).isTrue();
+        assertThat(nodeA.isRevoked(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화 - 만료 시각이 지난 jti는 목록에서 정리")
+    void sync_RemovesExpired() {
+        // given
+        String expired = UUID.randomUUID().toString();
+        String active = UUID.randomUUID().toString();
+        nodeA.revoke(expired, System.currentTimeMillis() - 1);
+        nodeA.revoke(active, System.currentTimeMillis() + 60_000);
+
+        // when
+        nodeB.sync();
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score(AccessTokenDenylist.KEY, expired)).isNull();
+        assertThat(nodeB.isRevoked(expired)).isFalse();
+        assertThat(nodeB.isRevoked(active)).isTrue();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("Bloom filter - 넣은 값은 항상 포함, 넣지 않은 값의 오탐률은 목표(1%) 근처")
+    void bloomFilter_FalsePositiveRate() {
+        // given
+        int inserted = 10_000;
+        int probes = 100_000;
+        BloomFilter filter = BloomFilter.create(inserted, 0.01);
+        String[] values = new String[inserted];
+        for (int i = 0; i < inserted; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.add(values[i]);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (String value : values) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+        log.info("[BloomFilter] false positive rate: {}%", String.format("%.3f", falsePositives * 100.0 / probes));
+        assertThat(falsePositives).isLessThan(probes / 50);
+    }
+}
@@ -0,0 +1,180 @@
+package com.jihee.shopper.global.security;
+
+import com.jihee.shopper.domain.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.security.PublicKey;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JwtFilter 인증 경로 마이크로벤치마크 (기존 이중 파싱 vs 1회 파싱 vs 검증 캐시).
+ *
+ * <p>같은 Access Token으로 반복 요청할 때 요청당 평균 처리 시간을 측정해 출력한다.
+ * 애플리케이션 컨텍스트 없이 필터·JwtProvider만 직접 생성하고, 서명 키 게시용으로 내장 Redis를 띄운다.
+ */
+class JwtFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtFilterBenchmarkTest.class);
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private JwtProvider jwtProvider;
+    private PublicKey publicKey;
+    private JwtAuthenticationCache cache;
+    private JwtFilter filter;
+    private String token;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(redisTemplate, JwtSigningAlgorithm.EdDSA, 24, 604_800_000, 0);
+        keyRing.initialize();
+        jwtProvider = new JwtProvider(keyRing, "", 900_000, 604_800_000);
+        publicKey = keyRing.verificationKey(keyRing.signingKey().kid());
+
+        cache = new JwtAuthenticationCache();
+        filter = new JwtFilter(jwtProvider, cache, new AccessTokenDenylist(redisTemplate));
+        token = jwtProvider.generateAccessToken(1L, "user@example.com", UserRole.ROLE_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("필터 인증 - 검증 캐시 경로가 같은 인증 정보를 설정하고 요청당 시간을 출력")
+    void authenticate_LegacyVsSingleParseVsCache() throws Exception {
+        // 기존 경로: validateToken + getClaims, 호출마다 JwtParser 생성
+        double legacy = measure(() -> {
+            Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token);
+            Claims claims = Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload();
+            claims.getSubject();
+        });
+
+        // 1회 파싱: 재사용 JwtParser로 검증과 파싱을 한 번에
+        double singleParse = measure(() -> jwtProvider.parseClaims(token).orElseThrow().getSubject());
+
+        // 필터 전체 (검증 캐시 적중)
+        double cached = measure(this::doFilter);
+
+        log.info("[JwtFilter] legacy (2 parses, new parser) : {} ns/op", String.format("%,.0f", legacy));
+        log.info("[JwtFilter] single parse (shared parser) : {} ns/op", String.format("%,.0f", singleParse));
+        log.info("[JwtFilter] filter with cache hit        : {} ns/op", String.format("%,.0f", cached));
+
+        // 캐시 경로도 토큰 클레임과 같은 인증 정보를 설정한다
+        doFilter();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("user@example.com");
+        assertThat(principal.getRole()).isEqualTo(UserRole.ROLE_USER);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터 인증 - 서명이 잘못된 토큰은 인증하지 않고 캐시하지도 않음")
+    void authenticate_InvalidToken_NotCached() throws Exception {
+        // given
+        String forged = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + forged);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 토큰 만료 시각이 지난 항목은 반환하지 않음")
+    void cache_ExpiredToken_NotReturned() {
+        // given
+        CustomUserDetails userDetails = new CustomUserDetails(1L, "user@example.com", UserRole.ROLE_USER, "jti-1");
+
+        // when
+        cache.put(token, userDetails, new Date(System.currentTimeMillis() - 1));
+
+        // then
+        assertThat(cache.get(token)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private void doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private double measure(ThrowingRunnable operation) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+            SecurityContextHolder.clearContext();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+            SecurityContextHolder.clearContext();
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,199 @@
+package com.jihee.shopper.global.security;
+
+import com.jihee.shopper.domain.user.entity.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JwtKeyRing + JwtProvider 비대칭 서명 테스트 (내장 Redis, 서버 2대를 키 링 2개로 흉내 냄).
+ */
+class JwtKeyRingTest {
+
+    private static final String LEGACY_SECRET = "testsecrettestsecrettestsecrettestsecrettestsecrettestsecret";
+    private static final long ACCESS_EXPIRY = 900_000;
+    private static final long REFRESH_EXPIRY = 604_800_000;
+    private static final long NO_PUBLISH_LEAD = 0;
+    private static final long PUBLISH_LEAD_SECONDS = 360;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private JwtKeyRing ringA;
+    private JwtKeyRing ringB;
+    private JwtProvider nodeA;
+    private JwtProvider nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(JwtKeyRing.KEY);
+        ringA = new JwtKeyRing(redisTemplate, JwtSigningAlgorithm.EdDSA, 24, REFRESH_EXPIRY, NO_PUBLISH_LEAD);
+        ringB = new JwtKeyRing(redisTemplate, JwtSigningAlgorithm.RS256, 24, REFRESH_EXPIRY, NO_PUBLISH_LEAD);
+        ringA.initialize();
+        ringB.initialize();
+        nodeA = new JwtProvider(ringA, LEGACY_SECRET, ACCESS_EXPIRY, REFRESH_EXPIRY);
+        nodeB = new JwtProvider(ringB, LEGACY_SECRET, ACCESS_EXPIRY, REFRESH_EXPIRY);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발급한 토큰 - 공개 키 목록으로 검증 성공")
+    void verify_TokenFromOtherNode_Valid() {
+        // given
+        String fromA = nodeA.generateAccessToken(1L, "a@example.com", UserRole.ROLE_USER);
+        String fromB = nodeB.generateAccessToken(2L, "b@example.com", UserRole.ROLE_USER);
+
+        // when & then
+        assertThat(nodeB.getUserId(fromA)).isEqualTo(1L);
+        assertThat(nodeA.getUserId(fromB)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("서명 키 교체 - 교체 전 발급한 토큰도 계속 검증되고, 다른 서버는 모르는 kid에서 다시 읽음")
+    void rotate_PreviousTokensStillValid() throws InterruptedException {
+        // given
+        String beforeRotation = nodeA.generateRefreshToken(1L, "phone");
+        String oldKid = ringA.signingKey().kid();
+
+        // when: 다음 키 게시 → (게시 선행 시간 0) 다음 갱신에서 서명 키로 교체
+        ringA.rotate();
+        ringA.refresh();
+        String afterRotation = nodeA.generateRefreshToken(1L, "phone");
+        Thread.sleep(1_100); // 모르는 kid 재조회 간격
+
+        // then
+        assertThat(ringA.signingKey().kid()).isNotEqualTo(oldKid);
+        assertThat(nodeA.validateToken(beforeRotation)).isTrue();
+        assertThat(nodeB.validateToken(beforeRotation)).isTrue();
+        assertThat(nodeB.validateToken(afterRotation)).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명 키 교체 - 다음 키는 게시 선행 시간 동안 공개 키만 게시되고 서명에는 쓰지 않음")
+    void rotate_NextKeyPublishedBeforeSigning() {
+        // given
+        JwtKeyRing ring = new JwtKeyRing(redisTemplate, JwtSigningAlgorithm.EdDSA, 24, REFRESH_EXPIRY,
+                PUBLISH_LEAD_SECONDS);
+        ring.initialize();
+        String currentKid = ring.signingKey().kid();
+        ringB.reload();
+        int publishedBefore = countKids(ringB.jwks());
+
+        // when
+        ring.rotate();
+        ring.refresh();
+        ringB.reload();
+
+        // then: 다른 서버의 JWKS에는 이미 있지만, 서명 키는 그대로
+        assertThat(ring.signingKey().kid()).isEqualTo(currentKid);
+        assertThat(countKids(ringB.jwks())).isEqualTo(publishedBefore + 1);
+        assertThat(countKids(ring.jwks())).isEqualTo(publishedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("목록에 없는 kid로 서명한 토큰 - 검증 실패")
+    void verify_UnknownKid_Invalid() {
+        // given: 게시하지 않은 키 쌍으로 서명
+        var foreign = JwtSigningAlgorithm.EdDSA.generateKeyPair();
+        String token = Jwts.builder()
+                .header().keyId("unknown").and()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRY))
+                .signWith(foreign.getPrivate(), Jwts.SIG.EdDSA)
+                .compact();
+
+        // when & then
+        assertThat(nodeA.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("kid 없는 이전 HS256 토큰 - jwt.secret이 있을 때만 검증 성공")
+    void verify_LegacyHs256Token() {
+        // given
+        String legacy = Jwts.builder()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRY))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        JwtProvider withoutSecret = new JwtProvider(ringA, "", ACCESS_EXPIRY, REFRESH_EXPIRY);
+
+        // when & then
+        assertThat(nodeA.validateToken(legacy)).isTrue();
+        assertThat(withoutSecret.validateToken(legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("JWKS - 게시된 모든 서버의 공개 키를 kid와 함께 포함")
+    void jwks_ContainsAllPublishedKeys() {
+        // when
+        ringA.reload();
+        String jwks = ringA.jwks();
+
+        // then
+        assertThat(jwks)
+                .contains("\"kid\":\"" + ringA.signingKey().kid() + "\"")
+                .contains("\"kid\":\"" + ringB.signingKey().kid() + "\"")
+                .contains("\"kty\":\"OKP\"", "\"crv\":\"Ed25519\"")
+                .contains("\"kty\":\"RSA\"", "\"alg\":\"RS256\"");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 공개 키 항목 - 해당 항목만 건너뛰고 나머지 키는 갱신")
+    void reload_MalformedEntries_Skipped() {
+        // given: 구분자 부족, 만료 시각 숫자 아님, 알 수 없는 알고리즘
+        redisTemplate.opsForHash().put(JwtKeyRing.KEY, "broken-1", "EdDSA|abc");
+        redisTemplate.opsForHash().put(JwtKeyRing.KEY, "broken-2", "EdDSA|abc|not-a-number");
+        redisTemplate.opsForHash().put(JwtKeyRing.KEY, "broken-3", "XX999|abc|" + Long.MAX_VALUE);
+
+        // when
+        ringA.reload();
+
+        // then
+        assertThat(ringA.jwks())
+                .contains("\"kid\":\"" + ringB.signingKey().kid() + "\"")
+                .doesNotContain("broken-");
+        assertThat(nodeA.validateToken(nodeB.generateAccessToken(2L, "b@example.com", UserRole.ROLE_USER))).isTrue();
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    private static int countKids(String jwks) {
+        return jwks.split("\"kid\":", -1).length - 1;
+    }
+}
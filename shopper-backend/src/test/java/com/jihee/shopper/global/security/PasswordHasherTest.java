@@ -0,0 +1,125 @@
+package com.jihee.shopper.global.security;
+
+import com.jihee.shopper.global.exception.CustomException;
+import com.jihee.shopper.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PasswordHasher 단위 테스트 (cost 변경 감지, 대기열 초과·시간 초과 거절).
+ */
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        hasher.stop();
+    }
+
+    @Test
+    @DisplayName("재해시 판단 - 저장된 해시의 cost가 설정값과 다를 때만 true")
+    void needsRehash_ComparesCost() {
+        // given
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 4, 1, 8, 3_000);
+        String current = hasher.encode("password1234");
+        String weaker = new BCryptPasswordEncoder(5).encode("password1234");
+
+        // when & then
+        assertThat(hasher.matches("password1234", current)).isTrue();
+        assertThat(hasher.needsRehash(current)).isFalse();
+        assertThat(hasher.needsRehash(weaker)).isTrue();
+        assertThat(hasher.needsRehash(null)).isFalse();
+        assertThat(hasher.needsRehash("plain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열 초과 - 스레드·대기열이 모두 찬 뒤의 요청은 AUTH_BUSY로 즉시 거절")
+    void encode_QueueFull_RejectedImmediately() throws Exception {
+        // given: 해시 1건을 붙잡아 두는 인코더 (스레드 1 + 대기열 1)
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(release), 10, 1, 1, 10_000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        List<Future<String>> accepted = new ArrayList<>();
+        try {
+            accepted.add(callers.submit(() -> hasher.encode("first")));
+            Thread.sleep(100);
+            accepted.add(callers.submit(() -> hasher.encode("second")));
+            while (hasher.queuedTasks() < 1) {
+                Thread.sleep(10);
+            }
+
+            // when & then
+            assertThatThrownBy(() -> hasher.encode("third"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.AUTH_BUSY);
+
+            release.countDown();
+            for (Future<String> future : accepted) {
+                assertThat(future.get()).startsWith("hashed:");
+            }
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 초과 - 제한 시간 안에 끝나지 않으면 AUTH_BUSY로 거절")
+    void matches_Timeout_Rejected() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(release), 10, 1, 8, 100);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> hasher.matches("password", "hashed:password"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.AUTH_BUSY);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // ── 내부 공용 ──────────────────────────────────────────────────────────
+
+    /** release가 열릴 때까지 해시 계산을 멈추는 인코더 */
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+
+            private void await() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.jihee.shopper.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 실제 Redis 동작(Lua 스크립트, Sorted Set, Pub/Sub)이 필요한 통합 테스트의 기반 클래스.
+ *
+ * <p>내장 Redis를 JVM당 한 번 빈 포트에 띄우고 {@code spring.data.redis.port}를 그 포트로 바꾼다.
+ * 상속한 테스트 클래스들은 같은 설정이므로 애플리케이션 컨텍스트를 공유하며, 서버는 JVM 종료 시 내린다.
+ * 키는 테스트끼리 공유되므로 각 테스트는 자신이 만든 키만 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class EmbeddedRedisTest {
+
+    private static final int REDIS_PORT = startRedis();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    private static int startRedis() {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        RedisServer server = new RedisServer(port);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "embedded-redis-stop"));
+        return port;
+    }
+}